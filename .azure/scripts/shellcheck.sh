@@ -11,7 +11,8 @@ docker-images/kafka/cruise-control-scripts/*.sh
 docker-images/kafka/stunnel-scripts/*.sh
 docker-images/kafka/exporter-scripts/*.sh
 docker-images/kafka/s2i-scripts/*
-docker-images/jmxtrans/*.sh"
+docker-images/jmxtrans/*.sh
+benchmarks/*.sh"
 
 for SCRIPTS in $SCRIPT_DIRS; do
     shellcheck -a -P $(dirname "$SCRIPTS") -x "$SCRIPTS"
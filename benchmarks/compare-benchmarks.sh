@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+set -e
+
+# Compares two JMH result files created by run-benchmarks.sh. For each benchmark (and each combination of its
+# parameters) it prints the baseline and the new score and the relative change. Benchmarks which got slower by more
+# than the threshold (in percent, 10 by default) are marked as regressions and make the script fail.
+
+if [ $# -lt 2 ]; then
+    echo "Usage: $0 <baseline.json> <new.json> [threshold-percent]" 1>&2
+    exit 1
+fi
+
+BASELINE=$1
+NEW=$2
+THRESHOLD=${3:-10}
+
+RESULT=$(jq -r -n --slurpfile baseline "${BASELINE}" --slurpfile new "${NEW}" --argjson threshold "${THRESHOLD}" '
+    def key: .benchmark + (if .params then " " + (.params | to_entries | map(.key + "=" + .value) | join(",")) else "" end);
+    def scores: map({key: key, value: .primaryMetric}) | from_entries;
+
+    ($baseline[0] | scores) as $b
+    | ($new[0] | scores) as $n
+    | ["BENCHMARK", "BASELINE", "NEW", "UNIT", "CHANGE", ""],
+      ($n | keys[] as $k
+        | select($b[$k] != null)
+        | ($b[$k].score) as $old
+        | ($n[$k].score) as $current
+        # All benchmarks measure the average time, so a higher score is worse
+        | (($current - $old) / $old * 100) as $change
+        | [$k,
+           ($old * 1000 | round / 1000 | tostring),
+           ($current * 1000 | round / 1000 | tostring),
+           $n[$k].scoreUnit,
+           (($change * 10 | round / 10 | tostring) + "%"),
+           (if $change > $threshold then "REGRESSION" else "" end)])
+    | @tsv')
+
+if command -v column > /dev/null; then
+    column -t -s $'\t' <<< "${RESULT}"
+else
+    echo "${RESULT}"
+fi
+
+if grep -q "REGRESSION" <<< "${RESULT}"; then
+    exit 1
+fi
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+set -e
+
+# Builds and runs the JMH benchmarks and stores the results as JSON in benchmarks/results/<commit>.json.
+# When a Git reference is given with --ref, the benchmarks are built and run from that commit (checked out into a
+# temporary Git worktree), so that the results of different commits can be compared with compare-benchmarks.sh.
+# All other arguments are passed to JMH (for example a regular expression selecting the benchmarks to run).
+
+usage() {
+    echo "Usage: $0 [--ref <git-ref>] [JMH options] [benchmark regexp]" 1>&2
+    exit 1
+}
+
+BENCHMARKS_DIR=$(cd "$(dirname "$0")" && pwd)
+SOURCE_DIR=$(cd "${BENCHMARKS_DIR}/.." && pwd)
+RESULTS_DIR="${BENCHMARKS_DIR}/results"
+WORKTREE=""
+
+cleanup() {
+    if [ -n "${WORKTREE}" ]; then
+        git -C "${SOURCE_DIR}" worktree remove --force "${WORKTREE}"
+    fi
+}
+trap cleanup EXIT
+
+if [ "$1" == "--ref" ]; then
+    [ -n "$2" ] || usage
+    REF=$2
+    shift 2
+
+    WORKTREE=$(mktemp -d)
+    git -C "${SOURCE_DIR}" worktree add --detach "${WORKTREE}" "${REF}"
+    SOURCE_DIR=${WORKTREE}
+fi
+
+COMMIT=$(git -C "${SOURCE_DIR}" rev-parse --short HEAD)
+mkdir -p "${RESULTS_DIR}"
+
+echo "Building benchmarks from commit ${COMMIT} ..."
+# shellcheck disable=SC2086
+mvn ${MVN_ARGS} -f "${SOURCE_DIR}/pom.xml" package -Pbenchmarks -pl benchmarks -am -DskipTests -DskipITs
+
+echo "Running benchmarks from commit ${COMMIT} ..."
+java -jar "${SOURCE_DIR}/benchmarks/target/benchmarks.jar" -rf json -rff "${RESULTS_DIR}/${COMMIT}.json" "$@"
+
+echo "Results stored in ${RESULTS_DIR}/${COMMIT}.json"
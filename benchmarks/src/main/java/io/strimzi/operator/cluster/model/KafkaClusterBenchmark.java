@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.operator.common.MetricsAndLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Measures the generation of the Kafka cluster model and of the main Kubernetes resources from a Kafka custom
+ * resource, as done by every reconciliation of the Kafka cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaClusterBenchmark {
+    @Param({"3", "100"})
+    public int brokers;
+
+    private KafkaVersion.Lookup versions;
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+    private Set<String> advertisedHostnames;
+    private Set<String> advertisedPorts;
+
+    @Setup
+    public void setup() {
+        versions = KafkaFixtures.versions();
+        kafka = KafkaFixtures.kafka(brokers, versions.defaultVersion());
+        kafkaCluster = KafkaCluster.fromCrd(kafka, versions);
+
+        advertisedHostnames = new HashSet<>();
+        advertisedPorts = new HashSet<>();
+        for (GenericKafkaListener listener : kafkaCluster.getListeners()) {
+            for (int pod = 0; pod < brokers; pod++) {
+                advertisedHostnames.add(kafkaCluster.getAdvertisedHostname(listener, pod, "node-" + pod + ".example.com"));
+                advertisedPorts.add(kafkaCluster.getAdvertisedPort(listener, pod, 30000 + pod));
+            }
+        }
+    }
+
+    /**
+     * Creation of the cluster model from the custom resource
+     *
+     * @return  The cluster model
+     */
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(kafka, versions);
+    }
+
+    /**
+     * Generation of the StatefulSet with the brokers
+     *
+     * @return  The StatefulSet
+     */
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return kafkaCluster.generateStatefulSet(false, ImagePullPolicy.IFNOTPRESENT, emptyList());
+    }
+
+    /**
+     * Generation of the ConfigMap with the broker configuration
+     *
+     * @return  The ConfigMap
+     */
+    @Benchmark
+    public ConfigMap generateAncillaryConfigMap() {
+        return kafkaCluster.generateAncillaryConfigMap(new MetricsAndLogging(null, null), advertisedHostnames, advertisedPorts, false);
+    }
+}
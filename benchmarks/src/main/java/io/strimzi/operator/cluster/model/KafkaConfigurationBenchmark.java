@@ -0,0 +1,66 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of validating the Kafka broker configuration from the {@code spec.kafka.config} section of a
+ * single Kafka custom resource against the config model of the Kafka version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaConfigurationBenchmark {
+    private KafkaVersion kafkaVersion;
+    private Map<String, Object> config;
+
+    @Setup
+    public void setup() {
+        kafkaVersion = KafkaFixtures.versions().defaultVersion();
+        config = KafkaFixtures.brokerConfig(kafkaVersion);
+    }
+
+    /**
+     * Validation of the configuration as done when creating the Kafka cluster model
+     *
+     * @return  The validation errors
+     */
+    @Benchmark
+    public List<String> validate() {
+        return new KafkaConfiguration(config.entrySet()).validate(kafkaVersion);
+    }
+
+    /**
+     * Validation of the configuration followed by splitting it by the scopes and finding the unknown options
+     *
+     * @param blackhole Blackhole consuming the results
+     */
+    @Benchmark
+    public void validateAndClassify(Blackhole blackhole) {
+        KafkaConfiguration configuration = new KafkaConfiguration(config.entrySet());
+        blackhole.consume(configuration.validate(kafkaVersion));
+        blackhole.consume(configuration.perBrokerConfigs(kafkaVersion));
+        blackhole.consume(configuration.clusterWideConfigs(kafkaVersion));
+        blackhole.consume(configuration.unknownConfigs(kafkaVersion));
+    }
+}
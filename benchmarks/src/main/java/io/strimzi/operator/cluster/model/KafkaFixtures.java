@@ -0,0 +1,129 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.Rack;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Realistic Kafka custom resources and models shared by the benchmarks
+ */
+public class KafkaFixtures {
+    /**
+     * Number of brokers of the large cluster used by the benchmarks
+     */
+    public static final int BROKERS = 100;
+
+    public static final String NAMESPACE = "benchmark";
+    public static final String NAME = "my-cluster";
+
+    private KafkaFixtures() { }
+
+    /**
+     * @return  Kafka version lookup based on the Kafka versions supported by the operator
+     */
+    public static KafkaVersion.Lookup versions() {
+        return new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap(), emptyMap());
+    }
+
+    /**
+     * Creates the {@code spec.kafka.config} section of a typical production cluster
+     *
+     * @param kafkaVersion  Kafka version used for the protocol and message format versions
+     *
+     * @return  The Kafka broker configuration
+     */
+    public static Map<String, Object> brokerConfig(KafkaVersion kafkaVersion) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("auto.create.topics.enable", "false");
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("num.partitions", 12);
+        config.put("num.network.threads", 8);
+        config.put("num.io.threads", 16);
+        config.put("log.retention.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("log.cleanup.policy", "delete");
+        config.put("log.message.format.version", kafkaVersion.messageVersion());
+        config.put("inter.broker.protocol.version", kafkaVersion.protocolVersion());
+        config.put("compression.type", "producer");
+        config.put("message.max.bytes", 1048588);
+        config.put("replica.fetch.max.bytes", 1048576);
+        config.put("unclean.leader.election.enable", false);
+        config.put("ssl.cipher.suites", "TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384,TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256");
+        config.put("ssl.enabled.protocols", "TLSv1.2,TLSv1.3");
+        config.put("custom.plugin.config", "value");
+        return config;
+    }
+
+    /**
+     * Creates a Kafka custom resource with internal and external listeners, rack awareness and JBOD storage
+     *
+     * @param replicas      Number of brokers
+     * @param kafkaVersion  Kafka version
+     *
+     * @return  The Kafka custom resource
+     */
+    public static Kafka kafka(int replicas, KafkaVersion kafkaVersion) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .addToLabels("app", "benchmark")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withVersion(kafkaVersion.version())
+                        .withImage("quay.io/strimzi/kafka:latest-kafka-" + kafkaVersion.version())
+                        .withNewListeners()
+                            .addNewGenericKafkaListener()
+                                .withName("plain")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(false)
+                            .endGenericKafkaListener()
+                            .addNewGenericKafkaListener()
+                                .withName("tls")
+                                .withPort(9093)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                            .endGenericKafkaListener()
+                            .addNewGenericKafkaListener()
+                                .withName("external")
+                                .withPort(9094)
+                                .withType(KafkaListenerType.NODEPORT)
+                                .withTls(true)
+                            .endGenericKafkaListener()
+                        .endListeners()
+                        .withRack(new Rack("topology.kubernetes.io/zone"))
+                        .withConfig(brokerConfig(kafkaVersion))
+                        .withStorage(new JbodStorageBuilder().withVolumes(
+                                new PersistentClaimStorageBuilder().withDeleteClaim(false).withId(0).withSize("1000Gi").build(),
+                                new PersistentClaimStorageBuilder().withDeleteClaim(false).withId(1).withSize("1000Gi").build())
+                                .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(5)
+                        .withNewPersistentClaimStorage()
+                            .withSize("100Gi")
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Kafka StatefulSets as they are generated by the operator and as they are returned by the Kubernetes API server,
+ * shared by the diff benchmarks
+ */
+public class StatefulSetFixtures {
+    private StatefulSetFixtures() { }
+
+    /**
+     * @param brokers   Number of brokers
+     *
+     * @return  The StatefulSet generated by the operator for a Kafka cluster with given number of brokers
+     */
+    public static StatefulSet desired(int brokers) {
+        KafkaVersion.Lookup versions = KafkaFixtures.versions();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(KafkaFixtures.kafka(brokers, versions.defaultVersion()), versions);
+        return kafkaCluster.generateStatefulSet(false, ImagePullPolicy.IFNOTPRESENT, emptyList());
+    }
+
+    /**
+     * Adds the fields set by the Kubernetes API server to the StatefulSet
+     *
+     * @param desired   The StatefulSet generated by the operator
+     *
+     * @return  The StatefulSet as it would be returned by the Kubernetes API server
+     */
+    public static StatefulSet current(StatefulSet desired) {
+        return new StatefulSetBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("123456789")
+                    .withUid("1c3c1b7a-6e1c-4a3f-8a0e-5c1bfe7a2f10")
+                    .withGeneration(42L)
+                    .withCreationTimestamp("2021-01-01T00:00:00Z")
+                .endMetadata()
+                .editSpec()
+                    .withRevisionHistoryLimit(10)
+                .endSpec()
+                .withNewStatus()
+                    .withReplicas(desired.getSpec().getReplicas())
+                    .withReadyReplicas(desired.getSpec().getReplicas())
+                    .withCurrentReplicas(desired.getSpec().getReplicas())
+                    .withUpdatedReplicas(desired.getSpec().getReplicas())
+                    .withObservedGeneration(42L)
+                    .withCurrentRevision(desired.getMetadata().getName() + "-5d8c7b9f4")
+                    .withUpdateRevision(desired.getMetadata().getName() + "-5d8c7b9f4")
+                .endStatus()
+                .build();
+    }
+
+    /**
+     * @param desired   The StatefulSet generated by the operator
+     *
+     * @return  Copy of the StatefulSet with a different container image (which requires a rolling update)
+     */
+    public static StatefulSet withChangedImage(StatefulSet desired) {
+        return new StatefulSetBuilder(desired)
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImage(desired.getSpec().getTemplate().getSpec().getContainers().get(0).getImage() + "-changed")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+    }
+}
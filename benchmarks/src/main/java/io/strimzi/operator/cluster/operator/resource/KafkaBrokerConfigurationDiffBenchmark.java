@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaFixtures;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Measures the comparison of the current and desired configuration of all brokers of a large Kafka cluster, as done
+ * when deciding whether the brokers can be reconfigured dynamically or have to be rolled
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    private KafkaVersion kafkaVersion;
+    private String desired;
+    private String changed;
+    private List<Config> current;
+
+    @Setup
+    public void setup() {
+        KafkaVersion.Lookup versions = KafkaFixtures.versions();
+        kafkaVersion = versions.defaultVersion();
+
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(KafkaFixtures.kafka(KafkaFixtures.BROKERS, kafkaVersion), versions);
+        kafkaCluster.generateAncillaryConfigMap(new MetricsAndLogging(null, null), emptySet(), emptySet(), false);
+        desired = kafkaCluster.getBrokersConfiguration();
+        changed = desired.replace("log.retention.hours=168", "log.retention.hours=72");
+
+        current = new ArrayList<>(KafkaFixtures.BROKERS);
+        for (int broker = 0; broker < KafkaFixtures.BROKERS; broker++) {
+            current.add(brokerConfig(broker));
+        }
+    }
+
+    /**
+     * Creates the configuration of the broker as it would be described by the Kafka Admin API: all known options
+     * with the options from the desired configuration set and the other options using their default values.
+     *
+     * @param broker    ID of the broker
+     *
+     * @return  The current broker configuration
+     */
+    @SuppressWarnings("deprecation")
+    private Config brokerConfig(int broker) {
+        Map<String, String> configured = new OrderedProperties()
+                .addStringPairs(desired.replace("${STRIMZI_BROKER_ID}", Integer.toString(broker)))
+                .asMap();
+
+        List<ConfigEntry> entries = new ArrayList<>();
+        for (String name : KafkaConfiguration.readConfigModel(kafkaVersion).keySet()) {
+            if (configured.containsKey(name)) {
+                entries.add(new ConfigEntry(name, configured.get(name), false, false, false));
+            } else {
+                entries.add(new ConfigEntry(name, "default", true, false, false));
+            }
+        }
+
+        return new Config(entries);
+    }
+
+    /**
+     * Diff of all brokers when the configuration did not change
+     *
+     * @param blackhole Blackhole consuming the diffs
+     */
+    @Benchmark
+    public void unchanged(Blackhole blackhole) {
+        for (int broker = 0; broker < KafkaFixtures.BROKERS; broker++) {
+            blackhole.consume(new KafkaBrokerConfigurationDiff(current.get(broker), desired, kafkaVersion, broker));
+        }
+    }
+
+    /**
+     * Diff of all brokers when a dynamically updatable option changed
+     *
+     * @param blackhole Blackhole consuming the diffs
+     */
+    @Benchmark
+    public void changed(Blackhole blackhole) {
+        for (int broker = 0; broker < KafkaFixtures.BROKERS; broker++) {
+            blackhole.consume(new KafkaBrokerConfigurationDiff(current.get(broker), changed, kafkaVersion, broker));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.operator.cluster.model.KafkaFixtures;
+import io.strimzi.operator.cluster.model.StatefulSetFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the comparison of the current and desired Kafka StatefulSet done by every reconciliation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StatefulSetDiffBenchmark {
+    private StatefulSet current;
+    private StatefulSet desired;
+    private StatefulSet changed;
+
+    @Setup
+    public void setup() {
+        desired = StatefulSetFixtures.desired(KafkaFixtures.BROKERS);
+        current = StatefulSetFixtures.current(desired);
+        changed = StatefulSetFixtures.withChangedImage(desired);
+    }
+
+    /**
+     * Diff of a StatefulSet which did not change (the usual case of the periodic reconciliation)
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public StatefulSetDiff unchanged() {
+        return new StatefulSetDiff(current, desired);
+    }
+
+    /**
+     * Diff of a StatefulSet with a changed pod template
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public StatefulSetDiff changed() {
+        return new StatefulSetDiff(current, changed);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaFixtures;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.MetricsAndLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Measures parsing and writing of the Kafka broker configuration generated for a Kafka cluster
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderedPropertiesBenchmark {
+    private String configuration;
+    private OrderedProperties properties;
+
+    @Setup
+    public void setup() {
+        KafkaVersion.Lookup versions = KafkaFixtures.versions();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(KafkaFixtures.kafka(KafkaFixtures.BROKERS, versions.defaultVersion()), versions);
+        kafkaCluster.generateAncillaryConfigMap(new MetricsAndLogging(null, null), emptySet(), emptySet(), false);
+
+        configuration = kafkaCluster.getBrokersConfiguration();
+        properties = new OrderedProperties().addStringPairs(configuration);
+    }
+
+    /**
+     * Parsing of the broker configuration
+     *
+     * @return  The parsed configuration
+     */
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(configuration);
+    }
+
+    /**
+     * Writing of the broker configuration
+     *
+     * @return  The configuration as string
+     */
+    @Benchmark
+    public String write() {
+        return properties.asPairs();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.operator.cluster.model.KafkaFixtures;
+import io.strimzi.operator.cluster.model.StatefulSetFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generic JSON diff of whole resources used by the resource operators to decide whether a resource
+ * needs to be patched
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResourceDiffBenchmark {
+    private StatefulSet current;
+    private StatefulSet desired;
+    private StatefulSet changed;
+
+    @Setup
+    public void setup() {
+        desired = StatefulSetFixtures.desired(KafkaFixtures.BROKERS);
+        current = StatefulSetFixtures.current(desired);
+        changed = StatefulSetFixtures.withChangedImage(desired);
+    }
+
+    /**
+     * Diff of a resource which did not change
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public ResourceDiff<StatefulSet> unchanged() {
+        return new ResourceDiff<>("StatefulSet", KafkaFixtures.NAME, current, desired, AbstractResourceOperator.IGNORABLE_PATHS);
+    }
+
+    /**
+     * Diff of a changed resource
+     *
+     * @return  The diff
+     */
+    @Benchmark
+    public ResourceDiff<StatefulSet> changed() {
+        return new ResourceDiff<>("StatefulSet", KafkaFixtures.NAME, current, changed, AbstractResourceOperator.IGNORABLE_PATHS);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.model.Labels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+
+/**
+ * Measures the serialization of all topics of a large topic store: to and from the JSON stored by the Topic Operator
+ * and to and from the KafkaTopic custom resources
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TopicSerializationBenchmark {
+    /**
+     * Number of topics in the topic store
+     */
+    private static final int TOPICS = 50_000;
+
+    private final Labels labels = Labels.fromMap(singletonMap("strimzi.io/cluster", "my-cluster"));
+
+    private List<Topic> topics;
+    private List<byte[]> jsons;
+    private List<KafkaTopic> resources;
+
+    @Setup
+    public void setup() {
+        topics = new ArrayList<>(TOPICS);
+        jsons = new ArrayList<>(TOPICS);
+        resources = new ArrayList<>(TOPICS);
+
+        for (int i = 0; i < TOPICS; i++) {
+            Map<String, String> config = new HashMap<>(3);
+            config.put("retention.ms", Long.toString(7 * 24 * 3600_000L));
+            config.put("segment.bytes", "1073741824");
+            config.put("cleanup.policy", i % 10 == 0 ? "compact" : "delete");
+
+            Topic topic = new Topic.Builder("topic-" + i, 12, (short) 3, config).build();
+            topics.add(topic);
+            jsons.add(TopicSerialization.toJson(topic));
+            resources.add(TopicSerialization.toTopicResource(topic, labels));
+        }
+    }
+
+    /**
+     * Serialization of all topics to the JSON stored by the Topic Operator
+     *
+     * @param blackhole Blackhole consuming the results
+     */
+    @Benchmark
+    public void toJson(Blackhole blackhole) {
+        for (Topic topic : topics) {
+            blackhole.consume(TopicSerialization.toJson(topic));
+        }
+    }
+
+    /**
+     * Deserialization of all topics from the JSON stored by the Topic Operator
+     *
+     * @param blackhole Blackhole consuming the results
+     */
+    @Benchmark
+    public void fromJson(Blackhole blackhole) {
+        for (byte[] json : jsons) {
+            blackhole.consume(TopicSerialization.fromJson(json));
+        }
+    }
+
+    /**
+     * Conversion of all topics to KafkaTopic custom resources
+     *
+     * @param blackhole Blackhole consuming the results
+     */
+    @Benchmark
+    public void toTopicResource(Blackhole blackhole) {
+        for (Topic topic : topics) {
+            blackhole.consume(TopicSerialization.toTopicResource(topic, labels));
+        }
+    }
+
+    /**
+     * Conversion of all KafkaTopic custom resources to topics
+     *
+     * @param blackhole Blackhole consuming the results
+     */
+    @Benchmark
+    public void fromTopicResource(Blackhole blackhole) {
+        for (KafkaTopic resource : resources) {
+            blackhole.consume(TopicSerialization.fromTopicResource(resource));
+        }
+    }
+}
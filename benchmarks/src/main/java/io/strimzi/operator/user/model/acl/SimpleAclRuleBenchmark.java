@@ -0,0 +1,152 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.model.acl;
+
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.AclResourcePatternType;
+import io.strimzi.api.kafka.model.AclRuleType;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.security.auth.KafkaPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion and comparison of the ACL rules of all users of a large cluster, as done by the User
+ * Operator when reconciling the ACLs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SimpleAclRuleBenchmark {
+    /**
+     * Number of users with ACL rules
+     */
+    private static final int USERS = 10_000;
+
+    private List<KafkaPrincipal> principals;
+    private List<Set<SimpleAclRule>> desired;
+    private List<Set<SimpleAclRule>> current;
+    private List<Set<AclBinding>> bindings;
+
+    @Setup
+    public void setup() {
+        principals = new ArrayList<>(USERS);
+        desired = new ArrayList<>(USERS);
+        current = new ArrayList<>(USERS);
+        bindings = new ArrayList<>(USERS);
+
+        for (int i = 0; i < USERS; i++) {
+            KafkaPrincipal principal = new KafkaPrincipal("User", "CN=user-" + i);
+            Set<SimpleAclRule> rules = rules(i);
+            Set<SimpleAclRule> currentRules = new HashSet<>(rules);
+
+            if (i % 100 == 0) {
+                // Every 100th user has a changed ACL rule
+                currentRules.add(new SimpleAclRule(AclRuleType.ALLOW, new SimpleAclRuleResource("old-topic-" + i, SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL), "*", AclOperation.WRITE));
+            }
+
+            Set<AclBinding> userBindings = new HashSet<>();
+            for (SimpleAclRule rule : currentRules) {
+                userBindings.add(rule.toKafkaAclBinding(principal));
+            }
+
+            principals.add(principal);
+            desired.add(rules);
+            current.add(currentRules);
+            bindings.add(userBindings);
+        }
+    }
+
+    /**
+     * Creates typical ACL rules of a producing and consuming application
+     *
+     * @param user  Index of the user
+     *
+     * @return  The ACL rules
+     */
+    private static Set<SimpleAclRule> rules(int user) {
+        SimpleAclRuleResource topic = new SimpleAclRuleResource("app-" + user + "-", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.PREFIX);
+        SimpleAclRuleResource sharedTopic = new SimpleAclRuleResource("shared-events", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRuleResource group = new SimpleAclRuleResource("app-" + user + "-", SimpleAclRuleResourceType.GROUP, AclResourcePatternType.PREFIX);
+        SimpleAclRuleResource transactionalId = new SimpleAclRuleResource("app-" + user, SimpleAclRuleResourceType.TRANSACTIONAL_ID, AclResourcePatternType.LITERAL);
+
+        Set<SimpleAclRule> rules = new HashSet<>();
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, topic, "*", AclOperation.READ));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, topic, "*", AclOperation.WRITE));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, topic, "*", AclOperation.DESCRIBE));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, topic, "*", AclOperation.CREATE));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, sharedTopic, "*", AclOperation.READ));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, sharedTopic, "*", AclOperation.DESCRIBE));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, group, "*", AclOperation.READ));
+        rules.add(new SimpleAclRule(AclRuleType.ALLOW, transactionalId, "*", AclOperation.WRITE));
+        return rules;
+    }
+
+    /**
+     * Conversion of the desired ACL rules of all users to Kafka ACL bindings
+     *
+     * @param blackhole Blackhole consuming the bindings
+     */
+    @Benchmark
+    public void toKafkaAclBindings(Blackhole blackhole) {
+        for (int i = 0; i < USERS; i++) {
+            KafkaPrincipal principal = principals.get(i);
+
+            for (SimpleAclRule rule : desired.get(i)) {
+                blackhole.consume(rule.toKafkaAclBinding(principal));
+            }
+        }
+    }
+
+    /**
+     * Conversion of the current Kafka ACL bindings of all users to ACL rules
+     *
+     * @param blackhole Blackhole consuming the rules
+     */
+    @Benchmark
+    public void fromKafkaAclBindings(Blackhole blackhole) {
+        for (Set<AclBinding> userBindings : bindings) {
+            for (AclBinding binding : userBindings) {
+                blackhole.consume(SimpleAclRule.fromAclBinding(binding));
+            }
+        }
+    }
+
+    /**
+     * Computation of the ACL rules which have to be added and deleted for all users
+     *
+     * @param blackhole Blackhole consuming the differences
+     */
+    @Benchmark
+    public void diff(Blackhole blackhole) {
+        for (int i = 0; i < USERS; i++) {
+            Set<SimpleAclRule> toBeAdded = new HashSet<>(desired.get(i));
+            toBeAdded.removeAll(current.get(i));
+            Set<SimpleAclRule> toBeDeleted = new HashSet<>(current.get(i));
+            toBeDeleted.removeAll(desired.get(i));
+
+            blackhole.consume(toBeAdded);
+            blackhole.consume(toBeDeleted);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v1CertificateBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.bc.BcX509ExtensionUtils;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCS10CertificationRequestBuilder;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A certificates manager which generates the keys and certificates inside the JVM using Bouncy Castle instead of
+ * running the openssl command. The keys, certificates and stores use the same formats as with the
+ * {@link OpenSslCertManager}: PKCS#8 PEM encoded RSA keys, PEM encoded X.509 certificates signed using SHA-256 and
+ * PKCS12 stores. The byte array based methods work only in memory without any temporary files.
+ */
+public class BouncyCastleCertManager implements CertManager {
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final int KEY_SIZE = 2048;
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+    private static final int SERIAL_NUMBER_BITS = 159;
+    private static final byte[] PEM_LINE_SEPARATOR = {'\n'};
+
+    private final SecureRandom random = new SecureRandom();
+
+    public BouncyCastleCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+
+        Files.write(certFile.toPath(), selfSignedCert(keyPair, sbj, days));
+        Files.write(keyFile.toPath(), encodePem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = readKeyPair(Files.readAllBytes(keyFile.toPath()));
+
+        Files.write(certFile.toPath(), selfSignedCert(keyPair, sbj, days));
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = loadStore(trustStoreFile, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(x509Certificate(Files.readAllBytes(certFile.toPath()))), null);
+
+        Files.write(trustStoreFile.toPath(), storeBytes(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Files.write(keyStoreFile.toPath(),
+                addKeyAndCertToKeyStore(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()), alias, keyStorePassword));
+    }
+
+    @Override
+    public byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, readPrivateKey(key), keyStorePassword.toCharArray(), new Certificate[] {x509Certificate(cert)});
+
+            return storeBytes(keyStore, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the PKCS12 keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = loadStore(trustStoreFile, trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+
+        Files.write(trustStoreFile.toPath(), storeBytes(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+
+        PKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(sbj), keyPair.getPublic());
+        if (hasSubjectAltNames(sbj)) {
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+        }
+        PKCS10CertificationRequest csr = builder.build(signer(keyPair.getPrivate()));
+
+        Files.write(csrFile.toPath(), encodePem("CERTIFICATE REQUEST", csr.getEncoded()));
+        Files.write(keyFile.toPath(), encodePem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Object csr = readPem(Files.readAllBytes(csrFile.toPath()));
+        if (!(csr instanceof PKCS10CertificationRequest)) {
+            throw new IOException("The file " + csrFile + " does not contain a PEM encoded certificate signing request");
+        }
+
+        // Like with the openssl command, the extensions from the request are ignored and only the subject is used
+        PKCS10CertificationRequest request = (PKCS10CertificationRequest) csr;
+        Files.write(crtFile.toPath(), signedCert(request.getSubject(), request.getSubjectPublicKeyInfo(), caKey, caCert, sbj, days));
+    }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        byte[] cert = signedCert(x500Name(sbj), SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded()), caKey, caCert, sbj, days);
+
+        return new CertAndKey(encodePem("PRIVATE KEY", keyPair.getPrivate().getEncoded()), cert);
+    }
+
+    private KeyPair generateKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to generate the private key", e);
+        }
+    }
+
+    /**
+     * Creates a self-signed CA certificate. Certificates signed by this CA cannot be used as CAs.
+     */
+    private byte[] selfSignedCert(KeyPair keyPair, Subject sbj, int days) throws IOException {
+        X500Name name = x500Name(sbj);
+        SubjectPublicKeyInfo publicKey = SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded());
+        Date notBefore = new Date();
+
+        X509v3CertificateBuilder builder = new X509v3CertificateBuilder(name, serialNumber(), notBefore, notAfter(notBefore, days), name, publicKey)
+                .addExtension(Extension.subjectKeyIdentifier, false, new BcX509ExtensionUtils().createSubjectKeyIdentifier(publicKey))
+                .addExtension(Extension.basicConstraints, true, new BasicConstraints(0));
+        if (hasSubjectAltNames(sbj)) {
+            builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+        }
+
+        return encodePem("CERTIFICATE", builder.build(signer(keyPair.getPrivate())).getEncoded());
+    }
+
+    /**
+     * Creates a certificate signed by the CA. Same as with the openssl command, version 1 certificate is created when
+     * there are no subject alternative names.
+     */
+    private byte[] signedCert(X500Name subject, SubjectPublicKeyInfo publicKey, byte[] caKey, byte[] caCert, Subject sbj, int days) throws IOException {
+        Object ca = readPem(caCert);
+        if (!(ca instanceof X509CertificateHolder)) {
+            throw new IOException("The CA certificate is not a PEM encoded X.509 certificate");
+        }
+
+        X500Name issuer = ((X509CertificateHolder) ca).getSubject();
+        ContentSigner signer = signer(readPrivateKey(caKey));
+        Date notBefore = new Date();
+
+        X509CertificateHolder cert;
+        if (hasSubjectAltNames(sbj)) {
+            cert = new X509v3CertificateBuilder(issuer, serialNumber(), notBefore, notAfter(notBefore, days), subject, publicKey)
+                    .addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj))
+                    .build(signer);
+        } else {
+            cert = new X509v1CertificateBuilder(issuer, serialNumber(), notBefore, notAfter(notBefore, days), subject, publicKey)
+                    .build(signer);
+        }
+
+        return encodePem("CERTIFICATE", cert.getEncoded());
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(SERIAL_NUMBER_BITS, random);
+    }
+
+    private static Date notAfter(Date notBefore, int days) {
+        return new Date(notBefore.getTime() + TimeUnit.DAYS.toMillis(days));
+    }
+
+    private static ContentSigner signer(PrivateKey key) throws IOException {
+        try {
+            return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(key);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to create the " + SIGNATURE_ALGORITHM + " signer", e);
+        }
+    }
+
+    private static X500Name x500Name(Subject sbj) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (sbj != null) {
+            if (sbj.organizationName() != null) {
+                builder.addRDN(BCStyle.O, sbj.organizationName());
+            }
+
+            if (sbj.commonName() != null) {
+                builder.addRDN(BCStyle.CN, sbj.commonName());
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static boolean hasSubjectAltNames(Subject sbj) {
+        return sbj != null && sbj.subjectAltNames() != null && sbj.subjectAltNames().size() > 0;
+    }
+
+    /**
+     * Converts the subject alternative names from the OpenSSL configuration format (e.g. DNS.1 = my-host) used by the
+     * Subject class.
+     */
+    private static GeneralNames subjectAltNames(Subject sbj) throws IOException {
+        List<GeneralName> names = new ArrayList<>(sbj.subjectAltNames().size());
+
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey().split("\\.", 2)[0];
+
+            switch (type) {
+                case "DNS":
+                    names.add(new GeneralName(GeneralName.dNSName, entry.getValue()));
+                    break;
+                case "IP":
+                    names.add(new GeneralName(GeneralName.iPAddress, entry.getValue()));
+                    break;
+                default:
+                    throw new IOException("Unsupported subject alternative name type " + entry.getKey());
+            }
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static byte[] encodePem(String type, byte[] der) {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, PEM_LINE_SEPARATOR).encodeToString(der) + "\n"
+                + "-----END " + type + "-----\n";
+
+        return pem.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Object readPem(byte[] pem) throws IOException {
+        try (PEMParser parser = new PEMParser(new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII))) {
+            Object object = parser.readObject();
+
+            if (object == null) {
+                throw new IOException("No PEM encoded object found");
+            }
+
+            return object;
+        }
+    }
+
+    /**
+     * Reads a PEM encoded private key either in the PKCS#8 format or in the PKCS#1 format used by older versions
+     * of openssl.
+     */
+    private static PrivateKey readPrivateKey(byte[] key) throws IOException {
+        Object object = readPem(key);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (object instanceof PrivateKeyInfo) {
+            return converter.getPrivateKey((PrivateKeyInfo) object);
+        } else if (object instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) object).getPrivate();
+        } else {
+            throw new IOException("The key is not a PEM encoded private key");
+        }
+    }
+
+    private static KeyPair readKeyPair(byte[] key) throws IOException {
+        PrivateKey privateKey = readPrivateKey(key);
+
+        if (privateKey instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+
+            try {
+                PublicKey publicKey = KeyFactory.getInstance(KEY_ALGORITHM)
+                        .generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+                return new KeyPair(publicKey, privateKey);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Failed to get the public key from the private key", e);
+            }
+        } else {
+            throw new IOException("Only RSA private keys are supported");
+        }
+    }
+
+    private static Certificate x509Certificate(byte[] cert) throws CertificateException {
+        return CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(cert));
+    }
+
+    private static KeyStore loadStore(File storeFile, String password) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+
+        // the store is created when the file is empty
+        if (storeFile.length() > 0) {
+            store.load(new ByteArrayInputStream(Files.readAllBytes(storeFile.toPath())), password.toCharArray());
+        } else {
+            store.load(null, password.toCharArray());
+        }
+
+        return store;
+    }
+
+    private static byte[] storeBytes(KeyStore store, String password) throws IOException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            store.store(out, password.toCharArray());
+            return out.toByteArray();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to store the PKCS12 store", e);
+        }
+    }
+}
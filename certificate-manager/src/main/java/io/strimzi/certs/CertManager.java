@@ -6,6 +6,7 @@ package io.strimzi.certs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -144,4 +145,62 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generate a private key and a certificate signed by a Certificate Authority. The default implementation uses
+     * temporary files with the file based methods of this interface. Implementations which do not need the files
+     * should override it.
+     *
+     * @param sbj subject information
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @return The PEM encoded private key and signed certificate (without keystore and truststore)
+     * @throws IOException If the certificate could not be generated.
+     */
+    default CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        File csrFile = Files.createTempFile("tls", "-csr").toFile();
+        File keyFile = Files.createTempFile("tls", "-key").toFile();
+        File certFile = Files.createTempFile("tls", "-cert").toFile();
+
+        try {
+            generateCsr(keyFile, csrFile, sbj);
+            generateCert(csrFile, caKey, caCert, certFile, sbj, days);
+
+            return new CertAndKey(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()));
+        } finally {
+            Files.deleteIfExists(csrFile.toPath());
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+        }
+    }
+
+    /**
+     * Create a PKCS12 keystore with the provided key and certificate. The default implementation uses temporary files
+     * with the file based methods of this interface. Implementations which do not need the files should override it.
+     *
+     * @param key PEM encoded private key
+     * @param cert PEM encoded certificate
+     * @param alias key and certificate alias in the keystore
+     * @param keyStorePassword password for protecting the keystore
+     * @return The keystore bytes
+     * @throws IOException If the keystore could not be created.
+     */
+    default byte[] addKeyAndCertToKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        File keyFile = Files.createTempFile("tls", "-key").toFile();
+        File certFile = Files.createTempFile("tls", "-cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "-p12").toFile();
+
+        try {
+            Files.write(keyFile.toPath(), key);
+            Files.write(certFile.toPath(), cert);
+            addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
+
+            return Files.readAllBytes(keyStoreFile.toPath());
+        } finally {
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+            Files.deleteIfExists(keyStoreFile.toPath());
+        }
+    }
 }
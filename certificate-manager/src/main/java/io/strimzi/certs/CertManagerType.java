@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * The certificate manager implementations which can be used by the operators
+ */
+public enum CertManagerType {
+    /**
+     * Runs the openssl command for generating keys and certificates
+     */
+    OPENSSL,
+
+    /**
+     * Generates the keys and certificates inside the JVM
+     */
+    BOUNCYCASTLE;
+
+    /**
+     * Parses the certificate manager type from its configuration value
+     *
+     * @param value     The configuration value (openssl or bouncycastle)
+     *
+     * @return  The certificate manager type
+     *
+     * @throws IllegalArgumentException when the value is not a valid certificate manager type
+     */
+    public static CertManagerType forValue(String value) {
+        switch (value.trim().toLowerCase(Locale.ENGLISH)) {
+            case "openssl":
+                return OPENSSL;
+            case "bouncycastle":
+                return BOUNCYCASTLE;
+            default:
+                throw new IllegalArgumentException(value + " is not a valid certificate manager type. " +
+                        "It can have one of the following values: openssl, bouncycastle.");
+        }
+    }
+
+    /**
+     * @return  New certificate manager of this type
+     */
+    public CertManager create() {
+        switch (this) {
+            case BOUNCYCASTLE:
+                return new BouncyCastleCertManager();
+            case OPENSSL:
+            default:
+                return new OpenSslCertManager();
+        }
+    }
+}
@@ -29,16 +29,19 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 
 /**
- * An "operator" for managing assemblies of various types <em>in a particular namespace</em>.
- * The Cluster Operator's multiple namespace support is achieved by deploying multiple
- * {@link ClusterOperator}'s in Vertx.
+ * An "operator" for managing assemblies of various types <em>in particular namespaces</em>.
+ * The Cluster Operator's multiple namespace support is achieved either by deploying multiple
+ * {@link ClusterOperator}'s in Vertx, one for each namespace, or by deploying a single {@link ClusterOperator}
+ * for all namespaces. The single {@link ClusterOperator} shares one watch per resource kind between all the
+ * namespaces and spreads the periodic reconciliations of the individual namespaces over the reconciliation interval.
  */
 public class ClusterOperator extends AbstractVerticle {
 
@@ -53,12 +56,14 @@ public class ClusterOperator extends AbstractVerticle {
     private final MetricsProvider metricsProvider;
 
     private final KubernetesClient client;
-    private final String namespace;
+    private final Set<String> namespaces;
+    private final List<String> reconciledNamespaces;
     private final ClusterOperatorConfig config;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
 
     private long reconcileTimer;
+    private int nextReconciledNamespace = 0;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
     private final KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator;
     private final KafkaConnectS2IAssemblyOperator kafkaConnectS2IAssemblyOperator;
@@ -67,7 +72,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
 
-    public ClusterOperator(String namespace,
+    public ClusterOperator(Set<String> namespaces,
                            ClusterOperatorConfig config,
                            KubernetesClient client,
                            KafkaAssemblyOperator kafkaAssemblyOperator,
@@ -78,8 +83,9 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
                            MetricsProvider metricsProvider) {
-        log.info("Creating ClusterOperator for namespace {}", namespace);
-        this.namespace = namespace;
+        log.info("Creating ClusterOperator for namespaces {}", namespaces);
+        this.namespaces = namespaces;
+        this.reconciledNamespaces = new ArrayList<>(new TreeSet<>(namespaces));
         this.config = config;
         this.client = client;
         this.kafkaAssemblyOperator = kafkaAssemblyOperator;
@@ -95,10 +101,7 @@ public class ClusterOperator extends AbstractVerticle {
 
     @Override
     public void start(Promise<Void> start) {
-        log.info("Starting ClusterOperator for namespace {}", namespace);
-
-        // Configure the executor here, but it is used only in other places
-        getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
+        log.info("Starting ClusterOperator for namespaces {}", namespaces);
 
         List<Future> watchFutures = new ArrayList<>(8);
         List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
@@ -108,22 +111,28 @@ public class ClusterOperator extends AbstractVerticle {
             operators.add(kafkaConnectS2IAssemblyOperator);
         }
         for (AbstractOperator<?, ?, ?, ?> operator : operators) {
-            watchFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
+            watchFutures.add(operator.createWatch(namespaces, operator.recreateWatch(namespaces)).compose(w -> {
                 log.info("Opened watch for {} operator", operator.kind());
                 watchByKind.put(operator.kind(), w);
                 return Future.succeededFuture();
             }));
         }
 
-        watchFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, kafkaConnectS2IAssemblyOperator, namespace, config.getCustomResourceSelector()));
-        watchFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace));
+        watchFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, kafkaConnectS2IAssemblyOperator, namespaces, config.getCustomResourceSelector()));
+        watchFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespaces));
 
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
-                    log.info("Setting up periodic reconciliation for namespace {}", namespace);
-                    this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
+                    // Each namespace is reconciled once per reconciliation interval. With multiple namespaces, the
+                    // timer fires more often and reconciles the next namespace each time, so that the reconciliations
+                    // of the namespaces do not all start at the same time.
+                    long period = Math.max(1, this.config.getReconciliationIntervalMs() / reconciledNamespaces.size());
+                    log.info("Setting up periodic reconciliation for namespaces {} every {} ms", namespaces, period);
+                    this.reconcileTimer = vertx.setPeriodic(period, res2 -> {
+                        String namespace = reconciledNamespaces.get(nextReconciledNamespace);
+                        nextReconciledNamespace = (nextReconciledNamespace + 1) % reconciledNamespaces.size();
                         log.info("Triggering periodic reconciliation for namespace {}...", namespace);
-                        reconcileAll("timer");
+                        reconcileAll(AbstractOperator.PERIODIC_TRIGGER, namespace);
                     });
                     return startHealthServer().map((Void) null);
                 })
@@ -133,7 +142,7 @@ public class ClusterOperator extends AbstractVerticle {
 
     @Override
     public void stop(Promise<Void> stop) {
-        log.info("Stopping ClusterOperator for namespace {}", namespace);
+        log.info("Stopping ClusterOperator for namespaces {}", namespaces);
         vertx.cancelTimer(reconcileTimer);
         for (Watch watch : watchByKind.values()) {
             if (watch != null) {
@@ -148,7 +157,7 @@ public class ClusterOperator extends AbstractVerticle {
     /**
       Periodical reconciliation (in case we lost some event)
      */
-    private void reconcileAll(String trigger) {
+    private void reconcileAll(String trigger, String namespace) {
         Handler<AsyncResult<Void>> ignore = ignored -> { };
         kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
         kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
@@ -6,11 +6,13 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import org.apache.logging.log4j.LogManager;
@@ -44,6 +46,11 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_OPERATOR_NAMESPACE_LABELS = "STRIMZI_OPERATOR_NAMESPACE_LABELS";
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
+    public static final String STRIMZI_RESOURCE_CACHE_KINDS = "STRIMZI_RESOURCE_CACHE_KINDS";
+    public static final String STRIMZI_SHARED_NAMESPACE_WATCH = "STRIMZI_SHARED_NAMESPACE_WATCH";
+    public static final String STRIMZI_CERT_MANAGER = "STRIMZI_CERT_MANAGER";
+    public static final String STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MS = "STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MS";
+    public static final String STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS = "STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -71,6 +78,8 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
+    public static final long DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MS = 0;
+    public static final int DEFAULT_MAX_CONCURRENT_KAFKA_RESTARTS = 1;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -85,6 +94,12 @@ public class ClusterOperatorConfig {
     private final RbacScope rbacScope;
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
+    private final Set<String> resourceCacheKinds;
+    private final boolean sharedNamespaceWatch;
+    private final WorkerPools workerPools;
+    private final CertManagerType certManagerType;
+    private final long skipUnchangedReconciliationsMs;
+    private final int maxConcurrentKafkaRestarts;
 
     /**
      * Constructor
@@ -102,7 +117,14 @@ public class ClusterOperatorConfig {
      * @param rbacScope true to use Roles where possible instead of ClusterRoles
      * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
      * @param featureGates Configuration string with feature gates settings
+     * @param resourceCacheKinds Kinds of resources which should be read from a local watch-maintained cache
+     * @param sharedNamespaceWatch true to watch all namespaces using a single operator instance with shared watches
+     * @param workerPools Sizes of the worker pools used for the blocking operations
+     * @param certManagerType Implementation of the certificate manager used for generating keys and certificates
+     * @param skipUnchangedReconciliationsMs For how long periodic reconciliations of unchanged resources are skipped (0 to never skip them)
+     * @param maxConcurrentKafkaRestarts Maximal number of Kafka brokers restarted at the same time during rolling updates
      */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
     public ClusterOperatorConfig(
             Set<String> namespaces,
             long reconciliationIntervalMs,
@@ -116,7 +138,13 @@ public class ClusterOperatorConfig {
             Labels operatorNamespaceLabels,
             RbacScope rbacScope,
             Labels customResourceSelector,
-            String featureGates) {
+            String featureGates,
+            Set<String> resourceCacheKinds,
+            boolean sharedNamespaceWatch,
+            WorkerPools workerPools,
+            CertManagerType certManagerType,
+            long skipUnchangedReconciliationsMs,
+            int maxConcurrentKafkaRestarts) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -130,6 +158,12 @@ public class ClusterOperatorConfig {
         this.rbacScope = rbacScope;
         this.customResourceSelector = customResourceSelector;
         this.featureGates = new FeatureGates(featureGates);
+        this.resourceCacheKinds = unmodifiableSet(new HashSet<>(resourceCacheKinds));
+        this.sharedNamespaceWatch = sharedNamespaceWatch;
+        this.workerPools = workerPools;
+        this.certManagerType = certManagerType;
+        this.skipUnchangedReconciliationsMs = skipUnchangedReconciliationsMs;
+        this.maxConcurrentKafkaRestarts = maxConcurrentKafkaRestarts;
     }
 
     /**
@@ -177,6 +211,12 @@ public class ClusterOperatorConfig {
         RbacScope rbacScope = parseRbacScope(map.get(STRIMZI_RBAC_SCOPE));
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
+        Set<String> resourceCacheKinds = parseResourceCacheKinds(map.get(STRIMZI_RESOURCE_CACHE_KINDS));
+        boolean sharedNamespaceWatch = Boolean.parseBoolean(map.get(STRIMZI_SHARED_NAMESPACE_WATCH));
+        WorkerPools workerPools = WorkerPools.fromMap(map);
+        CertManagerType certManagerType = parseCertManagerType(map.get(STRIMZI_CERT_MANAGER));
+        long skipUnchangedReconciliations = parseTimeout(map.get(STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MS), DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MS);
+        int maxConcurrentKafkaRestarts = parseMaxConcurrentKafkaRestarts(map.get(STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS));
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -191,7 +231,13 @@ public class ClusterOperatorConfig {
                 operatorNamespaceLabels,
                 rbacScope,
                 customResourceSelector,
-                featureGates);
+                featureGates,
+                resourceCacheKinds,
+                sharedNamespaceWatch,
+                workerPools,
+                certManagerType,
+                skipUnchangedReconciliations,
+                maxConcurrentKafkaRestarts);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -213,6 +259,21 @@ public class ClusterOperatorConfig {
         return namespaces;
     }
 
+    private static Set<String> parseResourceCacheKinds(String kindsList) {
+        Set<String> kinds;
+
+        if (kindsList == null || kindsList.trim().isEmpty()) {
+            kinds = Collections.emptySet();
+        } else if (kindsList.matches("(\\s*[a-zA-Z0-9]+\\s*,)*\\s*[a-zA-Z0-9]+\\s*")) {
+            kinds = new HashSet<>(asList(kindsList.trim().split("\\s*,+\\s*")));
+        } else {
+            throw new InvalidConfigurationException(STRIMZI_RESOURCE_CACHE_KINDS
+                    + " is not a valid list of resource kinds");
+        }
+
+        return kinds;
+    }
+
     private static long parseReconciliationInterval(String reconciliationIntervalEnvVar) {
         long reconciliationInterval = DEFAULT_FULL_RECONCILIATION_INTERVAL_MS;
 
@@ -233,6 +294,24 @@ public class ClusterOperatorConfig {
         return timeout;
     }
 
+    private static int parseMaxConcurrentKafkaRestarts(String maxConcurrentKafkaRestartsEnvVar) {
+        int maxConcurrentKafkaRestarts = DEFAULT_MAX_CONCURRENT_KAFKA_RESTARTS;
+
+        if (maxConcurrentKafkaRestartsEnvVar != null) {
+            try {
+                maxConcurrentKafkaRestarts = Integer.parseInt(maxConcurrentKafkaRestartsEnvVar);
+            } catch (NumberFormatException e) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS + " is not a valid number: " + maxConcurrentKafkaRestartsEnvVar, e);
+            }
+
+            if (maxConcurrentKafkaRestarts < 1) {
+                throw new InvalidConfigurationException(STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS + " has to be at least 1");
+            }
+        }
+
+        return maxConcurrentKafkaRestarts;
+    }
+
     private static boolean parseCreateClusterRoles(String createClusterRolesEnvVar) {
         boolean createClusterRoles = DEFAULT_CREATE_CLUSTER_ROLES;
 
@@ -274,6 +353,18 @@ public class ClusterOperatorConfig {
         return rbacScope;
     }
 
+    private static CertManagerType parseCertManagerType(String certManagerEnvVar) {
+        if (certManagerEnvVar == null) {
+            return CertManagerType.OPENSSL;
+        }
+
+        try {
+            return CertManagerType.forValue(certManagerEnvVar);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException(STRIMZI_CERT_MANAGER + " is not valid: " + e.getMessage(), e);
+        }
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -457,6 +548,49 @@ public class ClusterOperatorConfig {
         return featureGates;
     }
 
+    /**
+     * @return  Kinds of the resources which should be read from the local resource cache
+     */
+    public Set<String> getResourceCacheKinds() {
+        return resourceCacheKinds;
+    }
+
+    /**
+     * @return  Indicates whether all namespaces should be watched by a single operator instance using shared watches
+     */
+    public boolean isSharedNamespaceWatch() {
+        return sharedNamespaceWatch;
+    }
+
+    /**
+     * @return  The sizes of the worker pools used for the blocking operations
+     */
+    public WorkerPools getWorkerPools() {
+        return workerPools;
+    }
+
+    /**
+     * @return  The certificate manager implementation used for generating keys and certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return certManagerType;
+    }
+
+    /**
+     * @return  For how long the periodic reconciliations of Kafka resources which did not change since their last
+     *          successful reconciliation are skipped. 0 when they are never skipped.
+     */
+    public long getSkipUnchangedReconciliationsMs() {
+        return skipUnchangedReconciliationsMs;
+    }
+
+    /**
+     * @return  The maximal number of Kafka brokers which are restarted at the same time during rolling updates
+     */
+    public int getMaxConcurrentKafkaRestarts() {
+        return maxConcurrentKafkaRestarts;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -473,6 +607,12 @@ public class ClusterOperatorConfig {
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
+                ",resourceCacheKinds=" + resourceCacheKinds +
+                ",sharedNamespaceWatch=" + sharedNamespaceWatch +
+                ",workerPools=" + workerPools +
+                ",certManagerType=" + certManagerType +
+                ",skipUnchangedReconciliationsMs=" + skipUnchangedReconciliationsMs +
+                ",maxConcurrentKafkaRestarts=" + maxConcurrentKafkaRestarts +
                 ")";
     }
 }
@@ -15,8 +15,10 @@ import static java.util.Arrays.asList;
  */
 public class FeatureGates {
     private static final String CONTROL_PLANE_LISTENER = "ControlPlaneListener";
+    private static final String PARALLEL_KAFKA_RECONCILIATION = "ParallelKafkaReconciliation";
 
     private final FeatureGate controlPlaneListener = new FeatureGate(CONTROL_PLANE_LISTENER, false);
+    private final FeatureGate parallelKafkaReconciliation = new FeatureGate(PARALLEL_KAFKA_RECONCILIATION, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -41,6 +43,9 @@ public class FeatureGates {
                     case CONTROL_PLANE_LISTENER:
                         setValueOnlyOnce(controlPlaneListener, value);
                         break;
+                    case PARALLEL_KAFKA_RECONCILIATION:
+                        setValueOnlyOnce(parallelKafkaReconciliation, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -70,10 +75,18 @@ public class FeatureGates {
         return controlPlaneListener.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the ParallelKafkaReconciliation feature gate is enabled
+     */
+    public boolean parallelKafkaReconciliationEnabled() {
+        return parallelKafkaReconciliation.isEnabled();
+    }
+
     @Override
     public String toString() {
         return "FeatureGates(" +
                 "controlPlaneListener=" + controlPlaneListener.isEnabled() +
+                ",parallelKafkaReconciliation=" + parallelKafkaReconciliation.isEnabled() +
                 ")";
     }
 
@@ -9,7 +9,7 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -35,12 +35,15 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.security.Security;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.Label;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
 
@@ -69,6 +72,7 @@ public class Main {
                 new MicrometerMetricsOptions()
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setJvmMetricsEnabled(true)
+                        .addLabels(Label.POOL_NAME)
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
         
@@ -101,9 +105,11 @@ public class Main {
     static CompositeFuture run(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         Util.printEnvInfo();
 
+        config.getWorkerPools().createPools(vertx);
+
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.getCertManagerType().create();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -134,11 +140,19 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
-        List<Future> futures = new ArrayList<>(config.getNamespaces().size());
-        for (String namespace : config.getNamespaces()) {
+        // Either a single verticle for all namespaces sharing one watch per resource kind or a verticle per namespace
+        List<Set<String>> verticleNamespaces;
+        if (config.isSharedNamespaceWatch()) {
+            verticleNamespaces = Collections.singletonList(config.getNamespaces());
+        } else {
+            verticleNamespaces = config.getNamespaces().stream().map(Collections::singleton).collect(Collectors.toList());
+        }
+
+        List<Future> futures = new ArrayList<>(verticleNamespaces.size());
+        for (Set<String> namespaces : verticleNamespaces) {
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
-            ClusterOperator operator = new ClusterOperator(namespace,
+            ClusterOperator operator = new ClusterOperator(namespaces,
                     config,
                     client,
                     kafkaClusterOperations,
@@ -149,16 +163,24 @@ public class Main {
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
                     resourceOperatorSupplier.metricsProvider);
-            vertx.deployVerticle(operator,
-                res -> {
-                    if (res.succeeded()) {
-                        log.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
-                    } else {
-                        log.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
-                        System.exit(1);
-                    }
-                    prom.handle(res);
-                });
+
+            // The caches are shared by the namespaces of the verticle in the same way as the watches
+            resourceOperatorSupplier.enableResourceCaches(config.getResourceCacheKinds(), namespaces).onComplete(caches -> {
+                if (caches.failed()) {
+                    log.warn("Resource caches in namespaces {} failed to sync and the resources will be read from the Kubernetes API until they do", namespaces, caches.cause());
+                }
+
+                vertx.deployVerticle(operator,
+                    res -> {
+                        if (res.succeeded()) {
+                            log.info("Cluster Operator verticle started in namespaces {} with label selector {}", namespaces, config.getCustomResourceSelector());
+                        } else {
+                            log.error("Cluster Operator verticle in namespaces {} failed to start", namespaces, res.cause());
+                            System.exit(1);
+                        }
+                        prom.handle(res);
+                    });
+            });
         }
         return CompositeFuture.join(futures);
     }
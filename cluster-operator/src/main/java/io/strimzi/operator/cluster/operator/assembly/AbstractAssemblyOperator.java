@@ -75,7 +75,29 @@ public abstract class AbstractAssemblyOperator<C extends KubernetesClient, T ext
                                        AbstractWatchableStatusedResourceOperator<C, T, L, R> resourceOperator,
                                        ResourceOperatorSupplier supplier,
                                        ClusterOperatorConfig config) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        this(vertx, pfa, kind, certManager, passwordGenerator, resourceOperator, supplier, config, 0);
+    }
+
+    /**
+     * @param vertx The Vertx instance
+     * @param pfa Properties with features availability
+     * @param kind The kind of watched resource
+     * @param certManager Certificate manager
+     * @param passwordGenerator Password generator
+     * @param resourceOperator For operating on the desired resource
+     * @param supplier Supplies the operators for different resources
+     * @param config ClusterOperator configuration. Used to get the user-configured image pull policy and the secrets.
+     * @param skipUnchangedReconciliationsMs For how long the periodic reconciliations of unchanged resources are
+     *                                       skipped. Only operators which provide all inputs of their reconciliation
+     *                                       in {@link #fingerprintInputs} should pass a value other than 0.
+     */
+    protected AbstractAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, String kind,
+                                       CertManager certManager, PasswordGenerator passwordGenerator,
+                                       AbstractWatchableStatusedResourceOperator<C, T, L, R> resourceOperator,
+                                       ResourceOperatorSupplier supplier,
+                                       ClusterOperatorConfig config,
+                                       long skipUnchangedReconciliationsMs) {
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector(), skipUnchangedReconciliationsMs);
         this.pfa = pfa;
         this.certManager = certManager;
         this.passwordGenerator = passwordGenerator;
@@ -52,6 +52,7 @@ import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.NamespaceFilteringWatcher;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
@@ -205,10 +206,31 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     public static Future<Void> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, Resource<KafkaConnect>, KafkaConnectSpec, KafkaConnectStatus> connectOperator,
                                                     AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, Resource<KafkaConnectS2I>, KafkaConnectS2ISpec, KafkaConnectS2IStatus> connectS2IOperator,
                                                     String watchNamespaceOrWildcard, Labels selectorLabels) {
+        return createConnectorWatch(connectOperator, connectS2IOperator, Collections.singleton(watchNamespaceOrWildcard), selectorLabels);
+    }
+
+    /**
+     * Create a single watch on {@code KafkaConnector} shared by multiple namespaces. When more than one namespace is
+     * watched, the watch is opened in all namespaces and the connectors from other namespaces are ignored. See
+     * {@link #createConnectorWatch(AbstractConnectOperator, AbstractConnectOperator, String, Labels)} for how the
+     * events are handled.
+     *
+     * @param connectOperator The operator for {@code KafkaConnect}.
+     * @param connectS2IOperator The operator for {@code KafkaConnectS2I}.
+     * @param namespaces The namespaces to watch.
+     * @param selectorLabels Selector labels for filtering the custom resources
+     *
+     * @return A future which completes when the watch has been set up.
+     */
+    // Deprecation is suppressed because of KafkaConnectS2I
+    @SuppressWarnings("deprecation")
+    public static Future<Void> createConnectorWatch(AbstractConnectOperator<KubernetesClient, KafkaConnect, KafkaConnectList, Resource<KafkaConnect>, KafkaConnectSpec, KafkaConnectStatus> connectOperator,
+                                                    AbstractConnectOperator<OpenShiftClient, KafkaConnectS2I, KafkaConnectS2IList, Resource<KafkaConnectS2I>, KafkaConnectS2ISpec, KafkaConnectS2IStatus> connectS2IOperator,
+                                                    Set<String> namespaces, Labels selectorLabels) {
         Optional<LabelSelector> selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
 
         return Util.async(connectOperator.vertx, () -> {
-            connectOperator.connectorOperator.watch(watchNamespaceOrWildcard, new Watcher<KafkaConnector>() {
+            connectOperator.connectorOperator.watch(NamespaceFilteringWatcher.watchNamespace(namespaces), NamespaceFilteringWatcher.forNamespaces(namespaces, new Watcher<KafkaConnector>() {
                 @Override
                 public void eventReceived(Action action, KafkaConnector kafkaConnector) {
                     String connectorName = kafkaConnector.getMetadata().getName();
@@ -312,7 +334,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         throw new KubernetesClientException(e.getMessage());
                     }
                 }
-            });
+            }));
             return null;
         });
     }
@@ -23,14 +23,21 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.api.kafka.model.ExternalLogging;
+import io.strimzi.api.kafka.model.JmxPrometheusExporterMetrics;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.Logging;
+import io.strimzi.api.kafka.model.MetricsConfig;
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerConfigurationBroker;
@@ -90,6 +97,7 @@ import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -130,9 +138,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
@@ -179,6 +189,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final ReconcileStepGraph<ReconciliationState> reconcileGraph;
+    private final Timer certIssuanceTimer;
+    private final Timer availabilityCheckTimer;
+    private final int maxConcurrentKafkaRestarts;
 
     /**
      * @param vertx The Vertx instance
@@ -193,11 +207,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                  ResourceOperatorSupplier supplier,
                                  ClusterOperatorConfig config) {
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
-                supplier.kafkaOperator, supplier, config);
+                supplier.kafkaOperator, supplier, config, config.getSkipUnchangedReconciliationsMs());
         this.operationTimeoutMs = config.getOperationTimeoutMs();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.featureGates = config.featureGates();
+        this.maxConcurrentKafkaRestarts = config.getMaxConcurrentKafkaRestarts();
         this.routeOperations = supplier.routeOperations;
         this.zkSetOperations = supplier.zkSetOperations;
         this.kafkaSetOperations = supplier.kafkaSetOperations;
@@ -213,6 +228,13 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
+        this.reconcileGraph = reconcileGraph(featureGates.parallelKafkaReconciliationEnabled());
+        this.certIssuanceTimer = metrics.timer(METRICS_PREFIX + "certificates.issuance",
+                "The time it takes to issue the certificate of a single pod",
+                Tags.of(Tag.of("kind", kind())));
+        this.availabilityCheckTimer = metrics.timer(METRICS_PREFIX + "kafka.availability.check",
+                "The time it takes to check whether a Kafka broker can be rolled without affecting the availability of the topics",
+                Tags.of(Tag.of("kind", kind())));
     }
 
     @Override
@@ -254,118 +276,239 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Besides the Kafka custom resource, the reconciliation reads these inputs:
+     * <ul>
+     *     <li>the CA Secrets, the Cluster Operator certificate Secret and the JMX Secret,</li>
+     *     <li>the Secrets with the custom listener certificates,</li>
+     *     <li>the ConfigMaps with the external logging and metrics configuration of ZooKeeper, Kafka, the Topic and
+     *     User Operators and Cruise Control,</li>
+     *     <li>the manual rolling update annotations on the ZooKeeper and Kafka StatefulSets and the manual rolling
+     *     update and the delete pod and PVC annotations on the pods of the cluster.</li>
+     * </ul>
+     * The resource versions of the Secrets and ConfigMaps and the values of the annotations are part of the
+     * fingerprint, so that the periodic reconciliation is not skipped when any of them changed. Other changes to the
+     * resources owned by the operator are reverted once the maximum age of the fingerprint passes.
+     */
+    @Override
+    protected Future<String> fingerprintInputs(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        String namespace = reconciliation.namespace();
+        String name = reconciliation.name();
+        KafkaSpec spec = kafkaAssembly.getSpec();
+
+        Set<String> secretNames = new TreeSet<>(List.of(
+                KafkaResources.clusterCaCertificateSecretName(name),
+                KafkaResources.clusterCaKeySecretName(name),
+                KafkaResources.clientsCaCertificateSecretName(name),
+                KafkaResources.clientsCaKeySecretName(name),
+                ClusterOperator.secretName(name),
+                KafkaCluster.jmxSecretName(name)));
+
+        Set<String> configMapNames = new TreeSet<>();
+        if (spec.getZookeeper() != null) {
+            addExternalConfigMapNames(configMapNames, spec.getZookeeper().getLogging(), spec.getZookeeper().getMetricsConfig());
+        }
+        if (spec.getKafka() != null) {
+            addExternalConfigMapNames(configMapNames, spec.getKafka().getLogging(), spec.getKafka().getMetricsConfig());
+
+            if (spec.getKafka().getListeners() != null && spec.getKafka().getListeners().getGenericKafkaListeners() != null) {
+                for (GenericKafkaListener listener : spec.getKafka().getListeners().getGenericKafkaListeners()) {
+                    if (listener.getConfiguration() != null && listener.getConfiguration().getBrokerCertChainAndKey() != null) {
+                        secretNames.add(listener.getConfiguration().getBrokerCertChainAndKey().getSecretName());
+                    }
+                }
+            }
+        }
+        if (spec.getEntityOperator() != null) {
+            if (spec.getEntityOperator().getTopicOperator() != null) {
+                addExternalConfigMapNames(configMapNames, spec.getEntityOperator().getTopicOperator().getLogging(), null);
+            }
+            if (spec.getEntityOperator().getUserOperator() != null) {
+                addExternalConfigMapNames(configMapNames, spec.getEntityOperator().getUserOperator().getLogging(), null);
+            }
+        }
+        if (spec.getCruiseControl() != null) {
+            addExternalConfigMapNames(configMapNames, spec.getCruiseControl().getLogging(), spec.getCruiseControl().getMetricsConfig());
+        }
+
+        List<Future> inputs = new ArrayList<>(secretNames.size() + configMapNames.size() + 3);
+        for (String secretName : secretNames) {
+            inputs.add(secretOperations.getAsync(namespace, secretName)
+                    .map(secret -> "Secret/" + secretName + "=" + (secret != null ? secret.getMetadata().getResourceVersion() : null)));
+        }
+        for (String configMapName : configMapNames) {
+            inputs.add(configMapOperations.getAsync(namespace, configMapName)
+                    .map(cm -> "ConfigMap/" + configMapName + "=" + (cm != null ? cm.getMetadata().getResourceVersion() : null)));
+        }
+        inputs.add(zkSetOperations.getAsync(namespace, ZookeeperCluster.zookeeperClusterName(name))
+                .map(KafkaAssemblyOperator::manualRollingUpdateInput));
+        inputs.add(kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
+                .map(KafkaAssemblyOperator::manualRollingUpdateInput));
+        inputs.add(podOperations.listAsync(namespace, Labels.forStrimziCluster(name))
+                .map(pods -> pods.stream()
+                        .filter(pod -> Annotations.stringAnnotation(pod, Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, null) != null
+                                || Annotations.stringAnnotation(pod, AbstractScalableResourceOperator.ANNO_STRIMZI_IO_DELETE_POD_AND_PVC, null) != null)
+                        .map(pod -> "Pod/" + pod.getMetadata().getName()
+                                + "=" + Annotations.stringAnnotation(pod, Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, null)
+                                + "/" + Annotations.stringAnnotation(pod, AbstractScalableResourceOperator.ANNO_STRIMZI_IO_DELETE_POD_AND_PVC, null))
+                        .sorted()
+                        .collect(Collectors.joining(","))));
+
+        return CompositeFuture.join(inputs)
+                .map(res -> res.<String>list().stream().collect(Collectors.joining(",")));
+    }
+
+    private static String manualRollingUpdateInput(StatefulSet sts) {
+        return sts != null
+                ? "StatefulSet/" + sts.getMetadata().getName() + "=" + Annotations.stringAnnotation(sts, Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, null)
+                : "";
+    }
+
+    private static void addExternalConfigMapNames(Set<String> configMapNames, Logging logging, MetricsConfig metricsConfig) {
+        if (logging instanceof ExternalLogging) {
+            ExternalLogging externalLogging = (ExternalLogging) logging;
+            if (externalLogging.getValueFrom() != null && externalLogging.getValueFrom().getConfigMapKeyRef() != null) {
+                configMapNames.add(externalLogging.getValueFrom().getConfigMapKeyRef().getName());
+            } else if (externalLogging.getName() != null) {
+                configMapNames.add(externalLogging.getName());
+            }
+        }
+
+        if (metricsConfig instanceof JmxPrometheusExporterMetrics
+                && ((JmxPrometheusExporterMetrics) metricsConfig).getValueFrom() != null
+                && ((JmxPrometheusExporterMetrics) metricsConfig).getValueFrom().getConfigMapKeyRef() != null) {
+            configMapNames.add(((JmxPrometheusExporterMetrics) metricsConfig).getValueFrom().getConfigMapKeyRef().getName());
+        }
+    }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
+        return reconcileGraph.execute(reconcileState.reconciliation, reconcileState)
+                .map((Void) null);
+    }
 
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.prepareVersionChange())
+    /**
+     * Builds the graph of the reconciliation steps. The steps which can be executed independently of each other - such
+     * as the resources of the ZooKeeper cluster created before its StatefulSet or the Entity Operator, Cruise Control,
+     * Kafka Exporter and JmxTrans deployments - declare what they read and write. All other steps are barriers. When
+     * the ParallelKafkaReconciliation feature gate is disabled, all steps are executed one after another.
+     *
+     * @param parallel  Whether the independent steps should be executed concurrently
+     *
+     * @return  The reconciliation step graph
+     */
+    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:JavaNCSS"})
+    private ReconcileStepGraph<ReconciliationState> reconcileGraph(boolean parallel) {
+        return new ReconcileStepGraph<ReconciliationState>(Kafka.RESOURCE_KIND, parallel, metrics)
+                .barrier("initialStatus", state -> state.initialStatus())
+                .barrier("reconcileCas", state -> state.reconcileCas(this::dateSupplier))
+                .barrier("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier))
+                .barrier("getKafkaClusterDescription", state -> state.getKafkaClusterDescription())
+                .barrier("prepareVersionChange", state -> state.prepareVersionChange())
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .barrier("rollingUpdateForNewCaKey", state -> state.rollingUpdateForNewCaKey())
+                .barrier("getZookeeperDescription", state -> state.getZookeeperDescription())
+                .barrier("zkModelWarnings", state -> state.zkModelWarnings())
+                .barrier("zkManualPodCleaning", state -> state.zkManualPodCleaning())
+                .barrier("zkNetPolicy", state -> state.zkNetPolicy())
+                .barrier("zkManualRollingUpdate", state -> state.zkManualRollingUpdate())
+                .barrier("zkVersionChange", state -> state.zkVersionChange())
+                .step("zookeeperServiceAccount", Set.of(), Set.of("zkServiceAccount"), state -> state.zookeeperServiceAccount())
+                .step("zkPvcs", Set.of(), Set.of("zkPvcs", "fsResizingRestartRequest"), state -> state.zkPvcs())
+                .step("zkService", Set.of(), Set.of("zkService"), state -> state.zkService())
+                .step("zkHeadlessService", Set.of(), Set.of("zkHeadlessService"), state -> state.zkHeadlessService())
+                .step("zkGenerateCertificates", Set.of(), Set.of("zkCertificates"), state -> state.zkGenerateCertificates(this::dateSupplier))
+                .step("zkAncillaryCm", Set.of(), Set.of("zkAncillaryCm"), state -> state.zkAncillaryCm())
+                .step("zkNodesSecret", Set.of("zkCertificates"), Set.of("zkNodesSecret"), state -> state.zkNodesSecret())
+                .step("zkPodDisruptionBudget", Set.of(), Set.of("zkPodDisruptionBudget"), state -> state.zkPodDisruptionBudget())
+                .barrier("zkStatefulSet", state -> state.zkStatefulSet())
+                .barrier("zkScalingDown", state -> state.zkScalingDown())
+                .barrier("zkRollingUpdate", state -> state.zkRollingUpdate())
+                .barrier("zkPodsReady", state -> state.zkPodsReady())
+                .barrier("zkScalingUp", state -> state.zkScalingUp())
+                .barrier("zkScalingCheck", state -> state.zkScalingCheck())
+                .barrier("zkServiceEndpointReadiness", state -> state.zkServiceEndpointReadiness())
+                .barrier("zkHeadlessServiceEndpointReadiness", state -> state.zkHeadlessServiceEndpointReadiness())
+                .barrier("zkPersistentClaimDeletion", state -> state.zkPersistentClaimDeletion())
+
+                .barrier("checkKafkaSpec", state -> state.checkKafkaSpec())
+                .barrier("kafkaModelWarnings", state -> state.kafkaModelWarnings())
+                .barrier("kafkaManualPodCleaning", state -> state.kafkaManualPodCleaning())
+                .barrier("kafkaNetPolicy", state -> state.kafkaNetPolicy())
+                .barrier("kafkaManualRollingUpdate", state -> state.kafkaManualRollingUpdate())
+                .barrier("kafkaPvcs", state -> state.kafkaPvcs())
+                .barrier("kafkaInitServiceAccount", state -> state.kafkaInitServiceAccount())
+                .barrier("kafkaInitClusterRoleBinding", state -> state.kafkaInitClusterRoleBinding())
+                .barrier("kafkaScaleDown", state -> state.kafkaScaleDown())
+                .barrier("kafkaServices", state -> state.kafkaServices())
+                .barrier("kafkaRoutes", state -> state.kafkaRoutes())
+                .barrier("kafkaIngresses", state -> state.kafkaIngresses())
+                .barrier("kafkaIngressesV1Beta1", state -> state.kafkaIngressesV1Beta1())
+                .barrier("kafkaInternalServicesReady", state -> state.kafkaInternalServicesReady())
+                .barrier("kafkaLoadBalancerServicesReady", state -> state.kafkaLoadBalancerServicesReady())
+                .barrier("kafkaNodePortServicesReady", state -> state.kafkaNodePortServicesReady())
+                .barrier("kafkaRoutesReady", state -> state.kafkaRoutesReady())
+                .barrier("kafkaIngressesReady", state -> state.kafkaIngressesReady())
+                .barrier("kafkaIngressesV1Beta1Ready", state -> state.kafkaIngressesV1Beta1Ready())
+                .barrier("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier))
+                .barrier("customListenerCertificates", state -> state.customListenerCertificates())
+                .barrier("kafkaAncillaryCm", state -> state.kafkaAncillaryCm())
+                .barrier("kafkaBrokersSecret", state -> state.kafkaBrokersSecret())
+                .barrier("kafkaJmxSecret", state -> state.kafkaJmxSecret())
+                .barrier("kafkaPodDisruptionBudget", state -> state.kafkaPodDisruptionBudget())
+                .barrier("kafkaStatefulSet", state -> state.kafkaStatefulSet())
+                .barrier("kafkaRollToAddOrRemoveVolumes", state -> state.kafkaRollToAddOrRemoveVolumes())
+                .barrier("kafkaRollingUpdate", state -> state.kafkaRollingUpdate())
+                .barrier("kafkaScaleUp", state -> state.kafkaScaleUp())
+                .barrier("kafkaPodsReady", state -> state.kafkaPodsReady())
+                .barrier("kafkaServiceEndpointReady", state -> state.kafkaServiceEndpointReady())
+                .barrier("kafkaHeadlessServiceEndpointReady", state -> state.kafkaHeadlessServiceEndpointReady())
+                .barrier("kafkaGetClusterId", state -> state.kafkaGetClusterId())
+                .barrier("kafkaPersistentClaimDeletion", state -> state.kafkaPersistentClaimDeletion())
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.checkUnsupportedTopicOperator())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .barrier("kafkaNodePortExternalListenerStatus", state -> state.kafkaNodePortExternalListenerStatus())
+                .barrier("kafkaCustomCertificatesToStatus", state -> state.kafkaCustomCertificatesToStatus())
+
+                .barrier("checkUnsupportedTopicOperator", state -> state.checkUnsupportedTopicOperator())
+
+                .step("getEntityOperatorDescription", Set.of(), Set.of("entityOperator"), state -> state.getEntityOperatorDescription())
+                .step("entityOperatorRole", Set.of("entityOperator"), Set.of("eoRole"), state -> state.entityOperatorRole())
+                .step("entityTopicOperatorRole", Set.of("entityOperator"), Set.of("eoTopicOperatorRole"), state -> state.entityTopicOperatorRole())
+                .step("entityUserOperatorRole", Set.of("entityOperator"), Set.of("eoUserOperatorRole"), state -> state.entityUserOperatorRole())
+                .step("entityOperatorServiceAccount", Set.of("entityOperator"), Set.of("eoServiceAccount"), state -> state.entityOperatorServiceAccount())
+                .step("entityOperatorTopicOpRoleBindingForRole", Set.of("entityOperator", "eoRole", "eoTopicOperatorRole"), Set.of("eoTopicOperatorRoleBinding"), state -> state.entityOperatorTopicOpRoleBindingForRole())
+                .step("entityOperatorUserOpRoleBindingForRole", Set.of("entityOperator", "eoRole", "eoUserOperatorRole"), Set.of("eoUserOperatorRoleBinding"), state -> state.entityOperatorUserOpRoleBindingForRole())
+                .step("entityOperatorTopicOpAncillaryCm", Set.of("entityOperator"), Set.of("eoTopicOperatorAncillaryCm"), state -> state.entityOperatorTopicOpAncillaryCm())
+                .step("entityOperatorUserOpAncillaryCm", Set.of("entityOperator"), Set.of("eoUserOperatorAncillaryCm"), state -> state.entityOperatorUserOpAncillaryCm())
+                .step("entityOperatorSecret", Set.of("entityOperator"), Set.of("eoSecret"), state -> state.entityOperatorSecret(this::dateSupplier))
+                .step("entityOperatorDeployment",
+                        Set.of("entityOperator", "eoServiceAccount", "eoTopicOperatorRoleBinding", "eoUserOperatorRoleBinding", "eoTopicOperatorAncillaryCm", "eoUserOperatorAncillaryCm", "eoSecret"),
+                        Set.of("eoDeployment"),
+                        state -> state.entityOperatorDeployment())
+                .step("entityOperatorReady", Set.of("eoDeployment"), Set.of(), state -> state.entityOperatorReady())
+
+                .step("getCruiseControlDescription", Set.of(), Set.of("cruiseControl"), state -> state.getCruiseControlDescription())
+                .step("cruiseControlNetPolicy", Set.of("cruiseControl"), Set.of("ccNetPolicy"), state -> state.cruiseControlNetPolicy())
+                .step("cruiseControlServiceAccount", Set.of("cruiseControl"), Set.of("ccServiceAccount"), state -> state.cruiseControlServiceAccount())
+                .step("cruiseControlAncillaryCm", Set.of("cruiseControl"), Set.of("ccAncillaryCm"), state -> state.cruiseControlAncillaryCm())
+                .step("cruiseControlSecret", Set.of("cruiseControl"), Set.of("ccSecret"), state -> state.cruiseControlSecret(this::dateSupplier))
+                .step("cruiseControlDeployment",
+                        Set.of("cruiseControl", "ccNetPolicy", "ccServiceAccount", "ccAncillaryCm", "ccSecret"),
+                        Set.of("ccDeployment"),
+                        state -> state.cruiseControlDeployment())
+                .step("cruiseControlService", Set.of("cruiseControl"), Set.of("ccService"), state -> state.cruiseControlService())
+                .step("cruiseControlReady", Set.of("ccDeployment", "ccService"), Set.of(), state -> state.cruiseControlReady())
+
+                .step("getKafkaExporterDescription", Set.of(), Set.of("kafkaExporter"), state -> state.getKafkaExporterDescription())
+                .step("kafkaExporterServiceAccount", Set.of("kafkaExporter"), Set.of("keServiceAccount"), state -> state.kafkaExporterServiceAccount())
+                .step("kafkaExporterSecret", Set.of("kafkaExporter"), Set.of("keSecret"), state -> state.kafkaExporterSecret(this::dateSupplier))
+                .step("kafkaExporterDeployment", Set.of("kafkaExporter", "keServiceAccount", "keSecret"), Set.of("keDeployment"), state -> state.kafkaExporterDeployment())
+                .step("kafkaExporterReady", Set.of("keDeployment"), Set.of(), state -> state.kafkaExporterReady())
+
+                .step("getJmxTransDescription", Set.of(), Set.of("jmxTrans"), state -> state.getJmxTransDescription())
+                .step("jmxTransServiceAccount", Set.of("jmxTrans"), Set.of("jmxTransServiceAccount"), state -> state.jmxTransServiceAccount())
+                .step("jmxTransConfigMap", Set.of("jmxTrans"), Set.of("jmxTransConfigMap"), state -> state.jmxTransConfigMap())
+                .step("jmxTransDeployment", Set.of("jmxTrans", "jmxTransServiceAccount", "jmxTransConfigMap"), Set.of("jmxTransDeployment"), state -> state.jmxTransDeployment())
+                .step("jmxTransDeploymentReady", Set.of("jmxTransDeployment"), Set.of(), state -> state.jmxTransDeploymentReady());
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -581,7 +724,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerPools.crypto(vertx).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -635,6 +778,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 ModelUtils.getRenewalDays(clusterCaConfig),
                                 clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(),
                                 clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                        this.clusterCa.setCertIssuance(WorkerPools.certIssuance(), certIssuanceTimer);
                         clusterCa.createRenewOrReplace(
                                 reconciliation.namespace(), reconciliation.name(), caLabels.toMap(),
                                 clusterCaCertLabels, clusterCaCertAnnotations,
@@ -739,6 +883,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
                             kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                            .withAvailabilityCheckTimer(availabilityCheckTimer)
+                            .withMaxConcurrentRestarts(maxConcurrentKafkaRestarts)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1107,6 +1253,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
                         kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
+                    .withAvailabilityCheckTimer(availabilityCheckTimer)
+                    .withMaxConcurrentRestarts(maxConcurrentKafkaRestarts)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -1413,7 +1561,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> zkGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerPools.crypto(vertx).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         zkCluster.generateCertificates(kafkaAssembly, clusterCa, isMaintenanceTimeWindowsSatisfied(dateSupplier));
@@ -1741,7 +1889,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(compositeFuture -> {
                     log.debug("{}: Attempt to get clusterId", reconciliation);
                     Promise<ReconciliationState> resultPromise = Promise.promise();
-                    vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+                    WorkerPools.kafkaAdmin(vertx).<ReconciliationState>executeBlocking(
                         future -> {
                             Admin kafkaAdmin = null;
                             try {
@@ -2302,7 +2450,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
             Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            WorkerPools.crypto(vertx).<ReconciliationState>executeBlocking(
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -2872,7 +3020,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             Pod deletion = podOperations.get(namespace, podName);
                             log.trace("Checking if Pod {} in namespace {} has been deleted or recreated", podName, namespace);
                             return deletion == null;
-                        });
+                        }, Objects::isNull);
 
                         return waitForDeletion;
                     })
@@ -2887,11 +3035,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                             log.debug("{}: Checking if PVC {} for Pod {} has been deleted", reconciliation, pvcName, podName);
 
+                            Predicate<PersistentVolumeClaim> deleted = deletion -> deletion == null || (deletion.getMetadata() != null && !uid.equals(deletion.getMetadata().getUid()));
                             Future<Void> waitForDeletion = pvcOperations.waitFor(namespace, pvcName, "deleted", pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
                                 PersistentVolumeClaim deletion = pvcOperations.get(namespace, pvcName);
                                 log.trace("Checking if {} {} in namespace {} has been deleted", pvc.getKind(), pvcName, namespace);
-                                return deletion == null || (deletion.getMetadata() != null && !uid.equals(deletion.getMetadata().getUid()));
-                            });
+                                return deleted.test(deletion);
+                            }, deleted);
 
                             waitForDeletionResults.add(waitForDeletion);
                         }
@@ -3294,7 +3443,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         private final Future<ReconciliationState> getCruiseControlDescription() {
             CruiseControl cruiseControl = CruiseControl.fromCrd(kafkaAssembly, versions);
             if (cruiseControl != null) {
-                Util.metricsAndLogging(configMapOperations, kafkaAssembly.getMetadata().getNamespace(),
+                return Util.metricsAndLogging(configMapOperations, kafkaAssembly.getMetadata().getNamespace(),
                         cruiseControl.getLogging(), cruiseControl.getMetricsConfigInCm())
                         .compose(metricsAndLogging -> {
                             ConfigMap logAndMetricsConfigMap = cruiseControl.generateMetricsAndLogConfigMap(metricsAndLogging);
@@ -111,7 +111,8 @@ public interface KafkaConnectApi {
     Future<Void> resume(String host, int port, String connectorName);
 
     /**
-     * Make a {@code GET} request to {@code /connectors}
+     * Make a {@code GET} request to {@code /connectors}. Implementations may keep a short-lived snapshot of the
+     * returned connectors which is used by the following requests for the config or status of the same connectors.
      * @param host The host to make the request to.
      * @param port The port to make the request to.
      * @return A Future which completes with the result of the request. If the request was successful,
@@ -6,20 +6,23 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,12 +31,18 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 
@@ -48,11 +57,73 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<Map<String, Map<String, List<String>>>>() {
     };
+    private static final String HTTP_CLIENT_NAME = "kafka-connect";
+    private static final HttpClientOptions HTTP_CLIENT_OPTIONS = HttpClientPool.pooledOptions(
+            HttpClientPool.DEFAULT_MAX_CONNECTIONS_PER_HOST, HttpClientPool.DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS, false)
+            .setLogActivity(true);
+    private static final Pattern CONNECTOR_PATH = Pattern.compile("^/connectors/[^/]+");
+    private static final Pattern TASK_PATH = Pattern.compile("/tasks/[^/]+");
+    private static final Pattern LOGGER_PATH = Pattern.compile("^/admin/loggers/.+");
+    /**
+     * Maximum age of the connector snapshot taken by {@link #list(String, int)}. Older snapshots are not used anymore.
+     */
+    private static final long SNAPSHOT_MAX_AGE_MS = 30_000L;
+    /**
+     * Maximum number of connectors for which the config and status are fetched in parallel when the Connect cluster
+     * does not support the expanded listing of the connectors
+     */
+    private static final int SNAPSHOT_FETCH_PARALLELISM = HttpClientPool.DEFAULT_MAX_CONNECTIONS_PER_HOST;
+
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final MetricsProvider metrics;
+    private final Map<String, ConnectorsSnapshot> snapshots = new ConcurrentHashMap<>();
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider used for the HTTP request metrics. Can be null.
+     */
+    public KafkaConnectApiImpl(Vertx vertx, MetricsProvider metrics) {
         this.vertx = vertx;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Perform the given operation using the pooled HTTP client for Kafka Connect
+     *
+     * @param path      Path of the request (used to determine the endpoint for the metrics)
+     * @param operation The operation to perform
+     * @param <T>       The type of the result
+     *
+     * @return  A future which is completed with the result performed by the operation
+     */
+    private <T> Future<T> withHttpClient(String path, BiConsumer<HttpClient, Promise<T>> operation) {
+        return HttpClientPool.forVertx(vertx, metrics).withHttpClient(HTTP_CLIENT_NAME, HTTP_CLIENT_OPTIONS, endpoint(path), operation);
+    }
+
+    /**
+     * Replaces the parts of the request path which are specific to the individual connectors, tasks or loggers with
+     * placeholders.
+     *
+     * @param path  Path of the request
+     *
+     * @return  Endpoint used in the metrics
+     */
+    /* test */ static String endpoint(String path) {
+        int query = path.indexOf('?');
+        String endpoint = query >= 0 ? path.substring(0, query) : path;
+
+        endpoint = CONNECTOR_PATH.matcher(endpoint).replaceFirst("/connectors/{connector}");
+        endpoint = TASK_PATH.matcher(endpoint).replaceFirst("/tasks/{task}");
+        endpoint = LOGGER_PATH.matcher(endpoint).replaceFirst("/admin/loggers/{logger}");
+
+        return endpoint;
     }
 
     @Override
@@ -60,10 +131,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, Object>> createOrUpdatePutRequest(
             String host, int port,
             String connectorName, JsonObject configJson) {
+        invalidateSnapshot(host, port, connectorName);
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -105,6 +177,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, Object>> getConnector(
             String host, int port,
             String connectorName) {
+        ConnectorState state = snapshotState(host, port, connectorName);
+        if (state != null && state.info != null) {
+            return Future.succeededFuture(state.info);
+        }
+
         return doGet(host, port, String.format("/connectors/%s", connectorName),
                 new HashSet<>(asList(200, 201)),
                 TREE_TYPE);
@@ -112,7 +189,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         log.debug("Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -151,6 +228,15 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> getConnectorConfig(
             String host, int port,
             String connectorName) {
+        ConnectorState state = snapshotState(host, port, connectorName);
+        if (state != null) {
+            return Future.succeededFuture(new HashMap<>(state.config));
+        }
+
+        return fetchConnectorConfig(host, port, connectorName);
+    }
+
+    private Future<Map<String, String>> fetchConnectorConfig(String host, int port, String connectorName) {
         return doGet(host, port, String.format("/connectors/%s/config", connectorName),
                 new HashSet<>(asList(200, 201)),
                 MAP_OF_STRINGS);
@@ -164,8 +250,9 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         String path = "/connectors/" + connectorName;
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -262,6 +349,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Map<String, Object>> status(String host, int port, String connectorName) {
+        ConnectorState state = snapshotState(host, port, connectorName);
+        if (state != null) {
+            return Future.succeededFuture(state.status);
+        }
+
         return status(host, port, connectorName, Collections.singleton(200));
     }
 
@@ -273,16 +365,18 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> pause(String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         return pauseResume(host, port, "/connectors/" + connectorName + "/pause");
     }
 
     @Override
     public Future<Void> resume(String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         return pauseResume(host, port, "/connectors/" + connectorName + "/resume");
     }
 
     private Future<Void> pauseResume(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -307,10 +401,66 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    /**
+     * Lists the connectors and takes a snapshot of their info and status. The snapshot is used by the following calls
+     * to {@link #getConnector(String, int, String)}, {@link #getConnectorConfig(String, int, String)} and
+     * {@link #status(String, int, String)} instead of requesting the same information for each connector separately.
+     * The connector is removed from the snapshot when it is changed through this client, so that it is not used after
+     * the change.
+     *
+     * The snapshot is fetched in a single request using the {@code expand} query parameter. When the Connect cluster
+     * does not support it, the config and status of the connectors are fetched with a limited parallelism instead.
+     * This takes 1 + 2N requests for N connectors. That is the same number of requests the reconciliations of the
+     * connectors would make without the snapshot, but they are made while listing the connectors.
+     *
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     *
+     * @return A Future which completes with the list of connectors.
+     */
     @Override
     public Future<List<String>> list(String host, int port) {
-        String path = "/connectors";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        long timestampNanos = System.nanoTime();
+
+        return listExpanded(host, port)
+                .compose(connectors -> {
+                    ConnectorsSnapshot snapshot = new ConnectorsSnapshot(timestampNanos);
+                    List<String> connectorNames = new ArrayList<>(connectors.size());
+
+                    if (connectors.isObject()) {
+                        connectors.fields().forEachRemaining(connector -> {
+                            connectorNames.add(connector.getKey());
+
+                            ConnectorState state = connectorState(connector.getValue());
+                            if (state != null) {
+                                snapshot.connectors.put(connector.getKey(), state);
+                            }
+                        });
+
+                        snapshots.put(snapshotKey(host, port), snapshot);
+                        return Future.succeededFuture(connectorNames);
+                    } else {
+                        // Older Connect versions ignore the expand parameter and return just the connector names
+                        for (JsonNode connector : connectors) {
+                            if (!connector.isTextual()) {
+                                return Future.failedFuture(connector.getNodeType().toString());
+                            }
+
+                            connectorNames.add(connector.textValue());
+                        }
+
+                        return fetchConnectorStates(host, port, connectorNames, snapshot)
+                                .map(ignored -> {
+                                    snapshots.put(snapshotKey(host, port), snapshot);
+                                    return connectorNames;
+                                });
+                    }
+                });
+    }
+
+    private Future<JsonNode> listExpanded(String host, int port) {
+        String path = "/connectors?expand=status&expand=info";
+        return withHttpClient(path, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -320,16 +470,16 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                             if (response.succeeded()) {
                                 if (response.result().statusCode() == 200) {
                                     response.result().bodyHandler(buffer -> {
-                                        JsonArray objects = buffer.toJsonArray();
-                                        List<String> list = new ArrayList<>(objects.size());
-                                        for (Object o : objects) {
-                                            if (o instanceof String) {
-                                                list.add((String) o);
+                                        try {
+                                            JsonNode connectors = mapper.readTree(buffer.getBytes());
+                                            if (connectors.isObject() || connectors.isArray()) {
+                                                result.complete(connectors);
                                             } else {
-                                                result.fail(o == null ? "null" : o.getClass().getName());
+                                                result.fail(connectors.getNodeType().toString());
                                             }
+                                        } catch (IOException e) {
+                                            result.fail(new ConnectRestException(response.result(), "Could not deserialize response: " + e));
                                         }
-                                        result.complete(list);
                                     });
                                 } else {
                                     result.fail(new ConnectRestException(response.result(), "Unexpected status code"));
@@ -344,10 +494,88 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    private ConnectorState connectorState(JsonNode connector) {
+        Map<String, Object> info = mapper.convertValue(connector.get("info"), TREE_TYPE);
+        Map<String, String> config = mapper.convertValue(connector.path("info").get("config"), MAP_OF_STRINGS);
+        Map<String, Object> status = mapper.convertValue(connector.get("status"), TREE_TYPE);
+
+        if (info == null || config == null || status == null) {
+            // Connector which is just being created or deleted => it will be fetched when needed
+            return null;
+        }
+
+        return new ConnectorState(info, config, status);
+    }
+
+    private Future<Void> fetchConnectorStates(String host, int port, List<String> connectorNames, ConnectorsSnapshot snapshot) {
+        AtomicInteger next = new AtomicInteger();
+        @SuppressWarnings({"rawtypes"})
+        List<Future> fetchers = new ArrayList<>(SNAPSHOT_FETCH_PARALLELISM);
+
+        for (int i = 0; i < Math.min(SNAPSHOT_FETCH_PARALLELISM, connectorNames.size()); i++) {
+            Promise<Void> fetcher = Promise.promise();
+            fetchNextConnectorState(host, port, connectorNames, next, snapshot, fetcher);
+            fetchers.add(fetcher.future());
+        }
+
+        return CompositeFuture.join(fetchers).mapEmpty();
+    }
+
+    private void fetchNextConnectorState(String host, int port, List<String> connectorNames, AtomicInteger next, ConnectorsSnapshot snapshot, Promise<Void> fetcher) {
+        int index = next.getAndIncrement();
+
+        if (index >= connectorNames.size()) {
+            fetcher.complete();
+            return;
+        }
+
+        String connectorName = connectorNames.get(index);
+        Future<Map<String, String>> config = fetchConnectorConfig(host, port, connectorName);
+        Future<Map<String, Object>> status = status(host, port, connectorName, Collections.singleton(200));
+
+        CompositeFuture.join(config, status)
+                .onComplete(res -> {
+                    if (res.succeeded()) {
+                        snapshot.connectors.put(connectorName, new ConnectorState(null, config.result(), status.result()));
+                    } else {
+                        // The connector is not part of the snapshot and will be fetched again when needed
+                        log.debug("Failed to get config and status of connector {}", connectorName, res.cause());
+                    }
+
+                    fetchNextConnectorState(host, port, connectorNames, next, snapshot, fetcher);
+                });
+    }
+
+    private static String snapshotKey(String host, int port) {
+        return host + ":" + port;
+    }
+
+    private ConnectorState snapshotState(String host, int port, String connectorName) {
+        String key = snapshotKey(host, port);
+        ConnectorsSnapshot snapshot = snapshots.get(key);
+
+        if (snapshot == null) {
+            return null;
+        } else if (System.nanoTime() - snapshot.timestampNanos > TimeUnit.MILLISECONDS.toNanos(SNAPSHOT_MAX_AGE_MS)) {
+            snapshots.remove(key, snapshot);
+            return null;
+        }
+
+        return snapshot.connectors.get(connectorName);
+    }
+
+    private void invalidateSnapshot(String host, int port, String connectorName) {
+        ConnectorsSnapshot snapshot = snapshots.get(snapshotKey(host, port));
+
+        if (snapshot != null) {
+            snapshot.connectors.remove(connectorName);
+        }
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         String path = "/connector-plugins";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -381,7 +609,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         log.debug("Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return withHttpClient(path, (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -415,7 +643,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(String host, int port) {
         String path = "/admin/loggers/";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -533,16 +761,18 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Void> restart(String host, int port, String connectorName) {
+        invalidateSnapshot(host, port, connectorName);
         return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/restart");
     }
 
     @Override
     public Future<Void> restartTask(String host, int port, String connectorName, int taskID) {
+        invalidateSnapshot(host, port, connectorName);
         return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/tasks/" + taskID + "/restart");
     }
 
     private Future<Void> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -570,7 +800,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> getConnectorTopics(String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return withHttpClient(path, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -603,4 +833,32 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }
             }));
     }
+
+    /**
+     * Info and status of the connectors of a single Connect cluster at given time
+     */
+    private static class ConnectorsSnapshot {
+        private final long timestampNanos;
+        private final Map<String, ConnectorState> connectors = new ConcurrentHashMap<>();
+
+        ConnectorsSnapshot(long timestampNanos) {
+            this.timestampNanos = timestampNanos;
+        }
+    }
+
+    /**
+     * Info (if available), config and status of a single connector
+     */
+    private static class ConnectorState {
+        private final Map<String, Object> info;
+        private final Map<String, String> config;
+        private final Map<String, Object> status;
+
+        ConnectorState(Map<String, Object> info, Map<String, String> config, Map<String, Object> status) {
+            // The info and status are returned to all readers of the snapshot, so they cannot be modified
+            this.info = info != null ? Collections.unmodifiableMap(info) : null;
+            this.config = config;
+            this.status = Collections.unmodifiableMap(status);
+        }
+    }
 }
@@ -36,6 +36,7 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOpti
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.NamespaceFilteringWatcher;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
@@ -164,7 +165,7 @@ public class KafkaRebalanceAssemblyOperator
      * @return Cruise Control API client instance
      */
     protected CruiseControlApi cruiseControlClientProvider() {
-        return new CruiseControlApiImpl(vertx);
+        return new CruiseControlApiImpl(vertx, metrics);
     }
 
     /**
@@ -185,9 +186,20 @@ public class KafkaRebalanceAssemblyOperator
      * @return A future which completes when the watch has been set up.
      */
     public Future<Void> createRebalanceWatch(String watchNamespaceOrWildcard) {
+        return createRebalanceWatch(Collections.singleton(watchNamespaceOrWildcard));
+    }
+
+    /**
+     * Create a single watch on {@code KafkaRebalance} shared by the given {@code namespaces}. When more than one
+     * namespace is watched, the watch is opened in all namespaces and the resources from other namespaces are ignored.
+     *
+     * @param namespaces The namespaces to watch.
+     * @return A future which completes when the watch has been set up.
+     */
+    public Future<Void> createRebalanceWatch(Set<String> namespaces) {
 
         return Util.async(this.vertx, () -> {
-            kafkaRebalanceOperator.watch(watchNamespaceOrWildcard, selector(), new Watcher<KafkaRebalance>() {
+            kafkaRebalanceOperator.watch(NamespaceFilteringWatcher.watchNamespace(namespaces), selector(), NamespaceFilteringWatcher.forNamespaces(namespaces, new Watcher<KafkaRebalance>() {
                 @Override
                 public void eventReceived(Action action, KafkaRebalance kafkaRebalance) {
                     Reconciliation reconciliation = new Reconciliation("kafkarebalance-watch", kafkaRebalance.getKind(),
@@ -209,7 +221,7 @@ public class KafkaRebalanceAssemblyOperator
                     }
                 }
 
-            });
+            }));
             return null;
         });
     }
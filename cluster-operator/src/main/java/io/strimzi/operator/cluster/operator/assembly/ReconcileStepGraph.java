@@ -0,0 +1,298 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Executes the steps of a reconciliation as a dependency graph. Each step declares the names of the things it reads
+ * and writes (for example the parts of the reconciliation state or the Kubernetes resources it manages). A step
+ * depends on every earlier step it conflicts with - i.e. when one of them writes something the other one reads or
+ * writes. Steps which do not depend on each other are executed concurrently.
+ *
+ * Barrier steps (for example rolling updates or readiness waits) depend on all earlier steps and all later steps
+ * depend on them. When the graph is not parallel, every step is treated as a barrier and the steps are executed
+ * one after another in the order in which they were added.
+ *
+ * If any step fails, no further steps are started and the execution fails with the cause of the first failure once
+ * all steps which are already running complete.
+ *
+ * @param <S>   Type of the reconciliation state passed to the steps
+ */
+public class ReconcileStepGraph<S> {
+    private static final Logger log = LogManager.getLogger(ReconcileStepGraph.class.getName());
+
+    private final String kind;
+    private final boolean parallel;
+    private final MetricsProvider metrics;
+    private final List<Step<S>> steps = new ArrayList<>();
+    private int lastBarrier = -1;
+
+    /**
+     * Constructs the step graph
+     *
+     * @param kind      Kind of the reconciled resource (used for metrics)
+     * @param parallel  When true, independent steps are executed concurrently. When false, all steps are executed
+     *                  in sequence.
+     * @param metrics   Metrics provider used to create the per-step timers
+     */
+    public ReconcileStepGraph(String kind, boolean parallel, MetricsProvider metrics) {
+        this.kind = kind;
+        this.parallel = parallel;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a step which can run concurrently with other steps it does not conflict with.
+     *
+     * @param name      Name of the step (used for logging and metrics)
+     * @param reads     Names of the things this step reads
+     * @param writes    Names of the things this step writes
+     * @param action    The step itself
+     *
+     * @return  This graph
+     */
+    public ReconcileStepGraph<S> step(String name, Set<String> reads, Set<String> writes, Function<S, Future<S>> action) {
+        if (!parallel) {
+            return barrier(name, action);
+        }
+
+        Set<Integer> dependencies = new HashSet<>();
+
+        if (lastBarrier >= 0) {
+            dependencies.add(lastBarrier);
+        }
+
+        for (int i = lastBarrier + 1; i < steps.size(); i++) {
+            if (steps.get(i).conflictsWith(reads, writes)) {
+                dependencies.add(i);
+            }
+        }
+
+        addStep(new Step<>(name, reads, writes, action, dependencies, timer(name)));
+        return this;
+    }
+
+    /**
+     * Adds a barrier step. The barrier step is executed only after all previously added steps completed and all
+     * steps added later are executed only after the barrier completes.
+     *
+     * @param name      Name of the step (used for logging and metrics)
+     * @param action    The step itself
+     *
+     * @return  This graph
+     */
+    public ReconcileStepGraph<S> barrier(String name, Function<S, Future<S>> action) {
+        Set<Integer> dependencies = new HashSet<>();
+
+        for (int i = Math.max(lastBarrier, 0); i < steps.size(); i++) {
+            dependencies.add(i);
+        }
+
+        addStep(new Step<>(name, Collections.emptySet(), Collections.emptySet(), action, dependencies, timer(name)));
+        lastBarrier = steps.size() - 1;
+        return this;
+    }
+
+    private void addStep(Step<S> step) {
+        int index = steps.size();
+        steps.add(step);
+
+        for (int dependency : step.dependencies) {
+            steps.get(dependency).dependents.add(index);
+        }
+    }
+
+    private Timer timer(String name) {
+        return metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration",
+                "The time the individual reconciliation step takes to complete",
+                Tags.of(Tag.of("kind", kind), Tag.of("step", name)));
+    }
+
+    /**
+     * Executes the steps of this graph
+     *
+     * @param reconciliation    Reconciliation marker (used for logging)
+     * @param state             Reconciliation state passed to all steps
+     *
+     * @return  Future which completes with the state when all steps completed or fails when any of the steps failed
+     */
+    public Future<S> execute(Reconciliation reconciliation, S state) {
+        return new Execution(reconciliation, state).start();
+    }
+
+    /**
+     * Single execution of the step graph
+     */
+    private class Execution {
+        private final Reconciliation reconciliation;
+        private final S state;
+        private final Promise<S> result = Promise.promise();
+        private final int[] pendingDependencies;
+        private final boolean[] started;
+        private int completed = 0;
+        private int running = 0;
+        private Throwable failure = null;
+        private boolean scheduling = false;
+        private boolean rescheduleNeeded = false;
+
+        Execution(Reconciliation reconciliation, S state) {
+            this.reconciliation = reconciliation;
+            this.state = state;
+            this.pendingDependencies = new int[steps.size()];
+            this.started = new boolean[steps.size()];
+
+            for (int i = 0; i < steps.size(); i++) {
+                pendingDependencies[i] = steps.get(i).dependencies.size();
+            }
+        }
+
+        synchronized Future<S> start() {
+            schedule();
+            return result.future();
+        }
+
+        /**
+         * Starts all steps which are ready to run in the order in which they were added to the graph. Steps which
+         * complete synchronously might call this method again while it is running. In such case the outer call will
+         * just run once more.
+         */
+        private void schedule() {
+            if (scheduling) {
+                rescheduleNeeded = true;
+                return;
+            }
+
+            scheduling = true;
+
+            do {
+                rescheduleNeeded = false;
+
+                for (int i = 0; i < steps.size() && failure == null; i++) {
+                    if (!started[i] && pendingDependencies[i] == 0) {
+                        run(i);
+                    }
+                }
+            } while (rescheduleNeeded);
+
+            scheduling = false;
+
+            if (running == 0 && (failure != null || completed == steps.size())) {
+                if (failure != null) {
+                    result.tryFail(failure);
+                } else {
+                    result.tryComplete(state);
+                }
+            }
+        }
+
+        private void run(int index) {
+            Step<S> step = steps.get(index);
+            started[index] = true;
+            running++;
+
+            log.trace("{}: Starting reconciliation step {}", reconciliation, step.name);
+            long startNanos = System.nanoTime();
+
+            Future<S> stepFuture;
+            try {
+                stepFuture = step.action.apply(state);
+            } catch (Throwable t) {
+                stepFuture = Future.failedFuture(t);
+            }
+
+            stepFuture.onComplete(res -> completed(index, res, startNanos));
+        }
+
+        private synchronized void completed(int index, AsyncResult<S> res, long startNanos) {
+            Step<S> step = steps.get(index);
+            step.timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            running--;
+
+            if (res.succeeded()) {
+                log.trace("{}: Reconciliation step {} completed", reconciliation, step.name);
+                completed++;
+
+                for (int dependent : step.dependents) {
+                    pendingDependencies[dependent]--;
+                }
+            } else {
+                log.debug("{}: Reconciliation step {} failed", reconciliation, step.name, res.cause());
+
+                if (failure == null) {
+                    failure = res.cause();
+                }
+            }
+
+            schedule();
+        }
+    }
+
+    /**
+     * Single step in the graph
+     *
+     * @param <S>   Type of the reconciliation state passed to the steps
+     */
+    private static class Step<S> {
+        private final String name;
+        private final Set<String> reads;
+        private final Set<String> writes;
+        private final Function<S, Future<S>> action;
+        private final Set<Integer> dependencies;
+        private final List<Integer> dependents = new ArrayList<>();
+        private final Timer timer;
+
+        Step(String name, Set<String> reads, Set<String> writes, Function<S, Future<S>> action, Set<Integer> dependencies, Timer timer) {
+            this.name = name;
+            this.reads = reads;
+            this.writes = writes;
+            this.action = action;
+            this.dependencies = dependencies;
+            this.timer = timer;
+        }
+
+        /**
+         * Checks whether a step with given reads and writes has to wait for this step
+         *
+         * @param otherReads    What the other step reads
+         * @param otherWrites   What the other step writes
+         *
+         * @return  True if the steps conflict and cannot run concurrently
+         */
+        boolean conflictsWith(Set<String> otherReads, Set<String> otherWrites) {
+            for (String write : writes) {
+                if (otherReads.contains(write) || otherWrites.contains(write)) {
+                    return true;
+                }
+            }
+
+            for (String read : reads) {
+                if (otherWrites.contains(read)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps long-lived HTTP clients used to talk to the REST APIs of the operands (such as Kafka Connect or Cruise
+ * Control). The clients are not closed after each request. The connections are kept alive and reused by the following
+ * requests to the same host. The number of connections per host is limited and idle connections are closed after the
+ * keep-alive timeout.
+ *
+ * The pool is shared by all users of the same Vert.x instance (see {@link #forVertx(Vertx, MetricsProvider)}). The
+ * duration of the requests is recorded per client and endpoint in the {@code strimzi_http_client_requests} timer when
+ * a metrics provider is given. Requests which do not complete within the request timeout are failed with a
+ * {@link TimeoutException}.
+ */
+public class HttpClientPool implements Shareable {
+    private static final String LOCAL_MAP_NAME = "strimzi.http.clients";
+
+    /**
+     * Default maximum number of connections to a single host
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 5;
+
+    /**
+     * Default time after which idle connections are closed. It is shorter than the default idle timeout of the Jetty
+     * based REST servers of Kafka Connect and Cruise Control (30 seconds), so that the connections are closed by the
+     * client before the server closes them.
+     */
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = 15;
+
+    /**
+     * Default timeout for opening a new connection
+     */
+    public static final int DEFAULT_CONNECT_TIMEOUT_MS = 10_000;
+
+    /**
+     * Default timeout for completing a request. Connections without any activity for this time are closed as well.
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT_MS = 120_000;
+
+    private final Vertx vertx;
+    private final MetricsProvider metrics;
+    private final long requestTimeoutMs;
+    private final ConcurrentHashMap<String, HttpClient> clients = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance used to create the HTTP clients
+     * @param metrics           Metrics provider used for the request metrics. Can be null.
+     * @param requestTimeoutMs  Timeout for completing a request
+     */
+    HttpClientPool(Vertx vertx, MetricsProvider metrics, long requestTimeoutMs) {
+        this.vertx = vertx;
+        this.metrics = metrics;
+        this.requestTimeoutMs = requestTimeoutMs;
+    }
+
+    /**
+     * Returns the HTTP client pool shared by all users of given Vert.x instance. The pool is created with the metrics
+     * provider given by the first caller.
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider used for the request metrics. Can be null.
+     *
+     * @return  The shared HTTP client pool
+     */
+    public static HttpClientPool forVertx(Vertx vertx, MetricsProvider metrics) {
+        return vertx.sharedData().<String, HttpClientPool>getLocalMap(LOCAL_MAP_NAME)
+                .computeIfAbsent(LOCAL_MAP_NAME, name -> new HttpClientPool(vertx, metrics, DEFAULT_REQUEST_TIMEOUT_MS));
+    }
+
+    /**
+     * Creates HTTP client options suitable for the pooled clients. New connections time out after
+     * {@link #DEFAULT_CONNECT_TIMEOUT_MS} and connections without any activity for {@link #DEFAULT_REQUEST_TIMEOUT_MS}
+     * are closed.
+     *
+     * @param maxConnectionsPerHost     Maximum number of connections to a single host
+     * @param keepAliveTimeoutSeconds   Time after which idle connections are closed
+     * @param pipelining                Enables HTTP pipelining
+     *
+     * @return  HTTP client options
+     */
+    public static HttpClientOptions pooledOptions(int maxConnectionsPerHost, int keepAliveTimeoutSeconds, boolean pipelining) {
+        return new HttpClientOptions()
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(keepAliveTimeoutSeconds)
+                .setMaxPoolSize(maxConnectionsPerHost)
+                .setPipelining(pipelining)
+                .setConnectTimeout(DEFAULT_CONNECT_TIMEOUT_MS)
+                .setIdleTimeout((int) TimeUnit.MILLISECONDS.toSeconds(DEFAULT_REQUEST_TIMEOUT_MS));
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client with given name. The
+     * client is created with the given options when it is used for the first time. The options are ignored
+     * afterwards.
+     *
+     * @param clientName    Name of the client (for example the name of the operand)
+     * @param options       Client options used when creating the client
+     * @param endpoint      Name of the called endpoint used for the metrics. It should not contain any parts of the
+     *                      request which are specific to the individual resources to keep the number of the metrics
+     *                      low.
+     * @param operation     The operation to perform
+     * @param <T>           The type of the result
+     *
+     * @return  A future which is completed with the result performed by the operation or failed with a
+     *          {@link TimeoutException} when the operation does not complete within the request timeout
+     */
+    public <T> Future<T> withHttpClient(String clientName, HttpClientOptions options, String endpoint, BiConsumer<HttpClient, Promise<T>> operation) {
+        HttpClient httpClient = clients.computeIfAbsent(clientName, name -> vertx.createHttpClient(options));
+        Timer timer = timer(clientName, endpoint);
+        long startNanos = System.nanoTime();
+
+        Promise<T> promise = Promise.promise();
+        long timerId = vertx.setTimer(requestTimeoutMs, id -> promise.tryFail(
+                new TimeoutException("Request to " + clientName + " endpoint " + endpoint + " did not complete within " + requestTimeoutMs + "ms")));
+
+        try {
+            operation.accept(httpClient, promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+
+        return promise.future()
+                .onComplete(ignored -> {
+                    vertx.cancelTimer(timerId);
+
+                    if (timer != null) {
+                        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private Timer timer(String clientName, String endpoint) {
+        if (metrics == null) {
+            return null;
+        }
+
+        return timers.computeIfAbsent(clientName + "::" + endpoint, key -> metrics.timer(AbstractOperator.METRICS_PREFIX + "http.client.requests",
+                "The time the HTTP requests to the operands take to complete",
+                Tags.of(Tag.of("client", clientName), Tag.of("endpoint", endpoint))));
+    }
+}
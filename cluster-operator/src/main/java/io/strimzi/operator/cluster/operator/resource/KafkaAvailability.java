@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
@@ -20,10 +22,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -31,28 +37,66 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * A single instance is used for all the brokers of a rolling update. The first check describes all the topics in the
+ * cluster. The following checks describe only the newly created topics and the topics with replicas on the checked
+ * broker, whose ISRs decide whether it can be rolled. While partition reassignments are in progress, the replica
+ * assignment of any topic might change, so all the topics are described again. A reassignment which starts and
+ * completes between two checks is not noticed, but its new replicas are already in sync when it completes.
+ * The {@code min.in.sync.replicas} configurations of the topics with replicas on the checked broker are described
+ * only when they were not described in the last {@link #MIN_ISR_MAX_AGE_MS} milliseconds.
+ *
+ * When several brokers are rolled at the same time, the brokers which are being rolled are not counted as in-sync
+ * replicas, even when they did not drop out of the ISR yet. Brokers with a rack are rolled only together with brokers
+ * from the same rack.
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
+    /**
+     * Maximum age of the described {@code min.in.sync.replicas} configurations. Older configurations are described again.
+     */
+    static final long MIN_ISR_MAX_AGE_MS = 30_000L;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final Timer checkTimer;
+
+    /**
+     * The last known descriptions of the topics in the cluster
+     */
+    private final Map<String, TopicDescription> descriptions = new ConcurrentHashMap<>();
+
+    private volatile boolean described = false;
+
+    /**
+     * The recently described {@code min.in.sync.replicas} of the topics
+     */
+    private final Map<String, MinIsr> minIsrs = new ConcurrentHashMap<>();
+
+    /**
+     * The racks of the brokers. Brokers without a rack are not included.
+     */
+    private volatile Map<Integer, String> racks;
 
     KafkaAvailability(Admin ac, Reconciliation reconciliation) {
+        this(ac, reconciliation, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param ac                Kafka Admin client
+     * @param reconciliation    The reconciliation
+     * @param checkTimer        Timer for recording the duration of the checks. Can be null.
+     */
+    KafkaAvailability(Admin ac, Reconciliation reconciliation, Timer checkTimer) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            log.debug("{}: Got {} topic names", reconciliation, names.size());
-            log.trace("{}: Topic names {}", reconciliation, names);
-            return describeTopics(names);
-        });
+        this.checkTimer = checkTimer;
     }
 
     /**
@@ -60,29 +104,72 @@ class KafkaAvailability {
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
     Future<Boolean> canRoll(int podId) {
-        log.debug("{}: Determining whether broker {} can be rolled", reconciliation, podId);
-        return canRollBroker(descriptions, podId);
+        return canRoll(podId, Collections.emptySet());
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("{}: Got {} topic descriptions", reconciliation, topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
+    /**
+     * Determine whether the given broker can be rolled together with the brokers which are being rolled right now
+     * without affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     *
+     * @param podId             The broker which should be rolled
+     * @param rollingBrokers    The brokers which are being rolled right now
+     *
+     * @return  Future which completes with true if the broker can be rolled and false otherwise
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> rollingBrokers) {
+        log.debug("{}: Determining whether broker {} can be rolled while brokers {} are being rolled", reconciliation, podId, rollingBrokers);
+        long start = System.nanoTime();
+        Future<Boolean> sameRack = rollingBrokers.isEmpty() ? Future.succeededFuture(true) : isInSameRack(podId, rollingBrokers);
+        return sameRack
+                .compose(inSameRack -> inSameRack ? canRollBroker(podId, rollingBrokers) : Future.succeededFuture(false))
+                .onComplete(ignored -> {
+                    if (checkTimer != null) {
+                        checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private Future<Boolean> isInSameRack(int podId, Set<Integer> rollingBrokers) {
+        Future<Map<Integer, String>> brokerRacks = racks != null ? Future.succeededFuture(racks) : brokerRacks().onSuccess(r -> racks = r);
+
+        return brokerRacks.map(r -> {
+            String rack = r.get(podId);
+            if (rack == null) {
+                // Without racks, only the ISRs decide which brokers can be rolled together
+                return true;
+            }
+
+            for (Integer rollingBroker : rollingBrokers) {
+                if (!rack.equals(r.get(rollingBroker))) {
+                    log.debug("{}: Broker {} in rack {} cannot be rolled together with broker {} in rack {}", reconciliation, podId, rack, rollingBroker, r.get(rollingBroker));
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> rollingBrokers) {
+        // 1. Refresh the descriptions of the topics on $broker
+        Future<Set<TopicDescription>> topicsOnGivenBroker = refreshDescriptions(podId)
+                .map(ignored -> {
+                    log.debug("{}: Got {} topic descriptions", reconciliation, descriptions.size());
+                    return groupTopicsByBroker(descriptions.values(), podId);
                 }).recover(error -> {
                     log.warn("{}: failed to get topic descriptions", reconciliation, error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // 2. Get topic configs (for those on $broker which were not described recently)
+        long nowNanos = System.nanoTime();
+        Future<Void> topicConfigsOnGivenBroker = topicsOnGivenBroker
+                .compose(td -> refreshMinIsrs(td.stream().map(t -> t.name()).filter(name -> !isMinIsrFresh(name, nowNanos)).collect(Collectors.toSet())));
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
+        // 3. join
+        return topicConfigsOnGivenBroker.map(ignored -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podId, rollingBrokers, minIsr(td.name()), td));
             if (!canRoll) {
                 log.debug("{}: Restart pod {} would remove it from ISR, stalling producers with acks=all", reconciliation, podId);
             }
@@ -93,20 +180,94 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+    /**
+     * Describes all topics when called for the first time or when partition reassignments are in progress.
+     * Otherwise, describes only the new topics and the topics with replicas on the given broker. The deleted topics
+     * are removed.
+     *
+     * @param podId     The broker which will be checked
+     *
+     * @return  Future which completes when the descriptions are refreshed
+     */
+    private Future<Void> refreshDescriptions(int podId) {
+        Future<Set<String>> topicNames = topicNames();
+        Future<Boolean> reassigning = described ? reassignmentsInProgress() : Future.succeededFuture(false);
+
+        return CompositeFuture.join(topicNames, reassigning).compose(ignored -> {
+            Set<String> names = topicNames.result();
+            log.debug("{}: Got {} topic names", reconciliation, names.size());
+            log.trace("{}: Topic names {}", reconciliation, names);
+
+            descriptions.keySet().retainAll(names);
+            minIsrs.keySet().retainAll(names);
+
+            Set<String> toDescribe = new HashSet<>(names);
+            if (described && !reassigning.result()) {
+                toDescribe.removeAll(descriptions.keySet());
+                for (TopicDescription td : groupTopicsByBroker(descriptions.values(), podId)) {
+                    toDescribe.add(td.name());
+                }
+            }
+
+            log.debug("{}: Describing {} of {} topics", reconciliation, toDescribe.size(), names.size());
+            if (toDescribe.isEmpty()) {
+                return Future.succeededFuture(Collections.<TopicDescription>emptyList());
+            } else {
+                return describeTopics(toDescribe);
+            }
+        }).map(tds -> {
+            for (TopicDescription td : tds) {
+                descriptions.put(td.name(), td);
+            }
+            described = true;
+            return null;
+        });
+    }
+
+    /**
+     * Checks whether any partition reassignments are in progress. When they cannot be listed, they are assumed to be
+     * in progress, so that all topics are described.
+     *
+     * @return  Future which completes with true if partitions are being reassigned and false otherwise
+     */
+    protected Future<Boolean> reassignmentsInProgress() {
+        Promise<Boolean> reassigningPromise = Promise.promise();
+        ac.listPartitionReassignments().reassignments()
+                .whenComplete((reassignments, error) -> {
+                    if (error != null) {
+                        log.debug("{}: Failed to list partition reassignments, all topics will be described", reconciliation, error);
+                        reassigningPromise.complete(true);
+                    } else {
+                        log.debug("{}: Got {} partition reassignments", reconciliation, reassignments.size());
+                        reassigningPromise.complete(!reassignments.isEmpty());
+                    }
+                });
+        return reassigningPromise.future();
+    }
+
+    private boolean isMinIsrFresh(String topicName, long nowNanos) {
+        MinIsr minIsr = minIsrs.get(topicName);
+        return minIsr != null && TimeUnit.NANOSECONDS.toMillis(nowNanos - minIsr.describedNanos) < MIN_ISR_MAX_AGE_MS;
+    }
+
+    private Integer minIsr(String topicName) {
+        MinIsr minIsr = minIsrs.get(topicName);
+        return minIsr != null ? minIsr.value : null;
+    }
+
+    private boolean wouldAffectAvailability(int broker, Set<Integer> rollingBrokers, Integer topicMinIsr, TopicDescription td) {
+        int minIsr = topicMinIsr != null ? topicMinIsr : -1;
+        if (minIsr >= 0) {
             log.debug("{}: {} has {}={}.", reconciliation, td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             log.debug("{}: {} lacks {}.", reconciliation, td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
         for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
+            // The brokers which are being rolled right now might still be in the ISR, but they will drop out of it
+            List<Node> isr = rollingBrokers.isEmpty() ? pi.isr() : pi.isr().stream()
+                    .filter(node -> !rollingBrokers.contains(node.id()))
+                    .collect(Collectors.toList());
             if (minIsr >= 0) {
                 if (pi.replicas().size() <= minIsr) {
                     log.debug("{}: {}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
@@ -151,6 +312,38 @@ class KafkaAvailability {
         return isr.stream().anyMatch(node -> node.id() == broker);
     }
 
+    private Future<Void> refreshMinIsrs(Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        long describedNanos = System.nanoTime();
+        return topicConfigs(topicNames).map(topicNameToConfig -> {
+            for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+                ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+                if (minIsrConfig != null && minIsrConfig.value() != null) {
+                    minIsrs.put(entry.getKey(), new MinIsr(parseInt(minIsrConfig.value()), describedNanos));
+                } else {
+                    minIsrs.put(entry.getKey(), new MinIsr(-1, describedNanos));
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * The {@code min.in.sync.replicas} of a topic (or -1 when the topic does not have it) and when it was described
+     */
+    private static class MinIsr {
+        private final int value;
+        private final long describedNanos;
+
+        MinIsr(int value, long describedNanos) {
+            this.value = value;
+            this.describedNanos = describedNanos;
+        }
+    }
+
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
         log.debug("{}: Getting topic configs for {} topics", reconciliation, topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
@@ -200,6 +393,26 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    protected Future<Map<Integer, String>> brokerRacks() {
+        Promise<Map<Integer, String>> racksPromise = Promise.promise();
+        ac.describeCluster().nodes()
+                .whenComplete((nodes, error) -> {
+                    if (error != null) {
+                        racksPromise.fail(error);
+                    } else {
+                        Map<Integer, String> brokerRacks = new HashMap<>(nodes.size());
+                        for (Node node : nodes) {
+                            if (node.hasRack()) {
+                                brokerRacks.put(node.id(), node.rack());
+                            }
+                        }
+                        log.debug("{}: Got racks of {} brokers", reconciliation, brokerRacks.size());
+                        racksPromise.complete(brokerRacks);
+                    }
+                });
+        return racksPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
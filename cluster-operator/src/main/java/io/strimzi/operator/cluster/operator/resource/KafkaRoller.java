@@ -36,6 +36,7 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.AdminClientProvider;
@@ -102,6 +103,12 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>By default, the pods are rolled one at a time. When {@link #withMaxConcurrentRestarts(int)} allows more
+ * concurrent restarts, a pod is restarted while other pods are still being restarted only when
+ * {@link KafkaAvailability} confirms that restarting it together with them does not impact availability. Pods which
+ * cannot join the restarts in progress are retried later without using up their attempts. Forced restarts and the
+ * restart of the controller never run concurrently with other restarts.</p>
  */
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ParameterNumber"})
 public class KafkaRoller {
@@ -124,7 +131,12 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
-    private Admin allClient;
+    private volatile Admin allClient;
+    private final ConcurrentHashMap<Integer, Admin> controllerClients = new ConcurrentHashMap<>();
+    private KafkaAvailability kafkaAvailability;
+    private Timer availabilityCheckTimer;
+    private int maxConcurrentRestarts = 1;
+    private final Set<Integer> restartingPods = new HashSet<>();
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
                         long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -157,6 +169,34 @@ public class KafkaRoller {
         this.allowReconfiguration = allowReconfiguration;
     }
 
+    /**
+     * Sets the timer used for recording the duration of the checks whether the brokers can be rolled
+     *
+     * @param availabilityCheckTimer    The timer
+     *
+     * @return  This KafkaRoller
+     */
+    public KafkaRoller withAvailabilityCheckTimer(Timer availabilityCheckTimer) {
+        this.availabilityCheckTimer = availabilityCheckTimer;
+        return this;
+    }
+
+    /**
+     * Sets the maximal number of pods which are restarted at the same time. The pods are restarted one at a time by
+     * default.
+     *
+     * @param maxConcurrentRestarts    The maximal number of concurrent restarts
+     *
+     * @return  This KafkaRoller
+     */
+    public KafkaRoller withMaxConcurrentRestarts(int maxConcurrentRestarts) {
+        if (maxConcurrentRestarts < 1) {
+            throw new IllegalArgumentException("The maximal number of concurrent restarts has to be at least 1");
+        }
+        this.maxConcurrentRestarts = maxConcurrentRestarts;
+        return this;
+    }
+
     /**
      * Returns a Future which completed with the actual pod corresponding to the abstract representation
      * of the given {@code pod}.
@@ -165,8 +205,7 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
+    private ScheduledExecutorService executor;
 
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
@@ -175,7 +214,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -197,7 +236,9 @@ public class KafkaRoller {
         this.podNeedsRestart = podNeedsRestart;
 
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        executor = Executors.newScheduledThreadPool(maxConcurrentRestarts,
+            runnable -> new Thread(runnable, "kafka-roller"));
+        executor.submit(() -> {
             List<Integer> podIds = new ArrayList<>(numPods);
 
             for (int podId = 0; podId < numPods; podId++) {
@@ -211,7 +252,7 @@ public class KafkaRoller {
                 futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
             }
             CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
+                executor.shutdown();
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -219,6 +260,9 @@ public class KafkaRoller {
                 } catch (RuntimeException e) {
                     log.debug("{}: Exception closing admin client", reconciliation, e);
                 }
+                for (Integer podId : controllerClients.keySet()) {
+                    closeControllerClient(podId);
+                }
                 vertx.runOnContext(ignored -> result.handle(ar.map((Void) null)));
             });
         });
@@ -263,7 +307,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or at most {@link #maxConcurrentRestarts} at a time) so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -272,7 +316,7 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
@@ -280,11 +324,21 @@ public class KafkaRoller {
             } catch (InterruptedException e) {
                 // Let the executor deal with interruption.
                 Thread.currentThread().interrupt();
+            } catch (ConcurrentRestartProblem e) {
+                // Waiting for the other restarts does not count as a failed attempt
+                if (!executor.isShutdown()) {
+                    log.debug("{}: Pod {} cannot be rolled together with pods {}, retrying after at least {}ms",
+                            reconciliation, podId, e.restartingPods, pollingIntervalMs);
+                    schedule(podId, pollingIntervalMs, TimeUnit.MILLISECONDS);
+                } else {
+                    // Another pod failed fatally while this one was waiting for the other restarts
+                    ctx.promise.tryFail(e);
+                }
             } catch (FatalProblem e) {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -356,15 +410,24 @@ public class KafkaRoller {
             if (restartPlan.forceRestart || restartPlan.needsRestart || restartPlan.needsReconfig) {
                 if (!restartPlan.forceRestart && deferController(podId, restartContext)) {
                     log.debug("{}: Pod {} is controller and there are other pods to roll", reconciliation, podId);
+                    Set<Integer> inProgress = restartingPods();
+                    if (!inProgress.isEmpty()) {
+                        // Waiting for the restarts in progress should not use up the attempts to roll the controller
+                        throw new ConcurrentRestartProblem("Pod " + podName(podId) + " is currently the controller and pods " + inProgress + " are being restarted", inProgress);
+                    }
                     throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
                 } else {
-                    if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
-                            log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                        } else {
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    if (startRestart(podId, restartPlan.forceRestart, false)) {
+                        try {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                                log.debug("{}: Pod {} can be rolled now", reconciliation, podId);
+                                restartAndAwaitReadiness(podId, pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            } else {
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
+                        } finally {
+                            endRestart(podId);
                         }
                     } else {
                         log.debug("{}: Pod {} cannot be rolled right now", reconciliation, podId);
@@ -382,9 +445,13 @@ public class KafkaRoller {
             }
         } catch (ForceableProblem e) {
             if (isPodStuck(pod) || restartContext.backOff.done() || e.forceNow) {
-                if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
-                    log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                if (startRestart(podId, false, true)) {
+                    try {
+                        log.warn("{}: Pod {} will be force-rolled, due to error: {}", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        restartAndAwaitReadiness(podId, pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    } finally {
+                        endRestart(podId);
+                    }
                 } else {
                     log.warn("{}: Pod {} can't be safely force-rolled; original error: ", reconciliation, podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -611,10 +678,82 @@ public class KafkaRoller {
         }
     }
 
-    private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
+    /** The pod cannot be restarted together with the pods which are being restarted right now */
+    static final class ConcurrentRestartProblem extends Exception {
+        final Set<Integer> restartingPods;
+
+        ConcurrentRestartProblem(String msg, Set<Integer> restartingPods) {
+            super(msg);
+            this.restartingPods = restartingPods;
+        }
+    }
+
+    /**
+     * Checks whether the given pod can be restarted now and if so, records it as being restarted until
+     * {@link #endRestart(int)} is called. While other pods are being restarted, the given pod is checked together with
+     * them and forced restarts are not started at all. The availability check can take a long time, so it is done
+     * without holding the lock on the restarting pods. The pod is recorded as being restarted only when no other pods
+     * started their restart in the meantime.
+     *
+     * @param podId             The pod which should be restarted
+     * @param force             Whether the restart is forced without checking the availability
+     * @param ignoreSslError    Whether the pod can be restarted when the availability cannot be checked because of an SSL error
+     *
+     * @return  True if the pod can be restarted now. False if it cannot be restarted even when no other pods are being restarted.
+     *
+     * @throws ConcurrentRestartProblem If the pod cannot be restarted together with the pods which are being restarted right now
+     */
+    private boolean startRestart(int podId, boolean force, boolean ignoreSslError)
+            throws ForceableProblem, InterruptedException, ConcurrentRestartProblem {
+        Set<Integer> inProgress = restartingPods();
+        if (!inProgress.isEmpty() && (force || inProgress.size() >= maxConcurrentRestarts)) {
+            throw new ConcurrentRestartProblem("Pod " + podName(podId) + " cannot be restarted while pods " + inProgress + " are being restarted", inProgress);
+        }
+
+        if (force || canRoll(podId, inProgress, 60_000, TimeUnit.MILLISECONDS, ignoreSslError)) {
+            synchronized (restartingPods) {
+                // The availability was checked with the pods in inProgress being restarted. Pods which finished their
+                // restart since then do not make it invalid, but pods which started their restart do.
+                if (!inProgress.containsAll(restartingPods)) {
+                    Set<Integer> nowInProgress = new HashSet<>(restartingPods);
+                    throw new ConcurrentRestartProblem("Pod " + podName(podId) + " cannot be restarted while pods " + nowInProgress + " are being restarted", nowInProgress);
+                }
+
+                restartingPods.add(podId);
+                return true;
+            }
+        } else if (!inProgress.isEmpty()) {
+            throw new ConcurrentRestartProblem("Pod " + podName(podId) + " cannot be restarted together with pods " + inProgress, inProgress);
+        } else {
+            return false;
+        }
+    }
+
+    private Set<Integer> restartingPods() {
+        synchronized (restartingPods) {
+            return new HashSet<>(restartingPods);
+        }
+    }
+
+    private void endRestart(int podId) {
+        synchronized (restartingPods) {
+            restartingPods.remove(podId);
+        }
+    }
+
+    private boolean canRoll(int podId, Set<Integer> rollingPods, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            KafkaAvailability availability = kafkaAvailability;
+            if (availability == null) {
+                availability = availability(allClient);
+                if (allClient != null) {
+                    // The same availability model is used for all pods, so that the topics are not described again for each pod
+                    kafkaAvailability = availability;
+                }
+            }
+            Future<Boolean> canRoll = rollingPods.isEmpty() ? availability.canRoll(podId) : availability.canRoll(podId, rollingPods);
+            return await(canRoll, timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -629,15 +768,18 @@ public class KafkaRoller {
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
+     * @param podId The id of the pod to restart.
      * @param pod The Pod to restart.
      * @param timeout The timeout.
      * @param unit The timeout unit.
      */
-    private void restartAndAwaitReadiness(Pod pod, long timeout, TimeUnit unit)
+    private void restartAndAwaitReadiness(int podId, Pod pod, long timeout, TimeUnit unit)
             throws InterruptedException, UnforceableProblem, FatalProblem {
         String podName = pod.getMetadata().getName();
         log.debug("{}: Rolling pod {}", reconciliation, podName);
         await(restart(pod), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        // The connections of the controller discovery client of the restarted pod are broken
+        closeControllerClient(podId);
         awaitReadiness(pod, timeout, unit);
     }
 
@@ -713,7 +855,7 @@ public class KafkaRoller {
     }
 
     protected KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(ac, reconciliation);
+        return new KafkaAvailability(ac, reconciliation, availabilityCheckTimer);
     }
 
     String podName(int podId) {
@@ -740,19 +882,65 @@ public class KafkaRoller {
     @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE") // seems to be completely spurious
     int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws Exception {
         // Don't use all allClient here, because it will have cache metadata about which is the controller.
-        try (Admin ac = adminClient(singletonList(podId), false)) {
-            Node controllerNode = null;
+        // The client bootstrapped from the given pod is kept for the whole rolling update and each describeCluster()
+        // call fetches fresh metadata, so there is no need to create a new client for every check.
+        Admin ac = controllerClients.get(podId);
+        boolean reused = ac != null;
+        if (!reused) {
+            ac = controllerClient(podId);
+        }
+
+        long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        Node controllerNode = null;
+        try {
+            if (reused) {
+                // Once the client has the cluster metadata, describeCluster() goes to the least loaded broker and would
+                // succeed even when the given pod is not reachable. The configuration of a broker is described by the
+                // broker itself, so this confirms that the pod is still reachable.
+                ac.describeConfigs(singletonList(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(podId))))
+                        .all().get(timeout, unit);
+            }
+
+            DescribeClusterResult describeClusterResult = ac.describeCluster();
+            KafkaFuture<Node> controller = describeClusterResult.controller();
+            controllerNode = controller.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            restartContext.clearConnectionError();
+        } catch (ExecutionException | TimeoutException e) {
+            // Do not reuse a client which failed to reach the pod
+            closeControllerClient(podId);
+            maybeTcpProbe(podId, e, restartContext);
+        }
+        int id = controllerNode == null || Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
+        log.debug("{}: Controller is {}", reconciliation, id);
+        return id;
+    }
+
+    /**
+     * Returns the Admin client bootstrapped from the given pod which is used to find the controller. The client is
+     * created on the first use and reused until it is closed by {@link #closeControllerClient(int)}. It is closed when
+     * the pod is restarted, when the pod cannot be reached through it and at the end of the rolling update.
+     *
+     * @param podId     The pod
+     *
+     * @return  The Admin client
+     */
+    private Admin controllerClient(int podId) throws ForceableProblem, FatalProblem {
+        Admin ac = controllerClients.get(podId);
+        if (ac == null) {
+            ac = adminClient(singletonList(podId), false);
+            controllerClients.put(podId, ac);
+        }
+        return ac;
+    }
+
+    private void closeControllerClient(int podId) {
+        Admin ac = controllerClients.remove(podId);
+        if (ac != null) {
             try {
-                DescribeClusterResult describeClusterResult = ac.describeCluster();
-                KafkaFuture<Node> controller = describeClusterResult.controller();
-                controllerNode = controller.get(timeout, unit);
-                restartContext.clearConnectionError();
-            } catch (ExecutionException | TimeoutException e) {
-                maybeTcpProbe(podId, e, restartContext);
+                ac.close(Duration.ofSeconds(30));
+            } catch (RuntimeException e) {
+                log.debug("{}: Exception closing controller discovery admin client for pod {}", reconciliation, podId, e);
             }
-            int id = controllerNode == null || Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
-            log.debug("{}: Controller is {}", reconciliation, id);
-            return id;
         }
     }
 
@@ -25,8 +25,10 @@ import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -51,10 +53,16 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 // Deprecation is suppressed because of KafkaConnectS2I
-@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity", "deprecation"})
 public class ResourceOperatorSupplier {
     public final SecretOperator secretOperations;
     public final ServiceOperator serviceOperations;
@@ -210,4 +218,75 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables the local resource caches for the resource operators of the given kinds in the given namespaces.
+     * Multiple namespaces share a single cache per kind, which watches all namespaces.
+     *
+     * @param kinds         Kinds of the resources which should be cached
+     * @param namespaces    Namespaces which should be cached or {@code *} for all namespaces
+     *
+     * @return  Future which completes when all the caches are synced
+     */
+    public Future<Void> enableResourceCaches(Set<String> kinds, Set<String> namespaces) {
+        List<Future> futures = new ArrayList<>(kinds.size());
+
+        for (String kind : kinds) {
+            AbstractResourceOperator<?, ?, ?, ?> operator = cacheableOperator(kind);
+
+            if (operator != null) {
+                futures.add(operator.enableCache(namespaces, metricsProvider));
+            }
+        }
+
+        return CompositeFuture.join(futures).map((Void) null);
+    }
+
+    /**
+     * Finds the resource operator which should be used for caching given resource kind.
+     *
+     * @param kind  Kind of the resource
+     *
+     * @return  The resource operator or null if the kind is not supported on this platform
+     */
+    private AbstractResourceOperator<?, ?, ?, ?> cacheableOperator(String kind) {
+        switch (kind) {
+            case Kafka.RESOURCE_KIND:
+                return kafkaOperator;
+            case KafkaConnect.RESOURCE_KIND:
+                return connectOperator;
+            case KafkaConnectS2I.RESOURCE_KIND:
+                return connectS2IOperator;
+            case KafkaMirrorMaker.RESOURCE_KIND:
+                return mirrorMakerOperator;
+            case KafkaMirrorMaker2.RESOURCE_KIND:
+                return mirrorMaker2Operator;
+            case KafkaBridge.RESOURCE_KIND:
+                return kafkaBridgeOperator;
+            case KafkaConnector.RESOURCE_KIND:
+                return kafkaConnectorOperator;
+            case KafkaRebalance.RESOURCE_KIND:
+                return kafkaRebalanceOperator;
+            case "Secret":
+                return secretOperations;
+            case "ConfigMap":
+                return configMapOperations;
+            case "Service":
+                return serviceOperations;
+            case "ServiceAccount":
+                return serviceAccountOperations;
+            case "Role":
+                return roleOperations;
+            case "RoleBinding":
+                return roleBindingOperations;
+            case "NetworkPolicy":
+                return networkPolicyOperator;
+            case "PodDisruptionBudget":
+                return podDisruptionBudgetOperator;
+            case "Deployment":
+                return deploymentOperations;
+            default:
+                throw new InvalidConfigurationException("Resource kind " + kind + " cannot be cached");
+        }
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -330,7 +331,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
                 StatefulSet sts = get(namespace, name);
                 log.trace("Checking if {} {} in namespace {} has been deleted", resourceKind, name, namespace);
                 return sts == null;
-            });
+            }, Objects::isNull);
 
             deletedFut.onComplete(res -> {
                 if (res.succeeded())    {
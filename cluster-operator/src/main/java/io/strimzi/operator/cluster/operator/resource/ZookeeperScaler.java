@@ -9,6 +9,7 @@ import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -191,7 +192,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerPools.zookeeper(vertx).executeBlocking(promise -> {
             try {
                 byte[] config = zkAdmin.getConfig(false, null);
                 Map<String, String> servers = parseConfig(config);
@@ -215,7 +216,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
         Promise<Map<String, String>> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerPools.zookeeper(vertx).executeBlocking(promise -> {
             try {
                 log.debug("Updating Zookeeper configuration to {}", newServers);
                 byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
@@ -239,7 +240,7 @@ public class ZookeeperScaler implements AutoCloseable {
         Promise<Void> closePromise = Promise.promise();
 
         if (zkAdmin != null) {
-            vertx.executeBlocking(promise -> {
+            WorkerPools.zookeeper(vertx).executeBlocking(promise -> {
                 try {
                     zkAdmin.close((int) operationTimeoutMs);
                     promise.complete();
@@ -263,7 +264,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private Future<ZKClientConfig> getClientConfig()  {
         Promise<ZKClientConfig> configPromise = Promise.promise();
 
-        vertx.executeBlocking(promise -> {
+        WorkerPools.zookeeper(vertx).executeBlocking(promise -> {
             try {
                 ZKClientConfig clientConfig = new ZKClientConfig();
 
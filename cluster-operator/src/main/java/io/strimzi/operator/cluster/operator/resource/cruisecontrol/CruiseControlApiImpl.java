@@ -4,10 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
@@ -15,6 +17,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.net.ConnectException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
 
@@ -22,17 +25,60 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
     private static final String SUMMARY_KEY = "summary";
+    private static final String HTTP_CLIENT_NAME = "cruise-control";
+    private static final HttpClientOptions HTTP_CLIENT_OPTIONS = HttpClientPool.pooledOptions(
+            HttpClientPool.DEFAULT_MAX_CONNECTIONS_PER_HOST, HttpClientPool.DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS, false)
+            .setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
     private final Vertx vertx;
     private final long idleTimeout;
+    private final MetricsProvider metrics;
 
     public CruiseControlApiImpl(Vertx vertx) {
         this(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS);
     }
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout) {
+        this(vertx, idleTimeout, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider used for the HTTP request metrics. Can be null.
+     */
+    public CruiseControlApiImpl(Vertx vertx, MetricsProvider metrics) {
+        this(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, metrics);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param idleTimeout   Idle timeout of the requests in seconds
+     * @param metrics       Metrics provider used for the HTTP request metrics. Can be null.
+     */
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, MetricsProvider metrics) {
         this.vertx = vertx;
         this.idleTimeout = idleTimeout;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Perform the given operation using the pooled HTTP client for Cruise Control
+     *
+     * @param path      Path of the request including the query parameters
+     * @param operation The operation to perform
+     * @param <T>       The type of the result
+     *
+     * @return  A future which is completed with the result performed by the operation
+     */
+    private <T> Future<T> withHttpClient(String path, BiConsumer<HttpClient, Promise<T>> operation) {
+        int query = path.indexOf('?');
+        String endpoint = query >= 0 ? path.substring(0, query) : path;
+
+        return HttpClientPool.forVertx(vertx, metrics).withHttpClient(HTTP_CLIENT_NAME, HTTP_CLIENT_OPTIONS, endpoint, operation);
     }
 
     @Override
@@ -49,9 +95,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .addParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(path, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -108,9 +152,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .addRebalanceParameters(rbOptions)
                 .build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(path, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
@@ -197,9 +239,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(path, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -279,9 +319,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .addParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(path, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -6,9 +6,11 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Collections;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
@@ -80,7 +83,13 @@ public class ClusterOperatorConfigTest {
                 null,
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
-                "");
+                "",
+                Collections.emptySet(),
+                false,
+                WorkerPools.DEFAULT,
+                CertManagerType.OPENSSL,
+                0,
+                1);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -339,6 +348,82 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse labels from STRIMZI_CUSTOM_RESOURCE_SELECTOR"));
     }
 
+    @Test
+    public void testResourceCacheKinds() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getResourceCacheKinds(), is(Collections.emptySet()));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_KINDS, " Kafka, Secret ,ConfigMap");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getResourceCacheKinds(), is(new HashSet<>(asList("Kafka", "Secret", "ConfigMap"))));
+    }
+
+    @Test
+    public void testInvalidResourceCacheKinds() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_KINDS, "Kafka;Secret");
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("STRIMZI_RESOURCE_CACHE_KINDS is not a valid list of resource kinds"));
+    }
+
+    @Test
+    public void testSharedNamespaceWatch() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isSharedNamespaceWatch(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARED_NAMESPACE_WATCH, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isSharedNamespaceWatch(), is(true));
+    }
+
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.OPENSSL));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "BouncyCastle");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.BOUNCYCASTLE));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERT_MANAGER, "keytool");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testSkipUnchangedReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getSkipUnchangedReconciliationsMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MS, "3600000");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getSkipUnchangedReconciliationsMs(), is(3_600_000L));
+    }
+
+    @Test
+    public void testMaxConcurrentKafkaRestarts() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentKafkaRestarts(), is(1));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS, "3");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentKafkaRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_KAFKA_RESTARTS, "all");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
     @Test
     public void testRbacScopeValueOf() {
         assertThat(ClusterOperatorConfig.RbacScope.valueOf("NAMESPACE"), is(ClusterOperatorConfig.RbacScope.NAMESPACE));
@@ -104,12 +104,22 @@ public class ClusterOperatorTest {
 
     @Test
     public void testStartStopAllNamespacesOnOpenShift(VertxTestContext context) throws InterruptedException {
-        startStopAllNamespaces(context, "*", true);
+        startStopAllNamespaces(context, "*", true, false);
     }
 
     @Test
     public void testStartStopAllNamespacesOnK8s(VertxTestContext context) throws InterruptedException {
-        startStopAllNamespaces(context, "*", false);
+        startStopAllNamespaces(context, "*", false, false);
+    }
+
+    @Test
+    public void testStartStopSharedNamespaceWatchOnOpenShift(VertxTestContext context) throws InterruptedException {
+        startStopAllNamespaces(context, "namespace1,namespace2,namespace3", true, true);
+    }
+
+    @Test
+    public void testStartStopSharedNamespaceWatchOnK8s(VertxTestContext context) throws InterruptedException {
+        startStopAllNamespaces(context, "namespace1,namespace2,namespace3", false, true);
     }
 
     /**
@@ -193,11 +203,13 @@ public class ClusterOperatorTest {
     }
 
     /**
-     * Asserts that Cluster Operator starts and then stops a verticle in every namespace using the namespace wildcard (*)
+     * Asserts that Cluster Operator starts and then stops a single verticle watching all namespaces using the namespace
+     * wildcard (*) or watching multiple namespaces using shared watches
      * @param context test context passed in for assertions
      * @param namespaces namespaces the operator should be watching and operating on
+     * @param sharedNamespaceWatch whether the namespaces should be watched by a single verticle
      */
-    private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift) throws InterruptedException {
+    private void startStopAllNamespaces(VertxTestContext context, String namespaces, boolean openShift, boolean sharedNamespaceWatch) throws InterruptedException {
         AtomicInteger numWatchers = new AtomicInteger(0);
         KubernetesClient client;
         if (openShift) {
@@ -242,6 +254,7 @@ public class ClusterOperatorTest {
         when(mockCms.inAnyNamespace()).thenReturn(mockFilteredCms);
 
         Map<String, String> env = buildEnv(namespaces);
+        env.put(ClusterOperatorConfig.STRIMZI_SHARED_NAMESPACE_WATCH, Boolean.toString(sharedNamespaceWatch));
 
         CountDownLatch latch = new CountDownLatch(2);
         Main.run(vertx, client, new PlatformFeaturesAvailability(openShift, KubernetesVersion.V1_16),
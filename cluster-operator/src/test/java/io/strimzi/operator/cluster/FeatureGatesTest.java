@@ -20,6 +20,9 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("+ControlPlaneListener").controlPlaneListenerEnabled(), is(true));
         assertThat(new FeatureGates("  +ControlPlaneListener    ").controlPlaneListenerEnabled(), is(true));
         assertThat(new FeatureGates("-ControlPlaneListener").controlPlaneListenerEnabled(), is(false));
+        assertThat(new FeatureGates("+ParallelKafkaReconciliation").parallelKafkaReconciliationEnabled(), is(true));
+        assertThat(new FeatureGates("+ControlPlaneListener,-ParallelKafkaReconciliation").parallelKafkaReconciliationEnabled(), is(false));
+        assertThat(new FeatureGates("+ControlPlaneListener,+ParallelKafkaReconciliation").controlPlaneListenerEnabled(), is(true));
     }
 
     @ParallelTest
@@ -28,6 +31,7 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates(" ").controlPlaneListenerEnabled(), is(false));
         assertThat(new FeatureGates("    ").controlPlaneListenerEnabled(), is(false));
+        assertThat(new FeatureGates(null).parallelKafkaReconciliationEnabled(), is(false));
     }
 
     @ParallelTest
@@ -6,6 +6,8 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
 import io.strimzi.test.annotations.ParallelSuite;
@@ -13,11 +15,12 @@ import io.strimzi.test.annotations.ParallelTest;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.io.File;
 import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -43,8 +46,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -100,8 +102,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -185,8 +186,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -270,8 +270,7 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
                 int index = invocationCount.getAndIncrement();
 
                 return new CertAndKey(
@@ -328,4 +327,62 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void parallelIssuanceOfStatefulSetCertificates() throws IOException {
+        Ca mockedCa = new Ca(null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                String name = subject.commonName();
+
+                return new CertAndKey(
+                        ("new-key-" + name).getBytes(),
+                        ("new-cert-" + name).getBytes(),
+                        ("new-truststore-" + name).getBytes(),
+                        ("new-keystore-" + name).getBytes(),
+                        "new-password-" + name
+                );
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Timer timer = new SimpleMeterRegistry().timer("certificates.issuance");
+        mockedCa.setCertIssuance(executor, timer);
+
+        int replicas = 10;
+        Function<Integer, Subject> subjectFn = i -> {
+            Subject subject = new Subject();
+            subject.setCommonName("pod" + i);
+            return subject;
+        };
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        try {
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(replicas,
+                    subjectFn,
+                    null,
+                    podNameFn,
+                    true);
+
+            assertThat(newCerts.size(), is(replicas));
+            for (int i = 0; i < replicas; i++) {
+                assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+                assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+                assertThat(newCerts.get("pod" + i).storePassword(), is("new-password-pod" + i));
+            }
+            assertThat(timer.count(), is((long) replicas));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
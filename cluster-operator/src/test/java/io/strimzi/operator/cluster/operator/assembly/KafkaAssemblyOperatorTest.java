@@ -1302,9 +1302,8 @@ public class KafkaAssemblyOperatorTest {
 
         Kafka foo = getKafkaAssembly("foo", params);
         Kafka bar = getKafkaAssembly("bar", params);
-        when(mockKafkaOps.listAsync(eq(kafkaNamespace), any(Optional.class))).thenReturn(
-            Future.succeededFuture(asList(foo, bar))
-        );
+        when(mockKafkaOps.listPagedAsync(eq(kafkaNamespace), any(Optional.class), anyInt(), any())).thenAnswer(i ->
+                i.<Function<List<Kafka>, Future<Void>>>getArgument(3).apply(asList(foo, bar)));
         // when requested Custom Resource for a specific Kafka cluster
         when(mockKafkaOps.get(eq(kafkaNamespace), eq("foo"))).thenReturn(foo);
         when(mockKafkaOps.get(eq(kafkaNamespace), eq("bar"))).thenReturn(bar);
@@ -1397,9 +1396,8 @@ public class KafkaAssemblyOperatorTest {
         foo.getMetadata().setNamespace("namespace1");
         Kafka bar = getKafkaAssembly("bar", params);
         bar.getMetadata().setNamespace("namespace2");
-        when(mockKafkaOps.listAsync(eq("*"), any(Optional.class))).thenReturn(
-                Future.succeededFuture(asList(foo, bar))
-        );
+        when(mockKafkaOps.listPagedAsync(eq("*"), any(Optional.class), anyInt(), any())).thenAnswer(i ->
+                i.<Function<List<Kafka>, Future<Void>>>getArgument(3).apply(asList(foo, bar)));
         // when requested Custom Resource for a specific Kafka cluster
         when(mockKafkaOps.get(eq("namespace1"), eq("foo"))).thenReturn(foo);
         when(mockKafkaOps.get(eq("namespace2"), eq("bar"))).thenReturn(bar);
@@ -8,6 +8,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.test.annotations.ParallelTest;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -16,9 +17,15 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiMockTest {
@@ -88,6 +95,78 @@ public class KafkaConnectApiMockTest {
             .onComplete(context.failing(res -> async.flag()));
     }
 
+    private static final String CONNECTOR_STATUS = "{\"name\":\"my-connector\",\"connector\":{\"state\":\"RUNNING\",\"worker_id\":\"worker\"},\"tasks\":[],\"type\":\"source\"}";
+    private static final String CONNECTOR_CONFIG = "{\"name\":\"my-connector\",\"tasks.max\":\"1\"}";
+
+    private static HttpServer connectServer(boolean supportsExpand, AtomicInteger requests) {
+        return vertx.createHttpServer().requestHandler(request -> {
+            requests.incrementAndGet();
+
+            if ("/connectors".equals(request.path()) && supportsExpand) {
+                request.response().end("{\"my-connector\":{\"info\":{\"name\":\"my-connector\",\"config\":" + CONNECTOR_CONFIG
+                        + ",\"tasks\":[],\"type\":\"source\"},\"status\":" + CONNECTOR_STATUS + "}}");
+            } else if ("/connectors".equals(request.path())) {
+                request.response().end("[\"my-connector\"]");
+            } else if (request.path().endsWith("/config")) {
+                request.response().end(CONNECTOR_CONFIG);
+            } else if (request.path().endsWith("/status")) {
+                request.response().end(CONNECTOR_STATUS);
+            } else if (request.path().endsWith("/pause")) {
+                request.response().setStatusCode(202).end();
+            } else {
+                request.response().setStatusCode(404).end("{\"message\":\"Not found\"}");
+            }
+        });
+    }
+
+    private void assertConnectorSnapshotIsUsed(VertxTestContext context, boolean supportsExpand, int listRequests) {
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = connectServer(supportsExpand, requests);
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        Checkpoint async = context.checkpoint();
+
+        server.listen(0)
+            .compose(s -> api.list("localhost", s.actualPort()))
+            .compose(connectors -> {
+                context.verify(() -> {
+                    assertThat(connectors, is(List.of("my-connector")));
+                    assertThat(requests.get(), is(listRequests));
+                });
+                return api.getConnectorConfig("localhost", server.actualPort(), "my-connector");
+            })
+            .compose(config -> {
+                context.verify(() -> assertThat(config, is(Map.of("name", "my-connector", "tasks.max", "1"))));
+                return api.status("localhost", server.actualPort(), "my-connector");
+            })
+            .compose(status -> {
+                // Config and status were served from the snapshot
+                context.verify(() -> {
+                    assertThat(requests.get(), is(listRequests));
+                    // The status is shared by the readers of the snapshot, so it cannot be modified
+                    assertThrows(UnsupportedOperationException.class, () -> status.put("name", "changed"));
+                });
+                return api.pause("localhost", server.actualPort(), "my-connector");
+            })
+            .compose(ignored -> api.status("localhost", server.actualPort(), "my-connector"))
+            .onComplete(context.succeeding(status -> context.verify(() -> {
+                // The connector was changed, so the status is not served from the snapshot anymore
+                assertThat(requests.get(), is(listRequests + 2));
+                server.close();
+                async.flag();
+            })));
+    }
+
+    @ParallelTest
+    public void testListTakesConnectorSnapshot(VertxTestContext context) {
+        assertConnectorSnapshotIsUsed(context, true, 1);
+    }
+
+    @ParallelTest
+    public void testListTakesConnectorSnapshotWithoutExpandSupport(VertxTestContext context) {
+        // The list request followed by config and status requests for the only connector
+        assertConnectorSnapshotIsUsed(context, false, 3);
+    }
+
     class MockKafkaConnectApi extends KafkaConnectApiImpl   {
         private final Queue<Future<Map<String, Object>>> statusResults;
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class ReconcileStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "name");
+
+    private static Future<List<String>> record(List<String> state, String step) {
+        state.add(step);
+        return Future.succeededFuture(state);
+    }
+
+    @ParallelTest
+    public void testSequentialGraphRunsStepsInOrder() {
+        Promise<List<String>> first = Promise.promise();
+
+        ReconcileStepGraph<List<String>> graph = new ReconcileStepGraph<List<String>>("Kafka", false, ResourceUtils.metricsProvider())
+                .step("a", Set.of(), Set.of("a"), state -> {
+                    state.add("a");
+                    return first.future();
+                })
+                .step("b", Set.of(), Set.of("b"), state -> record(state, "b"))
+                .barrier("c", state -> record(state, "c"));
+
+        List<String> state = new ArrayList<>();
+        Future<List<String>> result = graph.execute(RECONCILIATION, state);
+
+        // Step b does not conflict with step a, but the graph is not parallel
+        assertThat(state, is(List.of("a")));
+
+        first.complete(state);
+        assertThat(result.succeeded(), is(true));
+        assertThat(state, is(List.of("a", "b", "c")));
+    }
+
+    @ParallelTest
+    public void testParallelGraphRunsIndependentStepsConcurrently() {
+        Promise<List<String>> first = Promise.promise();
+
+        ReconcileStepGraph<List<String>> graph = new ReconcileStepGraph<List<String>>("Kafka", true, ResourceUtils.metricsProvider())
+                .barrier("start", state -> record(state, "start"))
+                .step("a", Set.of(), Set.of("a"), state -> {
+                    state.add("a");
+                    return first.future();
+                })
+                .step("b", Set.of(), Set.of("b"), state -> record(state, "b"))
+                .step("c", Set.of("a"), Set.of("c"), state -> record(state, "c"))
+                .barrier("end", state -> record(state, "end"));
+
+        List<String> state = new ArrayList<>();
+        Future<List<String>> result = graph.execute(RECONCILIATION, state);
+
+        // Step b runs while a is still in progress, step c has to wait for a
+        assertThat(state, is(List.of("start", "a", "b")));
+        assertThat(result.isComplete(), is(false));
+
+        first.complete(state);
+        assertThat(result.succeeded(), is(true));
+        assertThat(state, is(List.of("start", "a", "b", "c", "end")));
+    }
+
+    @ParallelTest
+    public void testFailureStopsFurtherSteps() {
+        Promise<List<String>> slow = Promise.promise();
+
+        ReconcileStepGraph<List<String>> graph = new ReconcileStepGraph<List<String>>("Kafka", true, ResourceUtils.metricsProvider())
+                .step("slow", Set.of(), Set.of("slow"), state -> {
+                    state.add("slow");
+                    return slow.future();
+                })
+                .step("failing", Set.of(), Set.of("failing"), state -> Future.failedFuture(new RuntimeException("Step failed")))
+                .step("dependent", Set.of("slow"), Set.of(), state -> record(state, "dependent"))
+                .barrier("end", state -> record(state, "end"));
+
+        List<String> state = new ArrayList<>();
+        Future<List<String>> result = graph.execute(RECONCILIATION, state);
+
+        // The execution waits for the running step before failing
+        assertThat(result.isComplete(), is(false));
+
+        slow.complete(state);
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Step failed"));
+        assertThat(state, is(List.of("slow")));
+    }
+}
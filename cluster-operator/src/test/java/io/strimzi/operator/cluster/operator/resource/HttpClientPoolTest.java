@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private static Future<String> get(HttpClientPool pool, int port) {
+        return pool.withHttpClient("test", HttpClientPool.pooledOptions(1, 15, false), "/test", (httpClient, result) ->
+            httpClient.request(HttpMethod.GET, port, "localhost", "/test", request -> {
+                if (request.succeeded()) {
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            response.result().bodyHandler(buffer -> result.complete(buffer.toString()));
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+                } else {
+                    result.fail(request.cause());
+                }
+            }));
+    }
+
+    @Test
+    public void testPoolIsSharedPerVertx(Vertx vertx) {
+        assertThat(HttpClientPool.forVertx(vertx, null), is(sameInstance(HttpClientPool.forVertx(vertx, null))));
+    }
+
+    @Test
+    public void testConnectionsAreReused(Vertx vertx, VertxTestContext context) {
+        AtomicInteger connections = new AtomicInteger();
+        HttpServer server = vertx.createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(request -> request.response().end("OK"));
+
+        HttpClientPool pool = new HttpClientPool(vertx, null, HttpClientPool.DEFAULT_REQUEST_TIMEOUT_MS);
+        Checkpoint async = context.checkpoint();
+
+        server.listen(0)
+                .compose(s -> get(pool, s.actualPort()))
+                .compose(body -> get(pool, server.actualPort()))
+                .compose(body -> get(pool, server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    assertThat(connections.get(), is(1));
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRequestTimesOut(Vertx vertx, VertxTestContext context) {
+        // The server never responds
+        List<HttpServerRequest> requests = new CopyOnWriteArrayList<>();
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(requests::add);
+
+        HttpClientPool pool = new HttpClientPool(vertx, null, 500);
+        Checkpoint async = context.checkpoint();
+
+        server.listen(0)
+                .compose(s -> get(pool, s.actualPort()))
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e, instanceOf(TimeoutException.class));
+                    assertThat(requests.size(), is(1));
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRequestsAreTimed(Vertx vertx, VertxTestContext context) {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(request -> request.response().end("OK"));
+
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        Timer timer = mock(Timer.class);
+        when(metrics.timer(any(), any(), any())).thenReturn(timer);
+
+        HttpClientPool pool = new HttpClientPool(vertx, metrics, HttpClientPool.DEFAULT_REQUEST_TIMEOUT_MS);
+        Checkpoint async = context.checkpoint();
+
+        server.listen(0)
+                .compose(s -> get(pool, s.actualPort()))
+                .compose(body -> get(pool, server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    verify(metrics, times(1)).timer(eq("strimzi.http.client.requests"), any(), eq(Tags.of(Tag.of("client", "test"), Tag.of("endpoint", "/test"))));
+                    verify(timer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+                    server.close();
+                    async.flag();
+                })));
+    }
+}
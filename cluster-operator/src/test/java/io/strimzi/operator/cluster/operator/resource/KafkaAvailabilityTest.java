@@ -11,12 +11,16 @@ import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -25,6 +29,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,15 +38,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -136,6 +145,7 @@ public class KafkaAvailabilityTest {
         private Map<String, TSB> topics = new HashMap<>();
         private Map<Integer, BSB> brokers = new HashMap<>();
         private Map<Integer, Node> nodes = new HashMap<>();
+        private Map<TopicPartition, PartitionReassignment> reassignments = new HashMap<>();
 
         TSB addNewTopic(String name, boolean internal) {
             return topics.computeIfAbsent(name, n -> new TSB(n, internal));
@@ -148,6 +158,20 @@ public class KafkaAvailabilityTest {
             return this;
         }
 
+        KSB reassigning(String topic, int partition, int... addingReplicas) {
+            List<Integer> adding = Arrays.stream(addingReplicas).boxed().collect(Collectors.toList());
+            reassignments.put(new TopicPartition(topic, partition), new PartitionReassignment(adding, adding, List.of()));
+            return this;
+        }
+
+        KSB rack(String rack, int... ids) {
+            addBroker(ids);
+            for (int id : ids) {
+                nodes.put(id, new Node(id, "localhost", 1234 + id, rack));
+            }
+            return this;
+        }
+
         static <T> KafkaFuture<T> failedFuture(Throwable t) {
             KafkaFutureImpl kafkaFuture = new KafkaFutureImpl();
             kafkaFuture.completeExceptionally(t);
@@ -266,6 +290,14 @@ public class KafkaAvailabilityTest {
 
             mockDescribeConfigs(ac);
 
+            DescribeClusterResult dcr = mock(DescribeClusterResult.class);
+            when(dcr.nodes()).thenAnswer(invocation -> KafkaFuture.completedFuture(new ArrayList<>(nodes.values())));
+            when(ac.describeCluster()).thenReturn(dcr);
+
+            ListPartitionReassignmentsResult lprr = mock(ListPartitionReassignmentsResult.class);
+            when(lprr.reassignments()).thenAnswer(invocation -> KafkaFuture.completedFuture(new HashMap<>(reassignments)));
+            when(ac.listPartitionReassignments()).thenReturn(lprr);
+
             return ac;
         }
     }
@@ -639,4 +671,186 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testOnlyTopicsOnCheckedBrokerAreDescribedAgain(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac, null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> {
+                        assertTrue(canRoll, "broker 0 should be rollable, all partitions are in sync");
+                        verify(ac, times(1)).describeTopics(describedTopics.capture());
+                        assertThat(new HashSet<>(describedTopics.getValue()), is(Set.of("A", "B")));
+                    });
+
+                    // Topic B drops out of sync and a new topic C is created
+                    ksb.topics.get("B").partitions.get(0).isr(1, 3);
+                    ksb.addNewTopic("C", false)
+                            .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                            .addNewPartition(0)
+                                .replicaOn(0)
+                                .leader(0)
+                                .isr(0)
+                            .endPartition()
+                        .endTopic();
+
+                    return kafkaAvailability.canRoll(3);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 3 should not be rollable, topic B has only 2 in-sync replicas");
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    assertThat(new HashSet<>(describedTopics.getValue()), is(Set.of("B", "C")));
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testAllTopicsAreDescribedWhileReassigning(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac, null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass(Collection.class);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, all partitions are in sync"));
+
+                    // Topic A is being reassigned to broker 3 which did not catch up yet
+                    ksb.topics.get("A").partitions.get(0)
+                            .replicaOn(1, 2, 3)
+                            .leader(1)
+                            .isr(1, 3);
+                    ksb.reassigning("A", 0, 3);
+
+                    return kafkaAvailability.canRoll(3);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 3 should not be rollable, topic A has only 2 in-sync replicas after the reassignment");
+                    verify(ac, times(2)).describeTopics(describedTopics.capture());
+                    assertThat(new HashSet<>(describedTopics.getValue()), is(Set.of("A", "B")));
+
+                    // The recently described min.insync.replicas of topic A is reused
+                    verify(ac, times(2)).describeConfigs(any());
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testCanRollTogetherWithRollingBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac(), null);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(1, Set.of(0))
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable together with broker 0, topic A would have only 1 in-sync replica"));
+                    return kafkaAvailability.canRoll(3, Set.of(0));
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 3 should be rollable together with broker 0, they do not share any partitions"));
+                    return kafkaAvailability.canRoll(4, Set.of(0, 3));
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 4 should not be rollable together with brokers 0 and 3, topic B would have only 1 in-sync replica");
+                    a.flag();
+                })));
+    }
+
+    @Test
+    public void testCanRollTogetherOnlyWithinRack(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic()
+                .rack("a", 0, 3)
+                .rack("b", 1, 4)
+                .rack("c", 2, 5);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac(), null);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(3, Set.of(0))
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 3 should be rollable together with broker 0 from the same rack"));
+                    return kafkaAvailability.canRoll(4, Set.of(0));
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 4 should not be rollable together with broker 0 from another rack");
+                    a.flag();
+                })));
+    }
 }
@@ -4,13 +4,17 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -29,6 +33,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -36,7 +41,12 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -53,10 +63,15 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -126,6 +141,145 @@ public class KafkaRollerTest {
                 asList(2, 3, 4, 0, 1));
     }
 
+    @Test
+    public void testConcurrentRollWithPod2AsController(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(podOps.readiness(any(), any(), anyLong(), anyLong())).thenAnswer(invocationOnMock -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(200, timerId -> {
+                inFlight.decrementAndGet();
+                ready.complete();
+            });
+            return ready.future();
+        });
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        kafkaRoller.withMaxConcurrentRestarts(3);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> {
+                testContext.verify(() -> {
+                    assertThat(restarted().size(), is(5));
+                    assertThat(Set.copyOf(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    assertThat("The controller should be rolled last", restarted().get(4), is(2));
+                    assertThat("Some pods should be rolled at the same time", maxInFlight.get() > 1, is(true));
+                    assertThat("At most 3 pods should be rolled at the same time", maxInFlight.get() <= 3, is(true));
+                });
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
+    @Test
+    public void testConcurrentAvailabilityChecksDoNotBlockEachOther(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicInteger checksInFlight = new AtomicInteger();
+        AtomicInteger maxChecksInFlight = new AtomicInteger();
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+            noException(), null, noException(), noException(), noException(),
+            brokerId -> {
+                maxChecksInFlight.accumulateAndGet(checksInFlight.incrementAndGet(), Math::max);
+                Promise<Boolean> canRoll = Promise.promise();
+                vertx.setTimer(200, timerId -> {
+                    checksInFlight.decrementAndGet();
+                    canRoll.complete(true);
+                });
+                return canRoll.future();
+            },
+            2);
+        kafkaRoller.withMaxConcurrentRestarts(3);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> {
+                testContext.verify(() -> {
+                    assertThat(Set.copyOf(restarted()), is(Set.of(0, 1, 2, 3, 4)));
+                    assertThat("The controller should be rolled last", restarted().get(4), is(2));
+                    assertThat("The availability of several pods should be checked at the same time", maxChecksInFlight.get() > 1, is(true));
+                });
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            }));
+    }
+
+    @Test
+    public void testControllerClientIsReusedWhilePodIsReachable() throws Exception {
+        ControllerDiscoveryKafkaRoller kafkaRoller = new ControllerDiscoveryKafkaRoller(buildStatefulSet(), mockPodOps(podId -> succeededFuture()), 2);
+        KafkaRoller.RestartContext restartContext = new KafkaRoller.RestartContext(() -> new BackOff(10L, 2, 4));
+
+        assertThat(kafkaRoller.controller(0, 1, TimeUnit.SECONDS, restartContext), is(2));
+        assertThat(kafkaRoller.controller(0, 1, TimeUnit.SECONDS, restartContext), is(2));
+
+        assertThat(kafkaRoller.clients.get(singletonList(0)).size(), is(1));
+        Admin ac = kafkaRoller.clients.get(singletonList(0)).get(0);
+        verify(ac, times(2)).describeCluster();
+        // Only the reused client has to confirm that the pod is reachable
+        verify(ac, times(1)).describeConfigs(any());
+        verify(ac, never()).close(any(Duration.class));
+    }
+
+    @Test
+    public void testControllerClientIsClosedWhenPodIsUnreachable() throws Exception {
+        ControllerDiscoveryKafkaRoller kafkaRoller = new ControllerDiscoveryKafkaRoller(buildStatefulSet(), mockPodOps(podId -> succeededFuture()), 2);
+        KafkaRoller.RestartContext restartContext = new KafkaRoller.RestartContext(() -> new BackOff(10L, 2, 4));
+
+        assertThat(kafkaRoller.controller(0, 1, TimeUnit.SECONDS, restartContext), is(2));
+
+        // The pod crashes, but the other brokers still answer the describeCluster() requests of its client
+        kafkaRoller.unreachable.add(0);
+
+        KafkaRoller.ForceableProblem problem = assertThrows(KafkaRoller.ForceableProblem.class,
+            () -> kafkaRoller.controller(0, 1, TimeUnit.SECONDS, restartContext));
+        assertThat(problem.forceNow, is(false));
+        verify(kafkaRoller.clients.get(singletonList(0)).get(0)).close(any(Duration.class));
+
+        // With the previous connection error, the TCP probe fails and forces the restart of the pod
+        problem = assertThrows(KafkaRoller.ForceableProblem.class,
+            () -> kafkaRoller.controller(0, 1, TimeUnit.SECONDS, restartContext));
+        assertThat(problem.forceNow, is(true));
+        assertThat(kafkaRoller.clients.get(singletonList(0)).size(), is(2));
+        verify(kafkaRoller.clients.get(singletonList(0)).get(1)).close(any(Duration.class));
+    }
+
+    @Test
+    public void testControllerClientIsClosedAfterRestart(VertxTestContext testContext) {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        when(podOps.readiness(any(), any(), anyLong(), anyLong())).thenAnswer(invocationOnMock -> {
+            events.add("ready-" + podName2Number(invocationOnMock.getArgument(1)));
+            return succeededFuture();
+        });
+        ControllerDiscoveryKafkaRoller kafkaRoller = new ControllerDiscoveryKafkaRoller(buildStatefulSet(), podOps, 2);
+        kafkaRoller.events = events;
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted().size(), is(5));
+                assertThat("The controller should be rolled last", restarted().get(4), is(2));
+
+                for (int podId = 0; podId < 5; podId++) {
+                    int restart = events.indexOf("restart-" + podId);
+                    int close = events.indexOf("close-" + podId);
+                    int ready = events.indexOf("ready-" + podId);
+                    assertThat("Client of pod " + podId + " should be closed after its restart", restart < close, is(true));
+                    assertThat("Client of pod " + podId + " should be closed before waiting for readiness", close < ready, is(true));
+                }
+
+                for (List<Admin> clients : kafkaRoller.clients.values()) {
+                    for (Admin ac : clients) {
+                        verify(ac).close(any(Duration.class));
+                    }
+                }
+                async.flag();
+            })));
+    }
+
     @Test
     public void pod0NotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -516,7 +670,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -636,6 +790,11 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> rollingBrokers) {
+                    return canRollFn.apply(podId);
+                }
             };
         }
 
@@ -685,5 +844,103 @@ public class KafkaRollerTest {
 
     }
 
+    /**
+     * KafkaRoller which uses the real controller discovery with mocked Admin clients
+     */
+    private class ControllerDiscoveryKafkaRoller extends KafkaRoller {
+        final Map<List<Integer>, List<Admin>> clients = new ConcurrentHashMap<>();
+        final Set<Integer> unreachable = ConcurrentHashMap.newKeySet();
+        private final int controller;
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        private ControllerDiscoveryKafkaRoller(StatefulSet sts, PodOperator podOps, int controller) {
+            super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
+                () -> new BackOff(10L, 2, 4),
+                sts, null, null, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+            this.controller = controller;
+        }
+
+        @Override
+        protected Admin adminClient(List<Integer> bootstrapBrokers, boolean b) throws ForceableProblem {
+            Admin ac = mock(Admin.class);
+            // A client bootstrapped from an unreachable pod never gets the cluster metadata
+            boolean unreachableOnCreation = bootstrapBrokers.size() == 1 && unreachable.contains(bootstrapBrokers.get(0));
+
+            when(ac.describeCluster()).thenAnswer(invocation -> {
+                DescribeClusterResult describeClusterResult = mock(DescribeClusterResult.class);
+                KafkaFutureImpl<Node> future = new KafkaFutureImpl<>();
+                if (unreachableOnCreation) {
+                    future.completeExceptionally(new org.apache.kafka.common.errors.TimeoutException("Timed out waiting for a node assignment"));
+                } else {
+                    future.complete(new Node(controller, "broker-" + controller, 9091));
+                }
+                when(describeClusterResult.controller()).thenReturn(future);
+                return describeClusterResult;
+            });
+
+            // The broker configuration is described by the broker itself
+            when(ac.describeConfigs(any())).thenAnswer(invocation -> {
+                DescribeConfigsResult describeConfigsResult = mock(DescribeConfigsResult.class);
+                KafkaFutureImpl<Map<ConfigResource, Config>> future = new KafkaFutureImpl<>();
+                if (bootstrapBrokers.size() == 1 && unreachable.contains(bootstrapBrokers.get(0))) {
+                    future.completeExceptionally(new org.apache.kafka.common.errors.TimeoutException("Timed out waiting for a node assignment"));
+                } else {
+                    future.complete(Collections.emptyMap());
+                }
+                when(describeConfigsResult.all()).thenReturn(future);
+                return describeConfigsResult;
+            });
+
+            doAnswer(invocation -> {
+                if (bootstrapBrokers.size() == 1) {
+                    events.add("close-" + bootstrapBrokers.get(0));
+                }
+                return null;
+            }).when(ac).close(any(Duration.class));
+
+            clients.computeIfAbsent(bootstrapBrokers, key -> Collections.synchronizedList(new ArrayList<>())).add(ac);
+            return ac;
+        }
+
+        @Override
+        protected KafkaAvailability availability(Admin ac) {
+            return new KafkaAvailability(null, null) {
+                @Override
+                Future<Boolean> canRoll(int podId) {
+                    return succeededFuture(true);
+                }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> rollingBrokers) {
+                    return succeededFuture(true);
+                }
+            };
+        }
+
+        @Override
+        void tcpProbe(String hostname, int port) throws IOException {
+            if (unreachable.contains(podName2Number(hostname))) {
+                throw new IOException("Connection refused");
+            }
+        }
+
+        @Override
+        protected Config brokerConfig(int brokerId) {
+            return new Config(emptyList());
+        }
+
+        @Override
+        protected Config brokerLogging(int brokerId) {
+            return new Config(emptyList());
+        }
+
+        @Override
+        protected Future<Void> restart(Pod pod) {
+            restarted.add(pod.getMetadata().getName());
+            events.add("restart-" + podName2Number(pod.getMetadata().getName()));
+            return succeededFuture();
+        }
+    }
+
     // TODO Error when finding the next broker
 }
@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
@@ -135,6 +136,7 @@ class MockBuilder<T extends HasMetadata,
 
         when(mixed.inNamespace(any())).thenReturn(mixed);
         when(mixed.list()).thenAnswer(i -> mockList(p -> true));
+        when(mixed.list(any(ListOptions.class))).thenAnswer(i -> mockList(p -> true));
         when(mixed.withLabels(any())).thenAnswer(i -> {
             MixedOperation<T, L, R> mixedWithLabels = mock(MixedOperation.class);
             Map<String, String> labels = i.getArgument(0);
@@ -143,6 +145,11 @@ class MockBuilder<T extends HasMetadata,
                 m.keySet().retainAll(labels.keySet());
                 return labels.equals(m);
             }));
+            when(mixedWithLabels.list(any(ListOptions.class))).thenAnswer(i2 -> mockList(p -> {
+                Map<String, String> m = new HashMap(p.getMetadata().getLabels());
+                m.keySet().retainAll(labels.keySet());
+                return labels.equals(m);
+            }));
             return mixedWithLabels;
         });
         when(mixed.withName(any())).thenAnswer(invocation -> {
@@ -236,6 +243,9 @@ class MockBuilder<T extends HasMetadata,
         when(mixedWithLabels.list()).thenAnswer(i2 -> {
             return mockList(predicate);
         });
+        when(mixedWithLabels.list(any(ListOptions.class))).thenAnswer(i2 -> {
+            return mockList(predicate);
+        });
         when(mixedWithLabels.watch(any())).thenAnswer(i2 -> {
             Watcher watcher = i2.getArgument(0);
             return addWatcher(PredicatedWatcher.predicatedWatcher(resourceTypeClass.getName(), "watch on labeled", predicate, watcher));
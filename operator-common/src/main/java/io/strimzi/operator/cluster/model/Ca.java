@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
@@ -22,6 +23,7 @@ import org.apache.logging.log4j.Logger;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.KeyStoreException;
@@ -42,8 +44,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -190,6 +197,8 @@ public abstract class Ca {
     private RenewalType renewalType;
     private boolean caCertsRemoved;
     private final CertificateExpirationPolicy policy;
+    private Executor certIssuanceExecutor = Runnable::run;
+    private Timer certIssuanceTimer;
 
     public Ca(CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
               String caCertSecretName, Secret caCertSecret,
@@ -209,6 +218,18 @@ public abstract class Ca {
         this.renewalType = RenewalType.NOOP;
     }
 
+    /**
+     * Configures how the certificates of the individual pods are issued. By default, they are issued one after
+     * another in the calling thread.
+     *
+     * @param executor  Executor used to issue the certificates of the different pods in parallel
+     * @param timer     Timer recording the time it takes to issue a single certificate (or null when not recorded)
+     */
+    public void setCertIssuance(Executor executor, Timer timer) {
+        this.certIssuanceExecutor = executor;
+        this.certIssuanceTimer = timer;
+    }
+
     private static void delete(File file) {
         if (!file.delete()) {
             log.warn("{} cannot be deleted", file.getName());
@@ -250,48 +271,21 @@ public abstract class Ca {
     }
 
     public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) throws IOException {
-
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
-        Files.write(keyFile.toPath(), key);
-        Files.write(certFile.toPath(), cert);
-
         String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
-
-        CertAndKey result = new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
-
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
+        byte[] keyStore = certManager.addKeyAndCertToKeyStore(key, cert, alias, keyStorePassword);
 
-        return result;
+        return new CertAndKey(key, cert, null, keyStore, keyStorePassword);
     }
 
-    /*test*/ CertAndKey generateSignedCert(Subject subject,
-                                            File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+    /*test*/ CertAndKey generateSignedCert(Subject subject) throws IOException {
         log.debug("Generating certificate {} with SAN {}, signed by CA {}", subject, subject.subjectAltNames(), this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
-        certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
-                certFile, subject, validityDays);
+        CertAndKey signed = certManager.generateSignedCert(subject, currentCaKey(), currentCaCertBytes(), validityDays);
 
         String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword);
+        byte[] keyStore = certManager.addKeyAndCertToKeyStore(signed.key(), signed.cert(), subject.commonName(), keyStorePassword);
 
-        return new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
+        return new CertAndKey(signed.key(), signed.cert(), null, keyStore, keyStorePassword);
     }
 
     /**
@@ -312,11 +306,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject subject = new Subject();
 
         if (organization != null) {
@@ -325,14 +314,7 @@ public abstract class Ca {
 
         subject.setCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject,
-                csrFile, keyFile, certFile, keyStoreFile);
-
-        delete(csrFile);
-        delete(keyFile);
-        delete(certFile);
-        delete(keyStoreFile);
-        return result;
+        return generateSignedCert(subject);
     }
 
     /**
@@ -352,13 +334,9 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        Map<String, Subject> certsToIssue = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -400,8 +378,7 @@ public abstract class Ca {
             if (!reasons.isEmpty())  {
                 log.debug("Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                certsToIssue.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -414,18 +391,62 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             log.debug("Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            certsToIssue.put(podName, subjectFn.apply(i));
         }
-        delete(brokerCsrFile);
-        delete(brokerKeyFile);
-        delete(brokerCertFile);
-        delete(brokerKeyStoreFile);
+
+        certs.putAll(issueCerts(certsToIssue));
 
         return certs;
     }
 
+    /**
+     * Issues the certificates for multiple pods in parallel using the certificate issuance executor
+     *
+     * @param subjects  Map with the pod names and the subjects of their certificates
+     * @return  Map with the pod names and their new certificates
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    private Map<String, CertAndKey> issueCerts(Map<String, Subject> subjects) throws IOException {
+        Map<String, CompletableFuture<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+        for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+            futures.put(entry.getKey(), CompletableFuture.supplyAsync(() -> {
+                try {
+                    return issueCert(entry.getValue());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, certIssuanceExecutor));
+        }
+
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+        try {
+            for (Map.Entry<String, CompletableFuture<CertAndKey>> entry : futures.entrySet()) {
+                certs.put(entry.getKey(), entry.getValue().join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw e;
+            }
+        }
+
+        return certs;
+    }
+
+    private CertAndKey issueCert(Subject subject) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return generateSignedCert(subject);
+        } finally {
+            if (certIssuanceTimer != null) {
+                certIssuanceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
@@ -24,6 +24,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.ResourceVisitor;
 import io.strimzi.operator.common.model.ValidationVisitor;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
@@ -32,11 +33,11 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.shareddata.Lock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Collections;
@@ -44,9 +45,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
 
@@ -78,6 +80,10 @@ public abstract class AbstractOperator<
     private static final long PROGRESS_WARNING = 60_000L;
     protected static final int LOCK_TIMEOUT_MS = 10000;
     public static final String METRICS_PREFIX = "strimzi.";
+    /**
+     * Trigger of the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
 
     protected final Vertx vertx;
     protected final O resourceOperator;
@@ -91,17 +97,44 @@ public abstract class AbstractOperator<
     private final Counter failedReconciliationsCounter;
     private final Counter successfulReconciliationsCounter;
     private final Counter lockedReconciliationsCounter;
+    private final Counter skippedReconciliationsCounter;
+    private final Counter executedReconciliationsCounter;
     private final AtomicInteger pausedResourceCounter;
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<String, AtomicInteger> resourcesStateCounter;
 
+    private final KeyedLockManager lockManager;
+    private final KeyedLockManager.LockMetrics lockMetrics;
+    private final Map<Reconciliation, Long> reconciliationsInProgress = new ConcurrentHashMap<>();
+    private final AtomicBoolean progressTimerStarted = new AtomicBoolean(false);
+    private final ReconciliationQueue reconciliationQueue;
+    private final long skipUnchangedReconciliationsMs;
+    private final Map<NamespaceAndName, ReconciliationFingerprint> fingerprints = new ConcurrentHashMap<>();
+
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                             Vert.x instance
+     * @param kind                              Kind of the custom resource
+     * @param resourceOperator                  Resource operator for the custom resource
+     * @param metrics                           Metrics provider
+     * @param selectorLabels                    Labels used to select the custom resources
+     * @param skipUnchangedReconciliationsMs    For how long the periodic reconciliations of custom resources which did
+     *                                          not change since their last successful reconciliation are skipped.
+     *                                          0 to never skip them.
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels, long skipUnchangedReconciliationsMs) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
         this.metrics = metrics;
+        this.skipUnchangedReconciliationsMs = skipUnchangedReconciliationsMs;
 
         // Setup metrics
         Tags metricTags = Tags.of(Tag.of("kind", kind()));
@@ -130,6 +163,14 @@ public abstract class AbstractOperator<
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 metricTags);
 
+        skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.skipped",
+                "Number of periodical reconciliations skipped because the resource did not change since its last successful reconciliation",
+                metricTags);
+
+        executedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.executed",
+                "Number of reconciliations which created or updated the resources belonging to the custom resource",
+                metricTags);
+
         resourceCounter = metrics.gauge(METRICS_PREFIX + "resources",
                 "Number of custom resources the operator sees",
                 metricTags);
@@ -138,6 +179,23 @@ public abstract class AbstractOperator<
                 "The time the reconciliation takes to complete",
                 metricTags);
 
+        lockMetrics = new KeyedLockManager.LockMetrics(
+                metrics.timer(METRICS_PREFIX + "reconciliations.lock.wait",
+                        "The time the reconciliation waits for the lock of the resource",
+                        metricTags),
+                metrics.gauge(METRICS_PREFIX + "reconciliations.lock.queued",
+                        "Number of reconciliations waiting for the lock of the resource",
+                        metricTags));
+        lockManager = KeyedLockManager.forVertx(vertx);
+
+        reconciliationQueue = new ReconciliationQueue(
+                metrics.gauge(METRICS_PREFIX + "reconciliations.queued",
+                        "Number of reconciliations waiting for a running reconciliation of the same resource to complete",
+                        metricTags),
+                metrics.counter(METRICS_PREFIX + "reconciliations.deduplicated",
+                        "Number of reconciliations merged into a reconciliation of the same resource which was already queued",
+                        metricTags));
+
         resourcesStateCounter = new ConcurrentHashMap<>();
     }
 
@@ -184,12 +242,17 @@ public abstract class AbstractOperator<
      * Reconciliation works by getting the assembly resource (e.g. {@code KafkaUser})
      * in the given namespace with the given name and
      * comparing with the corresponding resource.
+     * At most one reconciliation of the same resource runs at a time. Reconciliations requested while another one
+     * is running are queued and merged, so that at most one of them is pending for each resource.
      * @param reconciliation The reconciliation.
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        return reconciliationQueue.submit(reconciliation, this::reconcileWithLock);
+    }
+
+    private Future<Void> reconcileWithLock(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
@@ -250,44 +313,27 @@ public abstract class AbstractOperator<
                     return createOrUpdate.future();
                 }
 
-                Set<Condition> unknownAndDeprecatedConditions = validate(cr);
-
-                log.info("{}: {} {} will be checked for creation or modification", reconciliation, kind, name);
+                if (skipUnchangedReconciliationsMs > 0) {
+                    NamespaceAndName resource = new NamespaceAndName(namespace, name);
 
-                createOrUpdate(reconciliation, cr)
-                        .onComplete(res -> {
-                            if (res.succeeded()) {
-                                S status = res.result();
-
-                                addWarningsToStatus(status, unknownAndDeprecatedConditions);
-                                updateStatus(reconciliation, status).onComplete(statusResult -> {
-                                    if (statusResult.succeeded()) {
-                                        createOrUpdate.complete();
-                                    } else {
-                                        createOrUpdate.fail(statusResult.cause());
-                                    }
-                                });
-                            } else {
-                                if (res.cause() instanceof ReconciliationException) {
-                                    ReconciliationException e = (ReconciliationException) res.cause();
-                                    Status status = e.getStatus();
-                                    addWarningsToStatus(status, unknownAndDeprecatedConditions);
-
-                                    log.error("{}: createOrUpdate failed", reconciliation, e.getCause());
-
-                                    updateStatus(reconciliation, (S) status).onComplete(statusResult -> {
-                                        createOrUpdate.fail(e.getCause());
-                                    });
-                                } else {
-                                    log.error("{}: createOrUpdate failed", reconciliation, res.cause());
-                                    createOrUpdate.fail(res.cause());
-                                }
-                            }
-                        });
+                    return fingerprint(reconciliation, cr).compose(fingerprint -> {
+                        if (PERIODIC_TRIGGER.equals(reconciliation.trigger())
+                                && fingerprint.isCoveredBy(fingerprints.get(resource), skipUnchangedReconciliationsMs)) {
+                            log.info("{}: {} {} did not change since its last successful reconciliation and will not be reconciled", reconciliation, kind, name);
+                            skippedReconciliationsCounter.increment();
+                            return Future.succeededFuture();
+                        }
 
-                return createOrUpdate.future();
+                        fingerprints.remove(resource);
+                        return createOrUpdateWithStatus(reconciliation, cr)
+                                .onSuccess(ignored -> fingerprints.put(resource, fingerprint));
+                    });
+                } else {
+                    return createOrUpdateWithStatus(reconciliation, cr);
+                }
             } else {
                 log.info("{}: {} {} should be deleted", reconciliation, kind, name);
+                fingerprints.remove(new NamespaceAndName(namespace, name));
                 return delete(reconciliation).map(deleteResult -> {
                     if (deleteResult) {
                         log.info("{}: {} {} deleted", reconciliation, kind, name);
@@ -311,6 +357,84 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Creates or updates the resources belonging to the custom resource and updates its status
+     *
+     * @param reconciliation    The reconciliation
+     * @param cr                The custom resource
+     *
+     * @return  Future which completes when the custom resource is reconciled
+     */
+    @SuppressWarnings("unchecked")
+    private Future<Void> createOrUpdateWithStatus(Reconciliation reconciliation, T cr) {
+        Promise<Void> createOrUpdate = Promise.promise();
+        Set<Condition> unknownAndDeprecatedConditions = validate(cr);
+
+        log.info("{}: {} {} will be checked for creation or modification", reconciliation, kind, cr.getMetadata().getName());
+        executedReconciliationsCounter.increment();
+
+        createOrUpdate(reconciliation, cr)
+                .onComplete(res -> {
+                    if (res.succeeded()) {
+                        S status = res.result();
+
+                        addWarningsToStatus(status, unknownAndDeprecatedConditions);
+                        updateStatus(reconciliation, status).onComplete(statusResult -> {
+                            if (statusResult.succeeded()) {
+                                createOrUpdate.complete();
+                            } else {
+                                createOrUpdate.fail(statusResult.cause());
+                            }
+                        });
+                    } else {
+                        if (res.cause() instanceof ReconciliationException) {
+                            ReconciliationException e = (ReconciliationException) res.cause();
+                            Status status = e.getStatus();
+                            addWarningsToStatus(status, unknownAndDeprecatedConditions);
+
+                            log.error("{}: createOrUpdate failed", reconciliation, e.getCause());
+
+                            updateStatus(reconciliation, (S) status).onComplete(statusResult -> {
+                                createOrUpdate.fail(e.getCause());
+                            });
+                        } else {
+                            log.error("{}: createOrUpdate failed", reconciliation, res.cause());
+                            createOrUpdate.fail(res.cause());
+                        }
+                    }
+                });
+
+        return createOrUpdate.future();
+    }
+
+    /**
+     * Creates the fingerprint of the inputs of the reconciliation of the custom resource
+     *
+     * @param reconciliation    The reconciliation
+     * @param cr                The custom resource
+     *
+     * @return  Future with the fingerprint
+     */
+    private Future<ReconciliationFingerprint> fingerprint(Reconciliation reconciliation, T cr) {
+        return fingerprintInputs(reconciliation, cr)
+                .map(inputs -> ReconciliationFingerprint.of(cr, inputs));
+    }
+
+    /**
+     * Provides the inputs of the reconciliation which are not part of the custom resource (e.g. the resource versions
+     * of the Secrets or ConfigMaps used by the reconciliation). They are used together with the generation, labels and
+     * annotations of the custom resource to decide whether a periodic reconciliation can be skipped because nothing
+     * changed since the last successful reconciliation. Operators which read such inputs should override this method.
+     *
+     * @param reconciliation    The reconciliation
+     * @param cr                The custom resource
+     *
+     * @return  Future with a String describing the inputs
+     */
+    protected Future<String> fingerprintInputs(Reconciliation reconciliation, T cr) {
+        return Future.succeededFuture("");
+    }
+
     protected void addWarningsToStatus(Status status, Set<Condition> unknownAndDeprecatedConditions)   {
         if (status != null)  {
             status.addConditions(unknownAndDeprecatedConditions);
@@ -385,45 +509,56 @@ public abstract class AbstractOperator<
      * @return
      */
     protected final <T> Future<T> withLock(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<T>> callable) {
-        Promise<T> handler = Promise.promise();
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
+        AtomicBoolean acquired = new AtomicBoolean(false);
         log.debug("{}: Try to acquire lock {}", reconciliation, lockName);
-        vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
-            if (res.succeeded()) {
-                log.debug("{}: Lock {} acquired", reconciliation, lockName);
-
-                Lock lock = res.result();
-                long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> {
-                    log.info("{}: Reconciliation is in progress", reconciliation);
-                });
-
-                try {
-                    callable.call().onComplete(callableRes -> {
-                        if (callableRes.succeeded()) {
-                            handler.complete(callableRes.result());
-                        } else {
-                            handler.fail(callableRes.cause());
-                        }
+        startProgressTimer();
+
+        Future<T> handler = lockManager.withLock(lockName, lockTimeoutMs, lockMetrics, () -> {
+            log.debug("{}: Lock {} acquired", reconciliation, lockName);
+            acquired.set(true);
+            reconciliationsInProgress.put(reconciliation, System.nanoTime());
+
+            try {
+                return callable.call();
+            } catch (Throwable ex) {
+                log.error("{}: Reconciliation failed", reconciliation, ex);
+                return Future.failedFuture(ex);
+            }
+        });
 
-                        vertx.cancelTimer(timerId);
-                        lock.release();
-                        log.debug("{}: Lock {} released", reconciliation, lockName);
-                    });
-                } catch (Throwable ex) {
-                    vertx.cancelTimer(timerId);
-                    lock.release();
-                    log.debug("{}: Lock {} released", reconciliation, lockName);
-                    log.error("{}: Reconciliation failed", reconciliation, ex);
-                    handler.fail(ex);
-                }
-            } else {
+        return handler.recover(error -> {
+            if (!acquired.get() && error instanceof KeyedLockManager.LockTimeoutException) {
                 log.debug("{}: Failed to acquire lock {} within {}ms.", reconciliation, lockName, lockTimeoutMs);
-                handler.fail(new UnableToAcquireLockException());
+                return Future.failedFuture(new UnableToAcquireLockException());
+            } else {
+                return Future.failedFuture(error);
+            }
+        }).onComplete(ignored -> {
+            if (reconciliationsInProgress.remove(reconciliation) != null) {
+                log.debug("{}: Lock {} released", reconciliation, lockName);
             }
         });
-        return handler.future();
+    }
+
+    /**
+     * Starts the timer which periodically logs the reconciliations which are in progress for a long time. A single
+     * timer is used for all reconciliations of this operator.
+     */
+    private void startProgressTimer() {
+        if (progressTimerStarted.compareAndSet(false, true)) {
+            vertx.setPeriodic(PROGRESS_WARNING, timer -> {
+                long now = System.nanoTime();
+
+                reconciliationsInProgress.forEach((reconciliation, startNanos) -> {
+                    if (TimeUnit.NANOSECONDS.toMillis(now - startNanos) >= PROGRESS_WARNING) {
+                        log.info("{}: Reconciliation is in progress", reconciliation);
+                    }
+                });
+            });
+        }
     }
 
     /**
@@ -447,11 +582,14 @@ public abstract class AbstractOperator<
     }
 
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
-        return resourceOperator.listAsync(namespace, selector())
-                .map(resourceList ->
-                        resourceList.stream()
-                                .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
-                                .collect(Collectors.toSet()));
+        // The resources are listed page by page and only their names are kept
+        Set<NamespaceAndName> names = new HashSet<>();
+        return resourceOperator.listPagedAsync(namespace, selector(), AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE, page -> {
+            for (T resource : page) {
+                names.add(new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()));
+            }
+            return Future.succeededFuture();
+        }).map(names);
     }
 
     /**
@@ -472,18 +610,37 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<WatcherException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return createWatch(Collections.singleton(namespace), onClose);
+    }
+
+    /**
+     * Create a single Kubernetes watch shared by multiple namespaces. When more than one namespace is watched, the
+     * watch is opened in all namespaces and the events from other namespaces are ignored.
+     *
+     * @param namespaces Namespaces where to watch for the resources.
+     * @param onClose Callback called when the watch is closed.
+     *
+     * @return A future which completes when the watcher has been created.
+     */
+    public Future<Watch> createWatch(Set<String> namespaces, Consumer<WatcherException> onClose) {
+        String watchNamespace = NamespaceFilteringWatcher.watchNamespace(namespaces);
+        return async(vertx, () -> resourceOperator.watch(watchNamespace, selector(),
+                NamespaceFilteringWatcher.forNamespaces(namespaces, new OperatorWatcher<>(this, watchNamespace, onClose))));
     }
 
     public Consumer<WatcherException> recreateWatch(String namespace) {
+        return recreateWatch(Collections.singleton(namespace));
+    }
+
+    public Consumer<WatcherException> recreateWatch(Set<String> namespaces) {
         Consumer<WatcherException> kubernetesClientExceptionConsumer = new Consumer<WatcherException>() {
             @Override
             public void accept(WatcherException e) {
                 if (e != null) {
-                    log.error("Watcher closed with exception in namespace {}", namespace, e);
-                    createWatch(namespace, this);
+                    log.error("Watcher closed with exception in namespaces {}", namespaces, e);
+                    createWatch(namespaces, this);
                 } else {
-                    log.info("Watcher closed in namespace {}", namespace);
+                    log.info("Watcher closed in namespaces {}", namespaces);
                 }
             }
         };
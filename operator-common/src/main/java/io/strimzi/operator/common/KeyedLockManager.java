@@ -0,0 +1,274 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.operator.resource.TimeoutException;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Local (non-clustered) keyed lock manager used to serialize the operations on a single resource. It replaces the
+ * Vert.x shared data locks: every key has its own FIFO queue of waiters and when the lock is released, it is handed
+ * over directly to the next waiter. Timers are used only to time out the waiters which could not get the lock, they
+ * are never used to poll the lock.</p>
+ *
+ * <p>The lock manager is shared by everything using the same Vert.x instance (see {@link #forVertx(Vertx)}), so that
+ * different operators using the same lock name serialize with each other.</p>
+ */
+public class KeyedLockManager implements Shareable {
+    private static final String LOCAL_MAP_NAME = "strimzi.locks";
+
+    private final Vertx vertx;
+    private final ConcurrentHashMap<String, LockQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vert.x instance used for the timeouts and to run the tasks on the context of the caller
+     */
+    KeyedLockManager(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Returns the lock manager shared by all users of given Vert.x instance
+     *
+     * @param vertx Vert.x instance
+     *
+     * @return  The shared lock manager
+     */
+    public static KeyedLockManager forVertx(Vertx vertx) {
+        return vertx.sharedData().<String, KeyedLockManager>getLocalMap(LOCAL_MAP_NAME)
+                .computeIfAbsent(LOCAL_MAP_NAME, name -> new KeyedLockManager(vertx));
+    }
+
+    /**
+     * Acquires the lock for the given {@code key} and runs the given {@code task} with the lock held. The lock is
+     * released once the future returned by the task completes (or when the task throws). The task is executed on the
+     * context of the caller.
+     *
+     * @param key           The key of the lock
+     * @param timeoutMs     How long to wait for the lock. If the lock is not acquired within this time, the task is
+     *                      not executed and the returned future fails with {@link LockTimeoutException}.
+     * @param metrics       Metrics updated while waiting for the lock. Can be null.
+     * @param task          The task which should be run with the lock held
+     * @param <T>           Type of the task result
+     *
+     * @return  Future which completes with the result of the task
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> withLock(String key, long timeoutMs, LockMetrics metrics, Callable<Future<T>> task) {
+        Waiter waiter = new Waiter(key, metrics, vertx.getOrCreateContext(), task);
+        boolean[] acquired = new boolean[1];
+
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new LockQueue();
+            }
+
+            if (!queue.held) {
+                queue.held = true;
+                acquired[0] = true;
+            } else {
+                queue.waiters.add(waiter);
+                waiter.waiting();
+            }
+
+            return queue;
+        });
+
+        if (acquired[0]) {
+            waiter.claim();
+            waiter.start();
+        } else {
+            long timerId = vertx.setTimer(Math.max(1, timeoutMs), id -> timeout(waiter, timeoutMs));
+            waiter.timerId = timerId;
+
+            // The lock might have been handed over before the timer ID was set
+            if (waiter.claimed.get()) {
+                vertx.cancelTimer(timerId);
+            }
+        }
+
+        return (Future<T>) waiter.result.future();
+    }
+
+    /**
+     * Number of waiters queued for the given key
+     *
+     * @param key   The key of the lock
+     *
+     * @return  Number of waiters
+     */
+    public int queueLength(String key) {
+        int[] length = new int[1];
+
+        queues.computeIfPresent(key, (k, queue) -> {
+            length[0] = queue.waiters.size();
+            return queue;
+        });
+
+        return length[0];
+    }
+
+    private void timeout(Waiter waiter, long timeoutMs) {
+        if (waiter.claim()) {
+            queues.computeIfPresent(waiter.key, (k, queue) -> {
+                queue.waiters.remove(waiter);
+                return queue;
+            });
+
+            waiter.finishedWaiting();
+            waiter.result.fail(new LockTimeoutException("Failed to acquire lock " + waiter.key + " within " + timeoutMs + "ms"));
+        }
+    }
+
+    /**
+     * Releases the lock and hands it over to the next waiter (if any)
+     *
+     * @param key   The key of the lock
+     */
+    private void release(String key) {
+        Waiter[] next = new Waiter[1];
+
+        queues.computeIfPresent(key, (k, queue) -> {
+            Waiter waiter;
+
+            while ((waiter = queue.waiters.poll()) != null) {
+                if (waiter.claim()) {
+                    next[0] = waiter;
+                    return queue;
+                }
+            }
+
+            queue.held = false;
+            return null;
+        });
+
+        if (next[0] != null) {
+            Waiter waiter = next[0];
+
+            if (waiter.timerId != null) {
+                vertx.cancelTimer(waiter.timerId);
+            }
+
+            waiter.finishedWaiting();
+            waiter.context.runOnContext(v -> waiter.start());
+        }
+    }
+
+    /**
+     * Queue of waiters for a single key. It is always accessed from within the {@code compute} methods of the queue
+     * map, which serializes the access to it.
+     */
+    private static class LockQueue {
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private boolean held = false;
+    }
+
+    /**
+     * Single task waiting for the lock
+     */
+    private class Waiter {
+        private final String key;
+        private final LockMetrics metrics;
+        private final Context context;
+        private final Callable<? extends Future<?>> task;
+        private final Promise<Object> result = Promise.promise();
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final long createdNanos = System.nanoTime();
+        private volatile Long timerId;
+
+        Waiter(String key, LockMetrics metrics, Context context, Callable<? extends Future<?>> task) {
+            this.key = key;
+            this.metrics = metrics;
+            this.context = context;
+            this.task = task;
+        }
+
+        /**
+         * Claims the waiter either for the lock hand-over or for the timeout. Only one of them can succeed.
+         *
+         * @return  True if the waiter was claimed, false if it was already claimed before
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void waiting() {
+            if (metrics != null && metrics.queued != null) {
+                metrics.queued.incrementAndGet();
+            }
+        }
+
+        void finishedWaiting() {
+            if (metrics != null && metrics.queued != null) {
+                metrics.queued.decrementAndGet();
+            }
+        }
+
+        void start() {
+            if (metrics != null && metrics.waitTimer != null) {
+                metrics.waitTimer.record(System.nanoTime() - createdNanos, TimeUnit.NANOSECONDS);
+            }
+
+            Future<?> future;
+            try {
+                future = task.call();
+            } catch (Throwable t) {
+                future = Future.failedFuture(t);
+            }
+
+            future.onComplete(res -> {
+                release(key);
+
+                if (res.succeeded()) {
+                    result.complete(res.result());
+                } else {
+                    result.fail(res.cause());
+                }
+            });
+        }
+    }
+
+    /**
+     * Metrics updated by the lock manager
+     */
+    public static class LockMetrics {
+        private final Timer waitTimer;
+        private final AtomicInteger queued;
+
+        /**
+         * Constructor
+         *
+         * @param waitTimer Timer recording how long the tasks waited for the lock. Can be null.
+         * @param queued    Gauge with the number of tasks waiting for the lock. Can be null.
+         */
+        public LockMetrics(Timer waitTimer, AtomicInteger queued) {
+            this.waitTimer = waitTimer;
+            this.queued = queued;
+        }
+    }
+
+    /**
+     * Thrown when the lock cannot be acquired within the timeout
+     */
+    public static class LockTimeoutException extends TimeoutException {
+        public LockTimeoutException(String message) {
+            super(message);
+        }
+    }
+}
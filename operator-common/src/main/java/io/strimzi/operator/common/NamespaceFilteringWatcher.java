@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
+
+import java.util.Set;
+
+/**
+ * The fabric8 Watcher used to share a single watch between multiple namespaces. The watch is opened in all namespaces
+ * and only the events of the resources from the watched namespaces are passed to the delegate watcher.
+ *
+ * @param <T> The resource type
+ */
+public class NamespaceFilteringWatcher<T extends HasMetadata> implements Watcher<T> {
+    private final Set<String> namespaces;
+    private final Watcher<T> delegate;
+
+    NamespaceFilteringWatcher(Set<String> namespaces, Watcher<T> delegate) {
+        this.namespaces = namespaces;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Finds the namespace in which the watch for given namespaces should be opened
+     *
+     * @param namespaces    Watched namespaces
+     *
+     * @return  The only watched namespace or the any namespace wildcard when watching multiple namespaces
+     */
+    public static String watchNamespace(Set<String> namespaces) {
+        if (namespaces.size() == 1) {
+            return namespaces.iterator().next();
+        } else {
+            return AbstractWatchableResourceOperator.ANY_NAMESPACE;
+        }
+    }
+
+    /**
+     * Wraps the watcher to filter the events from the namespaces which are not watched. The watcher is returned as it
+     * is when only one namespace is watched, because the watch is opened directly in that namespace.
+     *
+     * @param namespaces    Watched namespaces
+     * @param watcher       Watcher which should receive the events
+     * @param <T>           The resource type
+     *
+     * @return  Watcher to be used with the watch opened in the namespace returned by {@link #watchNamespace(Set)}
+     */
+    public static <T extends HasMetadata> Watcher<T> forNamespaces(Set<String> namespaces, Watcher<T> watcher) {
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(watchNamespace(namespaces))
+                && !namespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE)) {
+            return new NamespaceFilteringWatcher<>(namespaces, watcher);
+        } else {
+            return watcher;
+        }
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        if (resource != null
+                && resource.getMetadata() != null
+                && namespaces.contains(resource.getMetadata().getNamespace())) {
+            delegate.eventReceived(action, resource);
+        }
+    }
+
+    @Override
+    public void onClose(WatcherException e) {
+        delegate.onClose(e);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.client.CustomResource;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fingerprint of the inputs of a reconciliation: the generation of the custom resource and the hash of the labels and
+ * annotations of the custom resource together with any other inputs provided by the operator (e.g. the resource
+ * versions of the Secrets and ConfigMaps the reconciliation reads). When the fingerprint of a periodic reconciliation
+ * is equal to the fingerprint of the last successful reconciliation of the same resource, the periodic reconciliation
+ * would not change anything and can be skipped. The fingerprints are kept only in memory, so a new version of the
+ * operator always starts without them.
+ */
+class ReconciliationFingerprint {
+    private final Long generation;
+    private final String inputsHash;
+    private final long createdNanos;
+
+    ReconciliationFingerprint(Long generation, String inputsHash, long createdNanos) {
+        this.generation = generation;
+        this.inputsHash = inputsHash;
+        this.createdNanos = createdNanos;
+    }
+
+    /**
+     * Creates the fingerprint of the reconciliation of a custom resource
+     *
+     * @param resource  The custom resource
+     * @param inputs    Other inputs of the reconciliation provided by the operator
+     *
+     * @return  The fingerprint
+     */
+    static ReconciliationFingerprint of(CustomResource<?, ?> resource, String inputs) {
+        String labelsAndAnnotations = "labels=" + (resource.getMetadata().getLabels() != null ? new TreeMap<>(resource.getMetadata().getLabels()) : null)
+                + ",annotations=" + (resource.getMetadata().getAnnotations() != null ? new TreeMap<>(resource.getMetadata().getAnnotations()) : null)
+                + ",inputs=" + inputs;
+
+        return new ReconciliationFingerprint(resource.getMetadata().getGeneration(), Util.stringHash(labelsAndAnnotations), System.nanoTime());
+    }
+
+    /**
+     * Checks whether this fingerprint has the same inputs as the fingerprint of the previous successful
+     * reconciliation and whether the previous reconciliation is not older than the maximum age.
+     *
+     * @param previous  The fingerprint of the previous successful reconciliation or null if there was none
+     * @param maxAgeMs  Maximal age of the previous reconciliation in milliseconds
+     *
+     * @return  True if the previous reconciliation covers this one. False otherwise.
+     */
+    boolean isCoveredBy(ReconciliationFingerprint previous, long maxAgeMs) {
+        return previous != null
+                && generation != null
+                && generation.equals(previous.generation)
+                && inputsHash.equals(previous.inputsHash)
+                && TimeUnit.NANOSECONDS.toMillis(createdNanos - previous.createdNanos) < maxAgeMs;
+    }
+
+    @Override
+    public String toString() {
+        return "ReconciliationFingerprint(" +
+                "generation=" + generation +
+                ",inputsHash=" + inputsHash +
+                ")";
+    }
+}
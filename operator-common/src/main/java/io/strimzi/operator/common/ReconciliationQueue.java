@@ -0,0 +1,160 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Work queue which keeps at most one running and one pending reconciliation per resource. When a reconciliation is
+ * requested while another reconciliation of the same resource is running, it becomes pending and runs once the running
+ * one completes. Any further requests for the same resource are merged into the pending reconciliation: they are not
+ * executed on their own and complete with its result. The pending reconciliation reads the latest state of the
+ * resource when it starts, so it covers all the merged triggers.
+ */
+class ReconciliationQueue {
+    private static final Logger log = LogManager.getLogger(ReconciliationQueue.class);
+
+    private final ConcurrentHashMap<NamespaceAndName, ResourceWork> work = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedGauge;
+    private final Counter deduplicatedCounter;
+
+    /**
+     * Constructor
+     *
+     * @param queuedGauge           Gauge with the number of pending reconciliations. Can be null.
+     * @param deduplicatedCounter   Counter of the reconciliations merged into a pending reconciliation. Can be null.
+     */
+    ReconciliationQueue(AtomicInteger queuedGauge, Counter deduplicatedCounter) {
+        this.queuedGauge = queuedGauge;
+        this.deduplicatedCounter = deduplicatedCounter;
+    }
+
+    /**
+     * Submits a reconciliation
+     *
+     * @param reconciliation    The reconciliation
+     * @param reconcile         Function executing the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation (or with the result of the pending
+     *          reconciliation it was merged into)
+     */
+    Future<Void> submit(Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconcile) {
+        NamespaceAndName resource = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Promise<Void> started = Promise.promise();
+        boolean[] runNow = new boolean[1];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Future<Void>[] result = new Future[1];
+
+        work.compute(resource, (key, resourceWork) -> {
+            if (resourceWork == null) {
+                runNow[0] = true;
+                result[0] = started.future();
+                return new ResourceWork();
+            } else if (resourceWork.pending == null) {
+                resourceWork.pending = Promise.promise();
+                resourceWork.pendingReconciliation = reconciliation;
+                resourceWork.pendingTriggers.add(reconciliation.trigger());
+                increment(queuedGauge);
+                result[0] = resourceWork.pending.future();
+                return resourceWork;
+            } else {
+                resourceWork.pendingTriggers.add(reconciliation.trigger());
+                if (deduplicatedCounter != null) {
+                    deduplicatedCounter.increment();
+                }
+                result[0] = resourceWork.pending.future();
+                return resourceWork;
+            }
+        });
+
+        if (runNow[0]) {
+            run(resource, reconciliation, reconcile, started);
+        } else {
+            log.debug("{}: Another reconciliation of the same resource is in progress, the reconciliation will be queued", reconciliation);
+        }
+
+        return result[0];
+    }
+
+    private void run(NamespaceAndName resource, Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconcile, Promise<Void> result) {
+        Future<Void> future;
+        try {
+            future = reconcile.apply(reconciliation);
+        } catch (Throwable t) {
+            future = Future.failedFuture(t);
+        }
+
+        future.onComplete(res -> completed(resource, reconcile, result, res));
+    }
+
+    private void completed(NamespaceAndName resource, Function<Reconciliation, Future<Void>> reconcile, Promise<Void> result, AsyncResult<Void> res) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Promise<Void>[] next = new Promise[1];
+        Reconciliation[] nextReconciliation = new Reconciliation[1];
+
+        work.computeIfPresent(resource, (key, resourceWork) -> {
+            if (resourceWork.pending == null) {
+                return null;
+            }
+
+            next[0] = resourceWork.pending;
+            nextReconciliation[0] = merged(resourceWork.pendingReconciliation, resourceWork.pendingTriggers);
+            resourceWork.pending = null;
+            resourceWork.pendingReconciliation = null;
+            resourceWork.pendingTriggers.clear();
+            decrement(queuedGauge);
+            return resourceWork;
+        });
+
+        result.handle(res);
+
+        if (next[0] != null) {
+            run(resource, nextReconciliation[0], reconcile, next[0]);
+        }
+    }
+
+    private static Reconciliation merged(Reconciliation reconciliation, Set<String> triggers) {
+        if (triggers.size() > 1) {
+            Reconciliation merged = new Reconciliation(String.join(", ", triggers), reconciliation.kind(), reconciliation.namespace(), reconciliation.name());
+            log.debug("{}: Merged {} queued reconciliations", merged, triggers.size());
+            return merged;
+        } else {
+            return reconciliation;
+        }
+    }
+
+    private static void increment(AtomicInteger gauge) {
+        if (gauge != null) {
+            gauge.incrementAndGet();
+        }
+    }
+
+    private static void decrement(AtomicInteger gauge) {
+        if (gauge != null) {
+            gauge.decrementAndGet();
+        }
+    }
+
+    /**
+     * Work on a single resource. Its existence means a reconciliation of the resource is running.
+     */
+    private static class ResourceWork {
+        private Promise<Void> pending;
+        private Reconciliation pendingReconciliation;
+        private final Set<String> pendingTriggers = new LinkedHashSet<>();
+    }
+}
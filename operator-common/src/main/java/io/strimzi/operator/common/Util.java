@@ -8,6 +8,8 @@ import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.strimzi.api.kafka.model.ExternalLogging;
 import io.strimzi.api.kafka.model.JmxPrometheusExporterMetrics;
 import io.strimzi.api.kafka.model.Logging;
@@ -50,6 +52,7 @@ import java.util.Optional;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -103,11 +106,11 @@ public class Util {
                                        Predicate<Throwable> failOnError) {
         Promise<Void> promise = Promise.promise();
         LOGGER.debug("Waiting for {} to get {}", logContext, logState);
-        long deadline = System.currentTimeMillis() + timeoutMs;
+        long deadline = deadline(timeoutMs);
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                WorkerPools.kubernetes(vertx).executeBlocking(
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -152,6 +155,43 @@ public class Util {
         return promise.future();
     }
 
+    /**
+     * Waits until the given {@code completed} supplier returns true or {@code timeoutMs} milliseconds have elapsed.
+     * Unlike {@link #waitFor(Vertx, String, String, long, long, BooleanSupplier)}, the supplier is not invoked
+     * periodically. It is invoked once the watch opened by {@code watch} is open. The changes reported by the watch
+     * are checked by evaluating {@code resourceCompleted} on the resource carried by the event (or on null when the
+     * resource was deleted), so that the resource does not have to be read again. When {@code resourceCompleted} is
+     * null, the supplier is invoked after every change instead. The supplier is polled every {@code pollIntervalMs}
+     * milliseconds only when the watch cannot be opened or is closed with an error.
+     *
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when the watch is not available.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param resourceCompleted Determines from the resource carried by a watch event when the wait is complete, or null.
+     * @param watch Opens the watch of the resource for the given watcher. The returned watch is closed when the wait is over.
+     * @param <T> The type of the watched resource.
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    public static <T> Future<Void> waitFor(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+                                           Predicate<T> resourceCompleted, Function<Watcher<T>, Watch> watch) {
+        return new WatchDrivenWait<>(vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, resourceCompleted, watch).start();
+    }
+
+    /**
+     * Calculates the deadline of an operation which starts now and has the given timeout. Timeouts which would
+     * overflow (such as {@code Long.MAX_VALUE}) result in a deadline which is never reached.
+     *
+     * @param timeoutMs The timeout, in milliseconds.
+     * @return The deadline as a time in milliseconds comparable with {@link System#currentTimeMillis()}.
+     */
+    static long deadline(long timeoutMs) {
+        long now = System.currentTimeMillis();
+        return timeoutMs > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeoutMs;
+    }
+
     /**
      * Parse a map from String.
      * For example a map of images {@code 2.0.0=strimzi/kafka:latest-kafka-2.0.0, 2.1.0=strimzi/kafka:latest-kafka-2.1.0}
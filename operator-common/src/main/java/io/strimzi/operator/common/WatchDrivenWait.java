@@ -0,0 +1,231 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.operator.common.operator.resource.TimeoutException;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Waits until the {@code completed} supplier returns true. Instead of invoking the supplier periodically, it opens a
+ * watch and invokes the supplier only once the watch is open. The changes reported by the watch are then checked using
+ * the {@code resourceCompleted} predicate on the resource carried by the event, so the resource is not read again
+ * after every change. When no such predicate is given, the supplier is invoked after every change instead. When the
+ * watch cannot be opened or when it is closed with an error before the wait is over, the remaining time is spent
+ * polling the supplier as {@link Util#waitFor(Vertx, String, String, long, long, BooleanSupplier)} does.
+ *
+ * @param <T>   Type of the watched resource
+ */
+class WatchDrivenWait<T> implements Watcher<T> {
+    private static final Logger LOGGER = LogManager.getLogger(WatchDrivenWait.class);
+
+    private final Vertx vertx;
+    private final Context context;
+    private final String logContext;
+    private final String logState;
+    private final long pollIntervalMs;
+    private final long timeoutMs;
+    private final long deadline;
+    private final BooleanSupplier completed;
+    private final Predicate<T> resourceCompleted;
+    private final Function<Watcher<T>, Watch> watchFactory;
+
+    private final Promise<Void> promise = Promise.promise();
+    private final AtomicBoolean checkScheduled = new AtomicBoolean(false);
+    private volatile Watch watch;
+    private long timerId;
+
+    WatchDrivenWait(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs,
+                    BooleanSupplier completed, Predicate<T> resourceCompleted, Function<Watcher<T>, Watch> watchFactory) {
+        this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
+        this.logContext = logContext;
+        this.logState = logState;
+        this.pollIntervalMs = pollIntervalMs;
+        this.timeoutMs = timeoutMs;
+        this.deadline = Util.deadline(timeoutMs);
+        this.completed = completed;
+        this.resourceCompleted = resourceCompleted;
+        this.watchFactory = watchFactory;
+    }
+
+    /**
+     * Opens the watch and starts waiting
+     *
+     * @return  A future that completes when the given {@code completed} indicates readiness.
+     */
+    Future<Void> start() {
+        LOGGER.debug("Waiting for {} to get {} using a watch", logContext, logState);
+
+        timerId = vertx.setTimer(Math.max(1, timeoutMs), ignored -> {
+            String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+            if (promise.tryFail(new TimeoutException(exceptionMessage))) {
+                LOGGER.error(exceptionMessage);
+            }
+        });
+
+        promise.future().onComplete(ignored -> {
+            vertx.cancelTimer(timerId);
+            closeWatch();
+        });
+
+        WorkerPools.kubernetes(vertx).<Watch>executeBlocking(
+            future -> {
+                try {
+                    future.complete(watchFactory.apply(this));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            true,
+            res -> {
+                if (res.succeeded() && res.result() != null) {
+                    watch = res.result();
+
+                    if (promise.future().isComplete()) {
+                        closeWatch();
+                    } else {
+                        // The state might have changed before the watch was open
+                        scheduleCheck();
+                    }
+                } else {
+                    LOGGER.debug("Failed to watch {}, polling it instead", logContext, res.cause());
+                    pollRemainingTime();
+                }
+            });
+
+        return promise.future();
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        LOGGER.trace("{} received {} event while waiting for it to get {}", logContext, action, logState);
+
+        if (resourceCompleted == null || action == Action.ERROR) {
+            scheduleCheck();
+        } else {
+            T current = action == Action.DELETED ? null : resource;
+            context.runOnContext(ignored -> checkResource(current));
+        }
+    }
+
+    @Override
+    public void onClose(WatcherException e) {
+        if (e != null && !promise.future().isComplete()) {
+            LOGGER.debug("Watch for {} closed with exception, polling it instead", logContext, e);
+            context.runOnContext(ignored -> pollRemainingTime());
+        }
+    }
+
+    /**
+     * Schedules the invocation of the {@code completed} supplier. Events received before the scheduled invocation
+     * starts are covered by it and do not schedule another one.
+     */
+    private void scheduleCheck() {
+        if (checkScheduled.compareAndSet(false, true)) {
+            context.runOnContext(ignored -> {
+                checkScheduled.set(false);
+                check();
+            });
+        }
+    }
+
+    private void check() {
+        if (promise.future().isComplete()) {
+            return;
+        }
+
+        WorkerPools.kubernetes(vertx).<Boolean>executeBlocking(
+            future -> {
+                try {
+                    future.complete(completed.getAsBoolean());
+                } catch (Throwable t) {
+                    LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, t);
+                    future.fail(t);
+                }
+            },
+            true,
+            res -> {
+                if (res.succeeded() && res.result()) {
+                    LOGGER.debug("{} is {}", logContext, logState);
+                    promise.tryComplete();
+                } else if (res.failed()) {
+                    // The error might not be followed by any event, so we try again after the poll interval
+                    vertx.setTimer(pollIntervalMs, ignored -> scheduleCheck());
+                } else {
+                    LOGGER.trace("{} is not {}", logContext, logState);
+                }
+            });
+    }
+
+    /**
+     * Checks the resource carried by a watch event. The predicate only inspects the resource, so it runs on the
+     * context instead of the worker pool.
+     *
+     * @param resource  The resource from the event or null when it was deleted
+     */
+    private void checkResource(T resource) {
+        if (promise.future().isComplete()) {
+            return;
+        }
+
+        boolean done;
+        try {
+            done = resourceCompleted.test(resource);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, e);
+            done = false;
+        }
+
+        if (done) {
+            LOGGER.debug("{} is {}", logContext, logState);
+            promise.tryComplete();
+        } else {
+            LOGGER.trace("{} is not {}", logContext, logState);
+        }
+    }
+
+    private void pollRemainingTime() {
+        closeWatch();
+
+        long timeLeft = deadline - System.currentTimeMillis();
+        if (timeLeft > 0 && !promise.future().isComplete()) {
+            // The polling has its own timeout
+            vertx.cancelTimer(timerId);
+            Util.waitFor(vertx, logContext, logState, pollIntervalMs, timeLeft, completed)
+                    .onComplete(res -> {
+                        if (res.succeeded()) {
+                            promise.tryComplete();
+                        } else {
+                            promise.tryFail(res.cause());
+                        }
+                    });
+        }
+    }
+
+    private void closeWatch() {
+        Watch w = watch;
+        watch = null;
+        if (w != null) {
+            try {
+                w.close();
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to close the watch for {}", logContext, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named worker pools for the different kinds of blocking work done by the operators. Each kind of work has its own
+ * pool, so that for example slow Kafka Admin API calls do not delay the Kubernetes API calls of other reconciliations.
+ *
+ * The pools are Vert.x shared worker executors. A shared worker pool is sized when it is created for the first time,
+ * so {@link #createPools(Vertx)} should be called when the operator starts, before any of the pools is used. When the
+ * Vert.x metrics are labelled with the pool name, Vert.x publishes the queue wait time ({@code vertx_pool_queue_time}),
+ * number of queued tasks ({@code vertx_pool_queue_pending}), busy threads ({@code vertx_pool_in_use}) and utilization
+ * ({@code vertx_pool_ratio}) of each pool.
+ *
+ * The certificates of the individual pods are issued in parallel using a separate bounded executor. It is a plain
+ * Java executor, because it is used from the model classes which do not use Vert.x, and it is sized using the crypto
+ * pool size.
+ */
+public class WorkerPools {
+    public static final String KUBERNETES_POOL_NAME = "kubernetes-ops-pool";
+    public static final String KAFKA_ADMIN_POOL_NAME = "kafka-admin-ops-pool";
+    public static final String ZOOKEEPER_POOL_NAME = "zookeeper-ops-pool";
+    public static final String CRYPTO_POOL_NAME = "crypto-ops-pool";
+
+    public static final String STRIMZI_KUBERNETES_WORKER_POOL_SIZE = "STRIMZI_KUBERNETES_WORKER_POOL_SIZE";
+    public static final String STRIMZI_KAFKA_ADMIN_WORKER_POOL_SIZE = "STRIMZI_KAFKA_ADMIN_WORKER_POOL_SIZE";
+    public static final String STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE = "STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE";
+    public static final String STRIMZI_CRYPTO_WORKER_POOL_SIZE = "STRIMZI_CRYPTO_WORKER_POOL_SIZE";
+
+    public static final int DEFAULT_KUBERNETES_POOL_SIZE = 10;
+    public static final int DEFAULT_KAFKA_ADMIN_POOL_SIZE = 5;
+    public static final int DEFAULT_ZOOKEEPER_POOL_SIZE = 5;
+    public static final int DEFAULT_CRYPTO_POOL_SIZE = 4;
+
+    /**
+     * Worker pools with the default sizes
+     */
+    public static final WorkerPools DEFAULT = new WorkerPools(DEFAULT_KUBERNETES_POOL_SIZE, DEFAULT_KAFKA_ADMIN_POOL_SIZE,
+            DEFAULT_ZOOKEEPER_POOL_SIZE, DEFAULT_CRYPTO_POOL_SIZE);
+
+    private static final long MAX_EXECUTE_TIME_NS = TimeUnit.SECONDS.toNanos(120);
+    private static final String CERT_ISSUANCE_THREAD_NAME_PREFIX = "cert-issuance-";
+
+    private static ExecutorService certIssuanceExecutor;
+
+    private final int kubernetesPoolSize;
+    private final int kafkaAdminPoolSize;
+    private final int zookeeperPoolSize;
+    private final int cryptoPoolSize;
+
+    /**
+     * Constructor
+     *
+     * @param kubernetesPoolSize    Number of threads used for the Kubernetes API calls
+     * @param kafkaAdminPoolSize    Number of threads used for the Kafka Admin API calls
+     * @param zookeeperPoolSize     Number of threads used for the ZooKeeper calls
+     * @param cryptoPoolSize        Number of threads used for generating keys and certificates
+     */
+    public WorkerPools(int kubernetesPoolSize, int kafkaAdminPoolSize, int zookeeperPoolSize, int cryptoPoolSize) {
+        this.kubernetesPoolSize = kubernetesPoolSize;
+        this.kafkaAdminPoolSize = kafkaAdminPoolSize;
+        this.zookeeperPoolSize = zookeeperPoolSize;
+        this.cryptoPoolSize = cryptoPoolSize;
+    }
+
+    /**
+     * Loads the worker pool sizes from the environment variables
+     *
+     * @param map   Map with the environment variables
+     *
+     * @return  Worker pools configuration
+     */
+    public static WorkerPools fromMap(Map<String, String> map) {
+        return new WorkerPools(
+                parsePoolSize(map, STRIMZI_KUBERNETES_WORKER_POOL_SIZE, DEFAULT_KUBERNETES_POOL_SIZE),
+                parsePoolSize(map, STRIMZI_KAFKA_ADMIN_WORKER_POOL_SIZE, DEFAULT_KAFKA_ADMIN_POOL_SIZE),
+                parsePoolSize(map, STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE, DEFAULT_ZOOKEEPER_POOL_SIZE),
+                parsePoolSize(map, STRIMZI_CRYPTO_WORKER_POOL_SIZE, DEFAULT_CRYPTO_POOL_SIZE));
+    }
+
+    private static int parsePoolSize(Map<String, String> map, String envVar, int defaultSize) {
+        String value = map.get(envVar);
+
+        if (value == null) {
+            return defaultSize;
+        }
+
+        int size;
+        try {
+            size = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidConfigurationException(envVar + " has to be a positive number of threads", e);
+        }
+
+        if (size <= 0) {
+            throw new InvalidConfigurationException(envVar + " has to be a positive number of threads");
+        }
+
+        return size;
+    }
+
+    /**
+     * Creates all worker pools with their configured sizes
+     *
+     * @param vertx     Vertx instance
+     */
+    public void createPools(Vertx vertx) {
+        vertx.createSharedWorkerExecutor(KUBERNETES_POOL_NAME, kubernetesPoolSize, MAX_EXECUTE_TIME_NS);
+        vertx.createSharedWorkerExecutor(KAFKA_ADMIN_POOL_NAME, kafkaAdminPoolSize, MAX_EXECUTE_TIME_NS);
+        vertx.createSharedWorkerExecutor(ZOOKEEPER_POOL_NAME, zookeeperPoolSize, MAX_EXECUTE_TIME_NS);
+        vertx.createSharedWorkerExecutor(CRYPTO_POOL_NAME, cryptoPoolSize, MAX_EXECUTE_TIME_NS);
+        certIssuance(cryptoPoolSize);
+    }
+
+    /**
+     * @param vertx     Vertx instance
+     *
+     * @return  Worker pool for the Kubernetes API calls
+     */
+    public static WorkerExecutor kubernetes(Vertx vertx) {
+        return vertx.createSharedWorkerExecutor(KUBERNETES_POOL_NAME);
+    }
+
+    /**
+     * @param vertx     Vertx instance
+     *
+     * @return  Worker pool for the Kafka Admin API calls
+     */
+    public static WorkerExecutor kafkaAdmin(Vertx vertx) {
+        return vertx.createSharedWorkerExecutor(KAFKA_ADMIN_POOL_NAME);
+    }
+
+    /**
+     * @param vertx     Vertx instance
+     *
+     * @return  Worker pool for the ZooKeeper calls
+     */
+    public static WorkerExecutor zookeeper(Vertx vertx) {
+        return vertx.createSharedWorkerExecutor(ZOOKEEPER_POOL_NAME);
+    }
+
+    /**
+     * @param vertx     Vertx instance
+     *
+     * @return  Worker pool for generating keys and certificates
+     */
+    public static WorkerExecutor crypto(Vertx vertx) {
+        return vertx.createSharedWorkerExecutor(CRYPTO_POOL_NAME);
+    }
+
+    /**
+     * @return  Bounded executor used for issuing the certificates of the individual pods in parallel
+     */
+    public static ExecutorService certIssuance() {
+        return certIssuance(DEFAULT_CRYPTO_POOL_SIZE);
+    }
+
+    /**
+     * Returns the certificate issuance executor. Same as the Vert.x shared worker pools, the executor is sized when it
+     * is created for the first time. Its threads are stopped when they are idle.
+     *
+     * @param size  Maximal number of certificates issued at the same time
+     *
+     * @return  Bounded executor used for issuing the certificates
+     */
+    private static synchronized ExecutorService certIssuance(int size) {
+        if (certIssuanceExecutor == null) {
+            AtomicInteger threadCounter = new AtomicInteger(0);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, CERT_ISSUANCE_THREAD_NAME_PREFIX + threadCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+
+            certIssuanceExecutor = executor;
+        }
+
+        return certIssuanceExecutor;
+    }
+
+    /**
+     * @return  Number of threads used for the Kubernetes API calls
+     */
+    public int getKubernetesPoolSize() {
+        return kubernetesPoolSize;
+    }
+
+    /**
+     * @return  Number of threads used for the Kafka Admin API calls
+     */
+    public int getKafkaAdminPoolSize() {
+        return kafkaAdminPoolSize;
+    }
+
+    /**
+     * @return  Number of threads used for the ZooKeeper calls
+     */
+    public int getZookeeperPoolSize() {
+        return zookeeperPoolSize;
+    }
+
+    /**
+     * @return  Number of threads used for generating keys and certificates
+     */
+    public int getCryptoPoolSize() {
+        return cryptoPoolSize;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkerPools(" +
+                "kubernetes=" + kubernetesPoolSize +
+                ",kafkaAdmin=" + kafkaAdminPoolSize +
+                ",zookeeper=" + zookeeperPoolSize +
+                ",crypto=" + cryptoPoolSize +
+                ")";
+    }
+}
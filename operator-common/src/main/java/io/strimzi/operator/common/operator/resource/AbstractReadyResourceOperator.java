@@ -7,6 +7,7 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -37,7 +38,7 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
     }
 
     public Future<Void> readiness(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return waitFor(namespace, name, "ready", pollIntervalMs, timeoutMs, this::isReady, this::isReady);
     }
 
     /**
@@ -56,4 +57,14 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
             return false;
         }
     }
+
+    /**
+     * Check if a resource is in the Ready state.
+     *
+     * @param resource The resource or null if it does not exist.
+     * @return Whether the resource in in the Ready state.
+     */
+    protected boolean isReady(T resource) {
+        return resource != null && Readiness.getInstance().isReady(resource);
+    }
 }
@@ -9,13 +9,18 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.NamespaceFilteringWatcher;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -24,11 +29,16 @@ import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -45,6 +55,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         L extends KubernetesResourceList<T>,
         R extends Resource<T>> {
 
+    /**
+     * The default number of resources in a single page of a paginated list request
+     */
+    public static final int DEFAULT_LIST_PAGE_SIZE = 500;
+
     protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
             "^(/metadata/managedFields" +
                     "|/status)$");
@@ -54,6 +69,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -70,6 +86,186 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Enables the local resource cache for the given namespace. Once the cache is synced, {@link #get(String, String)},
+     * {@link #getAsync(String, String)}, {@link #list(String, Labels)}, {@link #listAsync(String, Labels)} and the
+     * lookup of the current state in {@link #reconcile(String, String, HasMetadata)} are served from the cache instead
+     * of the Kubernetes API. Operators which return false from {@link #servesGetsFromCache()} serve only the lists
+     * from the cache. Calling this method repeatedly for the same namespace has no effect.
+     *
+     * @param namespace Namespace which should be cached or {@code *} for all namespaces
+     * @param metrics   Metrics provider used for the cache metrics
+     *
+     * @return  A future which completes when the cache has been synced for the first time
+     */
+    public Future<Void> enableCache(String namespace, MetricsProvider metrics) {
+        return enableCache(Set.of(namespace), metrics);
+    }
+
+    /**
+     * Enables the local resource cache for the given namespaces. Multiple namespaces are cached by a single cache
+     * which lists and watches all namespaces and ignores the resources from the other namespaces, as with the
+     * watches shared by multiple namespaces.
+     *
+     * @param namespaces    Namespaces which should be cached or {@code *} for all namespaces
+     * @param metrics       Metrics provider used for the cache metrics
+     *
+     * @return  A future which completes when the cache has been synced for the first time
+     */
+    public Future<Void> enableCache(Set<String> namespaces, MetricsProvider metrics) {
+        String namespace = NamespaceFilteringWatcher.watchNamespace(namespaces);
+
+        if (caches.containsKey(namespace)) {
+            return Future.succeededFuture();
+        }
+
+        ResourceCache<T> cache = new ResourceCache<>(vertx, resourceKind, namespaces,
+            () -> AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace),
+            metrics);
+        caches.put(namespace, cache);
+
+        return cache.start();
+    }
+
+    /**
+     * Stops all resource caches used by this operator
+     */
+    public void disableCaches() {
+        caches.values().forEach(ResourceCache::stop);
+        caches.clear();
+    }
+
+    /**
+     * Indicates whether the individual resources are read from the cache. The operators of the custom resources
+     * return false, so that the reconciliations always get the current spec of the custom resource from the Kubernetes
+     * API and use the cache only for listing the resources.
+     *
+     * @return  True if the individual resources are read from the cache when it is enabled. False otherwise.
+     */
+    protected boolean servesGetsFromCache() {
+        return true;
+    }
+
+    /**
+     * Finds the cache holding the resources from the given namespace.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     *
+     * @return  The cache (which might not be synced) or null if no cache is enabled for the namespace
+     */
+    private ResourceCache<T> enabledCacheFor(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.get(namespace);
+        if (cache == null) {
+            cache = caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        }
+
+        return cache != null && cache.covers(namespace) ? cache : null;
+    }
+
+    /**
+     * Finds a synced cache holding the resources from the given namespace.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     *
+     * @return  The cache or null if no cache is enabled or if the cache is not synced
+     */
+    private ResourceCache<T> cacheFor(String namespace) {
+        ResourceCache<T> cache = enabledCacheFor(namespace);
+
+        if (cache != null && !cache.isSynced()) {
+            cache.recordMiss();
+            return null;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Gets the current state of the resource. It is served from the cache when a synced cache holds the namespace or
+     * from the Kubernetes API otherwise. A synced cache holds all resources from the namespace, so a resource which is
+     * not in the cache is treated as not existing. The resources written and deleted by the operator itself are
+     * recorded in the cache as soon as the write completes. This method might block.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  The resource or null if it does not exist
+     */
+    private T current(String namespace, String name) {
+        ResourceCache<T> cache = servesGetsFromCache() ? cacheFor(namespace) : null;
+        if (cache != null) {
+            return cache.get(namespace, name);
+        }
+
+        return operation().inNamespace(namespace).withName(name).get();
+    }
+
+    /**
+     * A resource which is not in the cache might have been created by someone else after the last change received
+     * by the cache. When its creation fails because it already exists, it is read from the Kubernetes API and patched
+     * instead. This method might block.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param desired   Desired resource
+     * @param error     Error from the creation of the resource
+     *
+     * @return  The result of the patch or a failed future with the original error
+     */
+    private Future<ReconcileResult<T>> patchIfAlreadyExists(String namespace, String name, T desired, Throwable error) {
+        if (enabledCacheFor(namespace) != null
+                && error instanceof KubernetesClientException
+                && ((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_CONFLICT) {
+            T current = operation().inNamespace(namespace).withName(name).get();
+
+            if (current != null) {
+                log.debug("{} {}/{} was created before it was seen by the cache, patching it", resourceKind, namespace, name);
+                return internalPatch(namespace, name, current, desired);
+            }
+        }
+
+        return Future.failedFuture(error);
+    }
+
+    /**
+     * Records the outcome of the write done by the operator in the cache
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param result    Result of the reconciliation
+     */
+    private void updateCache(String namespace, String name, ReconcileResult<T> result) {
+        ResourceCache<T> cache = enabledCacheFor(namespace);
+
+        if (cache != null && result != null) {
+            if (result == ReconcileResult.<T>deleted()) {
+                cache.deleted(namespace, name);
+            } else if (result instanceof ReconcileResult.Created || result instanceof ReconcileResult.Patched) {
+                result.resourceOpt().ifPresent(cache::written);
+            }
+        }
+    }
+
+    /**
+     * Records a resource written by the operator outside of {@link #reconcile(String, String, HasMetadata)} (e.g. by
+     * patching it or updating its status) in the cache
+     *
+     * @param resource  The resource returned by the Kubernetes API after the write
+     */
+    protected void updateCache(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            ResourceCache<T> cache = enabledCacheFor(resource.getMetadata().getNamespace());
+
+            if (cache != null) {
+                cache.written(resource);
+            }
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -100,13 +296,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.kubernetes(vertx).executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                T current = current(namespace, name);
                 if (desired != null) {
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(namespace, name, desired).onComplete(future);
+                        internalCreate(namespace, name, desired)
+                                .recover(error -> patchIfAlreadyExists(namespace, name, desired, error))
+                                .onComplete(future);
                     } else {
                         log.debug("{} {}/{} already exists, patching it", resourceKind, namespace, name);
                         internalPatch(namespace, name, current, desired).onComplete(future);
@@ -126,7 +324,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             false,
             promise
         );
-        return promise.future();
+        return promise.future().map(result -> {
+            updateCache(namespace, name, result);
+            return result;
+        });
     }
 
     /**
@@ -272,7 +473,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return current(namespace, name);
     }
 
     /**
@@ -285,6 +486,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        ResourceCache<T> cache = servesGetsFromCache() ? cacheFor(namespace) : null;
+        if (cache != null) {
+            return Future.succeededFuture(cache.get(namespace, name));
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -295,6 +502,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        ResourceCache<T> cache = cacheFor(namespace);
+        if (cache != null) {
+            return cache.list(namespace, selector);
+        }
+
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
@@ -342,6 +554,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = cacheFor(namespace);
+        if (cache != null) {
+            return Future.succeededFuture(cache.list(namespace, selector));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -371,6 +588,63 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return resourceSupport.listAsync(x);
     }
 
+    /**
+     * Asynchronously lists the resources with the given {@code selector} in the given {@code namespace} page by page.
+     * The resources from each page are passed to the {@code pageHandler} and the next page is requested only when
+     * the future returned by the handler completes. Unlike {@link #listAsync(String, Labels)}, this does not need to
+     * hold all the resources in memory at the same time.
+     *
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @param pageSize The maximal number of resources in a single page.
+     * @param pageHandler The handler called with the resources from every page.
+     * @return A Future which completes when all the pages were handled.
+     */
+    public Future<Void> listPagedAsync(String namespace, Labels selector, int pageSize, Function<List<T>, Future<Void>> pageHandler) {
+        ResourceCache<T> cache = cacheFor(namespace);
+        if (cache != null) {
+            return pageHandler.apply(cache.list(namespace, selector));
+        }
+
+        FilterWatchListDeletable<T, L> x;
+
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+            x = operation().inAnyNamespace();
+        } else {
+            x = operation().inNamespace(namespace);
+        }
+        if (selector != null) {
+            x = x.withLabels(selector.toMap());
+        }
+
+        return resourceSupport.listPagedAsync(x, pageSize, pageHandler);
+    }
+
+    /**
+     * Asynchronously lists the resources with the given {@code selector} in the given {@code namespace} page by page.
+     *
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @param pageSize The maximal number of resources in a single page.
+     * @param pageHandler The handler called with the resources from every page.
+     * @return A Future which completes when all the pages were handled.
+     * @see #listPagedAsync(String, Labels, int, Function)
+     */
+    public Future<Void> listPagedAsync(String namespace, Optional<LabelSelector> selector, int pageSize, Function<List<T>, Future<Void>> pageHandler) {
+        FilterWatchListDeletable<T, L> x;
+
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+            x = operation().inAnyNamespace();
+        } else {
+            x = operation().inNamespace(namespace);
+        }
+        if (selector.isPresent()) {
+            x = x.withLabelSelector(selector.get());
+        }
+
+        return resourceSupport.listPagedAsync(x, pageSize, pageHandler);
+    }
+
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
@@ -401,11 +675,41 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
+        return waitFor(namespace, name, logState, pollIntervalMs, timeoutMs, predicate, null);
+    }
+
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * is ready. The {@code predicate} is evaluated when the wait starts and the changes of the resource are then
+     * checked by evaluating the {@code resourcePredicate} on the changed resource, without reading it again. When a
+     * synced cache holds the resources from the namespace, the changes are taken from the cache instead of opening
+     * another watch.
+     *
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when the resource cannot be watched.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate.
+     * @param resourcePredicate The predicate evaluated on the changed resource (or on null when it was deleted), or
+     *                          null to evaluate the {@code predicate} after every change.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * is ready.
+     */
+    public Future<Void> waitFor(String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate,
+                                Predicate<T> resourcePredicate) {
+        ResourceCache<T> cache = enabledCacheFor(namespace);
+        Function<Watcher<T>, Watch> watch = cache != null && cache.isSynced()
+                ? watcher -> cache.watch(namespace, name, watcher)
+                : watcher -> operation().inNamespace(namespace).withName(name).watch(watcher);
+
         return Util.waitFor(vertx,
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(namespace, name));
+            () -> predicate.test(namespace, name),
+            resourcePredicate,
+            watch);
     }
 }
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -46,6 +47,17 @@ public class CrdOperator<C extends KubernetesClient,
         return client.customResources(cls, listCls);
     }
 
+    /**
+     * The custom resources are reconciled based on their spec, so they are always read from the Kubernetes API to not
+     * reconcile a stale spec. The cache is used only to list them.
+     *
+     * @return  False
+     */
+    @Override
+    protected boolean servesGetsFromCache() {
+        return false;
+    }
+
     /**
      * The selfClosingWatch does not work for Custom Resources. Therefore we override the method and delete custom
      * resources without it.
@@ -80,12 +92,13 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> patchAsync(T resource, boolean cascading) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        WorkerPools.kubernetes(vertx).executeBlocking(future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(resource);
                 log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                updateCache(result);
                 future.complete(result);
             } catch (Exception e) {
                 log.debug("Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -99,13 +112,14 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> updateStatusAsync(T resource) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        WorkerPools.kubernetes(vertx).executeBlocking(future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
             try {
                 T result = operation().inNamespace(namespace).withName(name).updateStatus(resource);
                 log.info("Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                updateCache(result);
                 future.complete(result);
             } catch (Exception e) {
                 log.debug("Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -10,6 +10,7 @@ import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.DeployableScalableResource;
+import io.fabric8.openshift.client.internal.readiness.OpenShiftReadiness;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -60,7 +61,7 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
      * generation sequence number of the desired state.
      */
     public Future<Void> waitForObserved(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved);
+        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved, this::isObserved);
     }
 
     /**
@@ -71,7 +72,16 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
      * @return Whether the deployment has been observed.
      */
     private boolean isObserved(String namespace, String name) {
-        DeploymentConfig dep = get(namespace, name);
+        return isObserved(get(namespace, name));
+    }
+
+    /**
+     * Check if a deployment configuration has been observed.
+     *
+     * @param dep The deployment configuration or null if it does not exist.
+     * @return Whether the deployment has been observed.
+     */
+    private boolean isObserved(DeploymentConfig dep) {
         if (dep != null)   {
             // Get the roll out status
             //     => Sometimes it takes OCP some time before the generations are updated.
@@ -124,4 +134,9 @@ public class DeploymentConfigOperator extends AbstractScalableResourceOperator<O
             return false;
         }
     }
+
+    @Override
+    protected boolean isReady(DeploymentConfig resource) {
+        return resource != null && OpenShiftReadiness.getInstance().isReady(resource);
+    }
 }
@@ -96,7 +96,7 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
      * generation sequence number of the desired state.
      */
     public Future<Void> waitForObserved(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved);
+        return waitFor(namespace, name, "observed", pollIntervalMs, timeoutMs, this::isObserved, this::isObserved);
     }
 
     /**
@@ -107,7 +107,16 @@ public class DeploymentOperator extends AbstractScalableResourceOperator<Kuberne
      * @return Whether the deployment has been observed.
      */
     private boolean isObserved(String namespace, String name) {
-        Deployment dep = get(namespace, name);
+        return isObserved(get(namespace, name));
+    }
+
+    /**
+     * Check if a deployment has been observed.
+     *
+     * @param dep The deployment or null if it does not exist.
+     * @return Whether the deployment has been observed.
+     */
+    private boolean isObserved(Deployment dep) {
         if (dep != null)   {
             return dep.getMetadata().getGeneration().equals(dep.getStatus().getObservedGeneration());
         } else {
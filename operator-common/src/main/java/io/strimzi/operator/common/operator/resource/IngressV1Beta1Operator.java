@@ -41,7 +41,7 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
      * @return A future that succeeds when the Service has an assigned address.
      */
     public Future<Void> hasIngressAddress(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady);
+        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady, this::isIngressAddressReady);
     }
 
     /**
@@ -53,8 +53,16 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
      */
     public boolean isIngressAddressReady(String namespace, String name) {
         Resource<Ingress> resourceOp = operation().inNamespace(namespace).withName(name);
-        Ingress resource = resourceOp.get();
+        return isIngressAddressReady(resourceOp.get());
+    }
 
+    /**
+     * Checks if the Ingress already has assigned ingress address.
+     *
+     * @param resource The Ingress or null if it does not exist.
+     * @return Whether the Ingress already has assigned ingress address.
+     */
+    private boolean isIngressAddressReady(Ingress resource) {
         if (resource != null && resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
             if (resource.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null || resource.getStatus().getLoadBalancer().getIngress().get(0).getIp() != null) {
                 return true;
@@ -79,7 +79,7 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
                             log.debug("Rolling pod {} finished", podName);
                         }
                         return done;
-                    });
+                    }, changed -> !deleted.equals(getPodUid(changed)));
                     return del;
                 });
 
@@ -0,0 +1,453 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.NamespaceFilteringWatcher;
+import io.strimzi.operator.common.WorkerPools;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A local, watch-maintained store of the resources of a single kind in one namespace, in a set of namespaces or in all
+ * namespaces. A set of namespaces is cached using a single watch in all namespaces, which ignores the resources from
+ * the other namespaces.
+ * The cache is populated by a LIST and then kept up to date by a WATCH started from the resource version of that
+ * LIST. When the watch is closed the cache marks itself as not synced and re-lists. While the cache is not synced,
+ * callers are expected to fall back to the Kubernetes API. A synced cache holds all resources, so a resource which is
+ * not in the cache does not exist (or its creation was not received by the watch yet).
+ * The resources returned by the cache are copies, so the callers are free to modify them.
+ * Callers waiting for a change of a single resource can watch it through the cache instead of opening their own
+ * watch.
+ *
+ * @param <T>   The Kubernetes resource type
+ */
+public class ResourceCache<T extends HasMetadata> implements Watcher<T> {
+    private static final Logger LOGGER = LogManager.getLogger(ResourceCache.class);
+
+    private static final String METRICS_PREFIX = "strimzi.resource.cache.";
+    private static final long RESYNC_BACKOFF_MS = 5_000L;
+
+    private final Vertx vertx;
+    private final String resourceKind;
+    private final String namespace;
+    private final Set<String> namespaces;
+    private final Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>>> source;
+
+    private final Map<String, T> store = new ConcurrentHashMap<>();
+    private final Map<String, Set<Watcher<T>>> watchers = new ConcurrentHashMap<>();
+    private volatile boolean synced = false;
+    private volatile boolean stopped = false;
+    private volatile long lastSyncTimestamp = 0L;
+    private volatile Watch watch;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter resyncCounter;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param resourceKind  Kind of the cached resource (used for logging and metrics)
+     * @param namespace     Namespace which is cached or {@code *} for all namespaces
+     * @param source        Supplier of the operation used to list and watch the resources
+     * @param metrics       Metrics provider
+     */
+    public ResourceCache(Vertx vertx, String resourceKind, String namespace,
+                         Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>>> source,
+                         MetricsProvider metrics) {
+        this(vertx, resourceKind, Set.of(namespace), source, metrics);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param resourceKind  Kind of the cached resource (used for logging and metrics)
+     * @param namespaces    Namespaces which are cached or {@code *} for all namespaces. The source has to list and
+     *                      watch all namespaces when more than one namespace is cached.
+     * @param source        Supplier of the operation used to list and watch the resources
+     * @param metrics       Metrics provider
+     */
+    public ResourceCache(Vertx vertx, String resourceKind, Set<String> namespaces,
+                         Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>>> source,
+                         MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.resourceKind = resourceKind;
+        this.namespace = NamespaceFilteringWatcher.watchNamespace(namespaces);
+        this.namespaces = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) && !namespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE)
+                ? Set.copyOf(namespaces) : null;
+        this.source = source;
+
+        Tags tags = Tags.of(Tag.of("kind", resourceKind), Tag.of("namespace", namespace));
+
+        this.hitCounter = metrics.counter(METRICS_PREFIX + "hits",
+                "Number of reads served from the local resource cache",
+                tags);
+        this.missCounter = metrics.counter(METRICS_PREFIX + "misses",
+                "Number of reads which had to fall back to the Kubernetes API because the cache was not synced",
+                tags);
+        this.resyncCounter = metrics.counter(METRICS_PREFIX + "resyncs",
+                "Number of times the cache had to be re-listed after its watch was closed",
+                tags);
+        Gauge.builder(METRICS_PREFIX + "staleness.ms", () -> lastSyncTimestamp == 0L ? -1L : System.currentTimeMillis() - lastSyncTimestamp)
+                .description("Time in milliseconds since the cache last received an update from the Kubernetes API")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+        Gauge.builder(METRICS_PREFIX + "size", store::size)
+                .description("Number of resources held in the cache")
+                .tags(tags)
+                .register(metrics.meterRegistry());
+    }
+
+    /**
+     * Starts the cache by listing the resources and opening the watch.
+     *
+     * @return  Future which completes when the cache has been synced for the first time
+     */
+    public Future<Void> start() {
+        stopped = false;
+        Promise<Void> result = Promise.promise();
+        WorkerPools.kubernetes(vertx).<Void>executeBlocking(
+            future -> {
+                try {
+                    sync();
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            false,
+            res -> {
+                if (res.failed()) {
+                    LOGGER.warn("Failed to sync {} cache in namespace {}, will retry in {}ms", resourceKind, namespace, RESYNC_BACKOFF_MS, res.cause());
+                    vertx.setTimer(RESYNC_BACKOFF_MS, ignored -> resync());
+                }
+
+                result.handle(res);
+            });
+        return result.future();
+    }
+
+    /**
+     * Stops the cache and closes the watch
+     */
+    public void stop() {
+        stopped = true;
+        synced = false;
+
+        if (watch != null) {
+            watch.close();
+            watch = null;
+        }
+
+        store.clear();
+
+        // The watchers will not get any more events
+        WatcherException closed = new WatcherException(resourceKind + " cache in namespace " + namespace + " was stopped");
+        watchers.values().forEach(keyWatchers -> keyWatchers.forEach(watcher -> watcher.onClose(closed)));
+        watchers.clear();
+    }
+
+    /**
+     * Lists all resources and opens a new watch starting at the resource version of the list. This method blocks and
+     * has to be called from a worker thread.
+     */
+    private void sync() {
+        KubernetesResourceList<T> list = source.get().list();
+
+        store.clear();
+        for (T resource : list.getItems()) {
+            if (covers(resource.getMetadata().getNamespace())) {
+                store.put(key(resource), resource);
+            }
+        }
+
+        String resourceVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+        watch = source.get().watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(),
+                namespaces != null ? NamespaceFilteringWatcher.forNamespaces(namespaces, this) : this);
+
+        lastSyncTimestamp = System.currentTimeMillis();
+        synced = true;
+        LOGGER.debug("{} cache in namespace {} synced with {} resources at resource version {}", resourceKind, namespace, store.size(), resourceVersion);
+
+        // The watched resources might have changed while the cache was not synced
+        for (String key : watchers.keySet()) {
+            T resource = store.get(key);
+            notifyWatchers(key, resource != null ? Action.MODIFIED : Action.DELETED, resource);
+        }
+    }
+
+    private void resync() {
+        if (stopped) {
+            return;
+        }
+
+        resyncCounter.increment();
+        WorkerPools.kubernetes(vertx).<Void>executeBlocking(
+            future -> {
+                try {
+                    sync();
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            false,
+            res -> {
+                if (res.failed()) {
+                    LOGGER.warn("Failed to resync {} cache in namespace {}, will retry in {}ms", resourceKind, namespace, RESYNC_BACKOFF_MS, res.cause());
+                    vertx.setTimer(RESYNC_BACKOFF_MS, ignored -> resync());
+                }
+            });
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                // The operator might have already stored a newer version of the resource it wrote itself
+                T stored = store.compute(key(resource), (key, current) -> isOlder(resource, current) ? current : resource);
+                notifyWatchers(key(resource), action, stored);
+                break;
+            case DELETED:
+                store.remove(key(resource));
+                notifyWatchers(key(resource), action, null);
+                break;
+            default:
+                LOGGER.warn("{} cache in namespace {} received unexpected {} event, resyncing", resourceKind, namespace, action);
+                synced = false;
+                resync();
+                return;
+        }
+
+        lastSyncTimestamp = System.currentTimeMillis();
+    }
+
+    @Override
+    public void onClose(WatcherException e) {
+        synced = false;
+
+        if (stopped) {
+            LOGGER.debug("Watch for {} cache in namespace {} closed", resourceKind, namespace);
+        } else if (e != null) {
+            LOGGER.warn("Watch for {} cache in namespace {} closed with exception, resyncing", resourceKind, namespace, e);
+            resync();
+        } else {
+            // The watch can be closed without an error (e.g. by the Kubernetes client) and the cache would not get any
+            // more updates
+            LOGGER.info("Watch for {} cache in namespace {} closed, resyncing", resourceKind, namespace);
+            resync();
+        }
+    }
+
+    /**
+     * Indicates whether the resources from the given namespace are held in this cache
+     *
+     * @param namespace     Namespace or {@code *} for all namespaces
+     *
+     * @return  True if the cache holds the resources from the namespace. False otherwise.
+     */
+    public boolean covers(String namespace) {
+        return namespaces == null || namespaces.contains(namespace);
+    }
+
+    /**
+     * @return  True if the cache is synced and can be used to serve reads
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Gets the resource from the cache
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The resource or null if it is not held in the cache
+     */
+    public T get(String namespace, String name) {
+        hitCounter.increment();
+        return copy(store.get(key(namespace, name)));
+    }
+
+    /**
+     * Watches a single resource through the cache. The watcher gets the resource whenever it is changed in the
+     * cache (or null with the {@code DELETED} action when it is removed from the cache), including the changes
+     * recorded using {@link #written(HasMetadata)} and {@link #deleted(String, String)}. The resources passed to the
+     * watcher are not copies and must not be modified. When the cache is stopped, the watcher is closed with an
+     * exception.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param watcher       Watcher which should get the changes
+     *
+     * @return  The watch which unregisters the watcher when it is closed
+     */
+    public Watch watch(String namespace, String name, Watcher<T> watcher) {
+        String key = key(namespace, name);
+        watchers.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(watcher);
+
+        return () -> watchers.computeIfPresent(key, (ignored, keyWatchers) -> {
+            keyWatchers.remove(watcher);
+            return keyWatchers.isEmpty() ? null : keyWatchers;
+        });
+    }
+
+    private void notifyWatchers(String key, Action action, T resource) {
+        Set<Watcher<T>> keyWatchers = watchers.get(key);
+
+        if (keyWatchers != null) {
+            for (Watcher<T> watcher : keyWatchers) {
+                watcher.eventReceived(action, resource);
+            }
+        }
+    }
+
+    /**
+     * Lists the resources from the cache
+     *
+     * @param namespace     Namespace or {@code *} for all namespaces held in this cache
+     * @param selector      Labels selector or null to not filter the resources by their labels
+     *
+     * @return  List of matching resources
+     */
+    public List<T> list(String namespace, Labels selector) {
+        hitCounter.increment();
+
+        Map<String, String> matchLabels = selector != null ? selector.toMap() : null;
+        List<T> result = new ArrayList<>();
+
+        for (T resource : store.values()) {
+            if ((AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))
+                    && matches(resource, matchLabels)) {
+                result.add(copy(resource));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores the result of a write done by the operator itself, so that it is visible in the cache before the
+     * corresponding watch event arrives. The resource is stored only when it is newer than the resource held in the
+     * cache, because the watch might have already delivered a later change done by someone else.
+     *
+     * @param resource  The created, patched or status-updated resource
+     */
+    public void written(T resource) {
+        if (synced && resource != null && resource.getMetadata() != null) {
+            T stored = store.compute(key(resource), (key, current) -> current == null || isNewer(resource, current) ? resource : current);
+            notifyWatchers(key(resource), Action.MODIFIED, stored);
+        }
+    }
+
+    /**
+     * Removes a resource deleted by the operator itself from the cache.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void deleted(String namespace, String name) {
+        store.remove(key(namespace, name));
+        notifyWatchers(key(namespace, name), Action.DELETED, null);
+    }
+
+    /**
+     * Records a read which could not be served from the cache
+     */
+    public void recordMiss() {
+        missCounter.increment();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends HasMetadata> T copy(T resource) {
+        if (resource == null) {
+            return null;
+        }
+
+        try {
+            return (T) Serialization.jsonMapper().readValue(Serialization.jsonMapper().writeValueAsBytes(resource), resource.getClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compares the resource versions of two versions of the same resource. Kubernetes treats the resource versions as
+     * opaque, so only the resource versions which are numbers (as with etcd) are compared.
+     *
+     * @param first     First version of the resource
+     * @param second    Second version of the resource
+     *
+     * @return  Negative, zero or positive number as with {@link Comparable}, or null if the versions cannot be compared
+     */
+    private static Integer compareResourceVersions(HasMetadata first, HasMetadata second) {
+        try {
+            return Long.compare(Long.parseLong(first.getMetadata().getResourceVersion()), Long.parseLong(second.getMetadata().getResourceVersion()));
+        } catch (NumberFormatException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static boolean isNewer(HasMetadata resource, HasMetadata current) {
+        Integer comparison = compareResourceVersions(resource, current);
+        return comparison != null && comparison > 0;
+    }
+
+    private static boolean isOlder(HasMetadata resource, HasMetadata current) {
+        if (current == null) {
+            return false;
+        }
+
+        Integer comparison = compareResourceVersions(resource, current);
+        return comparison != null && comparison < 0;
+    }
+
+    private static boolean matches(HasMetadata resource, Map<String, String> matchLabels) {
+        if (matchLabels == null || matchLabels.isEmpty()) {
+            return true;
+        }
+
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        return labels != null && labels.entrySet().containsAll(matchLabels.entrySet());
+    }
+
+    private static String key(HasMetadata resource) {
+        return key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
@@ -25,6 +26,7 @@ import org.apache.logging.log4j.Logger;
 import java.io.Closeable;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class ResourceSupport {
     public static final long DEFAULT_TIMEOUT_MS = 300_000;
@@ -241,4 +243,44 @@ public class ResourceSupport {
                 }
             });
     }
+
+    /**
+     * Asynchronously list the given {@code resource} page by page, using the {@code limit} and {@code continue}
+     * parameters of the list request. The next page is requested only when the future returned by the
+     * {@code pageHandler} for the previous page completes, so only a single page needs to be held in memory.
+     *
+     * @param resource The resources to list.
+     * @param pageSize The maximal number of resources in a single page.
+     * @param pageHandler The handler called on the context thread with the resources from every page.
+     * @return A Future which completes on the context thread once all the pages were handled.
+     */
+    <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<Void> listPagedAsync(Listable<L> resource, int pageSize,
+                                                                                             Function<List<T>, Future<Void>> pageHandler) {
+        return listPageAsync(resource, pageSize, null, pageHandler);
+    }
+
+    private <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<Void> listPageAsync(Listable<L> resource, int pageSize, String continueToken,
+                                                                                                    Function<List<T>, Future<Void>> pageHandler) {
+        return this.<L>executeBlocking(
+            blockingFuture -> {
+                try {
+                    blockingFuture.complete(resource.list(new ListOptionsBuilder()
+                            .withLimit((long) pageSize)
+                            .withContinue(continueToken)
+                            .build()));
+                } catch (Throwable t) {
+                    blockingFuture.fail(t);
+                }
+            }).compose(page -> {
+                String nextContinueToken = page.getMetadata() != null ? page.getMetadata().getContinue() : null;
+
+                return pageHandler.apply(page.getItems()).compose(ignored -> {
+                    if (nextContinueToken == null || nextContinueToken.isEmpty()) {
+                        return Future.succeededFuture();
+                    } else {
+                        return listPageAsync(resource, pageSize, nextContinueToken, pageHandler);
+                    }
+                });
+            });
+    }
 }
@@ -40,7 +40,7 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
      * @return A future that succeeds when the Route has an assigned address.
      */
     public Future<Void> hasAddress(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isAddressReady);
+        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isAddressReady, this::isAddressReady);
     }
 
     /**
@@ -52,8 +52,16 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
      */
     public boolean isAddressReady(String namespace, String name) {
         Resource<Route> resourceOp = operation().inNamespace(namespace).withName(name);
-        Route resource = resourceOp.get();
+        return isAddressReady(resourceOp.get());
+    }
 
+    /**
+     * Checks if the Route already has an assigned address.
+     *
+     * @param resource The Route or null if it does not exist.
+     * @return Whether the address is ready.
+     */
+    private boolean isAddressReady(Route resource) {
         if (resource != null && resource.getStatus() != null && resource.getStatus().getIngress() != null && resource.getStatus().getIngress().size() > 0) {
             if (resource.getStatus().getIngress().get(0).getHost() != null) {
                 return true;
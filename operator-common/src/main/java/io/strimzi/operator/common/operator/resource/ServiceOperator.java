@@ -200,7 +200,7 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @return A future that succeeds when the Service has an assigned address.
      */
     public Future<Void> hasIngressAddress(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady);
+        return waitFor(namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady, this::isIngressAddressReady);
     }
 
     /**
@@ -212,8 +212,16 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      */
     public boolean isIngressAddressReady(String namespace, String name) {
         ServiceResource<Service> resourceOp = operation().inNamespace(namespace).withName(name);
-        Service resource = resourceOp.get();
+        return isIngressAddressReady(resourceOp.get());
+    }
 
+    /**
+     * Checks if the Service already has assigned ingress address.
+     *
+     * @param resource The Service or null if it does not exist.
+     * @return Whether the Service already has assigned ingress address.
+     */
+    private boolean isIngressAddressReady(Service resource) {
         if (resource != null && resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
             if (resource.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null || resource.getStatus().getLoadBalancer().getIngress().get(0).getIp() != null) {
                 return true;
@@ -233,7 +241,7 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @return A future that succeeds when the Service has an assigned node port
      */
     public Future<Void> hasNodePort(String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(namespace, name, pollIntervalMs, timeoutMs, this::isNodePortReady);
+        return waitFor(namespace, name, "ready", pollIntervalMs, timeoutMs, this::isNodePortReady, this::isNodePortReady);
     }
 
     /**
@@ -245,8 +253,16 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      */
     public boolean isNodePortReady(String namespace, String name) {
         ServiceResource<Service> resourceOp = operation().inNamespace(namespace).withName(name);
-        Service resource = resourceOp.get();
+        return isNodePortReady(resourceOp.get());
+    }
 
+    /**
+     * Checks if the Service already has assigned node ports.
+     *
+     * @param resource The Service or null if it does not exist.
+     * @return Whether the Service already has assigned node ports.
+     */
+    private boolean isNodePortReady(Service resource) {
         if (resource != null && resource.getSpec() != null && resource.getSpec().getPorts() != null) {
             boolean ready = true;
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class KeyedLockManagerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testManagerIsSharedPerVertx() {
+        assertThat(KeyedLockManager.forVertx(vertx), is(sameInstance(KeyedLockManager.forVertx(vertx))));
+    }
+
+    @Test
+    public void testLockIsHandedOverInOrder(VertxTestContext context) {
+        KeyedLockManager manager = new KeyedLockManager(vertx);
+        AtomicInteger queued = new AtomicInteger();
+        KeyedLockManager.LockMetrics metrics = new KeyedLockManager.LockMetrics(null, queued);
+        List<String> order = new CopyOnWriteArrayList<>();
+        Promise<Void> first = Promise.promise();
+
+        manager.withLock("key", 10_000, metrics, () -> {
+            order.add("first");
+            return first.future();
+        });
+        Future<Void> second = manager.withLock("key", 10_000, metrics, () -> {
+            order.add("second");
+            return Future.succeededFuture();
+        });
+        Future<Void> third = manager.withLock("key", 10_000, metrics, () -> {
+            order.add("third");
+            return Future.succeededFuture();
+        });
+        // Different key does not wait for the lock
+        Future<Void> other = manager.withLock("other", 10_000, metrics, () -> {
+            order.add("other");
+            return Future.succeededFuture();
+        });
+
+        assertThat(other.succeeded(), is(true));
+        assertThat(queued.get(), is(2));
+        assertThat(manager.queueLength("key"), is(2));
+
+        Checkpoint async = context.checkpoint();
+        first.complete();
+
+        third.onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(second.succeeded(), is(true));
+            assertThat(order, is(List.of("first", "other", "second", "third")));
+            assertThat(queued.get(), is(0));
+            assertThat(manager.queueLength("key"), is(0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testTimeoutWhenLockIsNotReleased(VertxTestContext context) {
+        KeyedLockManager manager = new KeyedLockManager(vertx);
+        AtomicInteger queued = new AtomicInteger();
+        Promise<Void> first = Promise.promise();
+
+        manager.withLock("key", 10_000, null, () -> first.future());
+
+        Checkpoint async = context.checkpoint();
+        manager.withLock("key", 100, new KeyedLockManager.LockMetrics(null, queued), () -> {
+            context.failNow(new RuntimeException("Task should not be executed"));
+            return Future.succeededFuture();
+        }).onComplete(context.failing(error -> context.verify(() -> {
+            assertThat(error, instanceOf(KeyedLockManager.LockTimeoutException.class));
+            assertThat(queued.get(), is(0));
+            assertThat(manager.queueLength("key"), is(0));
+            first.complete();
+            async.flag();
+        })));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NamespaceFilteringWatcherTest {
+    private static ConfigMap configMap(String namespace) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName("my-config-map")
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testSingleNamespaceIsWatchedDirectly() {
+        RecordingWatcher watcher = new RecordingWatcher();
+
+        assertThat(NamespaceFilteringWatcher.watchNamespace(singleton("ns1")), is("ns1"));
+        assertThat(NamespaceFilteringWatcher.forNamespaces(singleton("ns1"), watcher), is(sameInstance(watcher)));
+    }
+
+    @Test
+    public void testAnyNamespaceIsWatchedDirectly() {
+        RecordingWatcher watcher = new RecordingWatcher();
+
+        assertThat(NamespaceFilteringWatcher.watchNamespace(singleton("*")), is("*"));
+        assertThat(NamespaceFilteringWatcher.forNamespaces(singleton("*"), watcher), is(sameInstance(watcher)));
+    }
+
+    @Test
+    public void testMultipleNamespacesAreFiltered() {
+        Set<String> namespaces = new HashSet<>(asList("ns1", "ns2"));
+        RecordingWatcher watcher = new RecordingWatcher();
+
+        assertThat(NamespaceFilteringWatcher.watchNamespace(namespaces), is("*"));
+
+        Watcher<ConfigMap> filtering = NamespaceFilteringWatcher.forNamespaces(namespaces, watcher);
+        assertThat(filtering, is(instanceOf(NamespaceFilteringWatcher.class)));
+
+        filtering.eventReceived(Watcher.Action.ADDED, configMap("ns1"));
+        filtering.eventReceived(Watcher.Action.MODIFIED, configMap("ns3"));
+        filtering.eventReceived(Watcher.Action.DELETED, configMap("ns2"));
+        filtering.onClose(null);
+
+        assertThat(watcher.namespaces, is(asList("ns1", "ns2")));
+        assertThat(watcher.closed, is(true));
+    }
+
+    static class RecordingWatcher implements Watcher<ConfigMap> {
+        private final List<String> namespaces = new ArrayList<>();
+        private boolean closed = false;
+
+        @Override
+        public void eventReceived(Action action, ConfigMap resource) {
+            namespaces.add(resource.getMetadata().getNamespace());
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            closed = true;
+        }
+    }
+}
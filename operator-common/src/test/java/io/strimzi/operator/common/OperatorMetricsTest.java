@@ -403,6 +403,84 @@ public class OperatorMetricsTest {
         })));
     }
 
+    @Test
+    public void testSkipUnchangedPeriodicReconcile(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setGeneration(1L);
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResource(metadata);
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics, null, 60_000L) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                return Future.succeededFuture();
+            }
+
+            @Override
+            public Set<Condition> validate(CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            Future<Void> updateStatus(Reconciliation reconciliation, Status desiredStatus) {
+                return Future.succeededFuture();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        MeterRegistry registry = metrics.meterRegistry();
+
+        operator.reconcile(new Reconciliation("watch", "TestResource", "my-namespace", "my-resource"))
+                // Periodic reconciliation of unchanged resource is skipped
+                .compose(v -> operator.reconcile(new Reconciliation(AbstractOperator.PERIODIC_TRIGGER, "TestResource", "my-namespace", "my-resource")))
+                .compose(v -> {
+                    context.verify(() -> {
+                        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.executed").tag("kind", "TestResource").counter().count(), is(1.0));
+                        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "TestResource").counter().count(), is(1.0));
+                    });
+
+                    // Other reconciliations of unchanged resource are not skipped
+                    return operator.reconcile(new Reconciliation("watch", "TestResource", "my-namespace", "my-resource"));
+                })
+                .compose(v -> {
+                    context.verify(() -> {
+                        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.executed").tag("kind", "TestResource").counter().count(), is(2.0));
+                        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "TestResource").counter().count(), is(1.0));
+                    });
+
+                    // Periodic reconciliation of changed resource is not skipped
+                    metadata.setGeneration(2L);
+                    return operator.reconcile(new Reconciliation(AbstractOperator.PERIODIC_TRIGGER, "TestResource", "my-namespace", "my-resource"));
+                })
+                .compose(v -> {
+                    context.verify(() -> {
+                        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.executed").tag("kind", "TestResource").counter().count(), is(3.0));
+                        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "TestResource").counter().count(), is(1.0));
+                    });
+
+                    metadata.setAnnotations(singletonMap("my-annotation", "value"));
+                    return operator.reconcile(new Reconciliation(AbstractOperator.PERIODIC_TRIGGER, "TestResource", "my-namespace", "my-resource"));
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.executed").tag("kind", "TestResource").counter().count(), is(4.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "TestResource").counter().count(), is(1.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "TestResource").counter().count(), is(5.0));
+
+                    async.flag();
+                })));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
@@ -423,6 +501,10 @@ public class OperatorMetricsTest {
     }
 
     protected AbstractWatchableStatusedResourceOperator resourceOperatorWithExistingResource()    {
+        return resourceOperatorWithExistingResource(new ObjectMeta());
+    }
+
+    protected AbstractWatchableStatusedResourceOperator resourceOperatorWithExistingResource(ObjectMeta metadata)    {
         return new AbstractWatchableStatusedResourceOperator(vertx, null, "TestResource") {
             @Override
             public Future updateStatusAsync(HasMetadata resource) {
@@ -441,7 +523,7 @@ public class OperatorMetricsTest {
                 class Foo extends MyResource {
                     @Override
                     public ObjectMeta getMetadata() {
-                        return new ObjectMeta();
+                        return metadata;
                     }
 
                     @Override
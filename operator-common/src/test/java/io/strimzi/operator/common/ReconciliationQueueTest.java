@@ -0,0 +1,68 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationQueueTest {
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return new Reconciliation(trigger, "TestResource", "namespace", name);
+    }
+
+    @Test
+    public void testQueuedReconciliationsAreMerged() {
+        AtomicInteger queued = new AtomicInteger();
+        Counter deduplicated = new SimpleMeterRegistry().counter("deduplicated");
+        ReconciliationQueue queue = new ReconciliationQueue(queued, deduplicated);
+
+        List<Reconciliation> executed = new ArrayList<>();
+        List<Promise<Void>> promises = new ArrayList<>();
+        Function<Reconciliation, Future<Void>> reconcile = reconciliation -> {
+            Promise<Void> promise = Promise.promise();
+            executed.add(reconciliation);
+            promises.add(promise);
+            return promise.future();
+        };
+
+        Future<Void> first = queue.submit(reconciliation("watch", "my-resource"), reconcile);
+        Future<Void> second = queue.submit(reconciliation("timer", "my-resource"), reconcile);
+        Future<Void> third = queue.submit(reconciliation("watch", "my-resource"), reconcile);
+        Future<Void> other = queue.submit(reconciliation("timer", "other-resource"), reconcile);
+
+        // Only one reconciliation per resource is running, the other two are merged into a single pending one
+        assertThat(executed.size(), is(2));
+        assertThat(queued.get(), is(1));
+        assertThat(deduplicated.count(), is(1.0));
+
+        promises.get(0).complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(executed.size(), is(3));
+        assertThat(executed.get(2).trigger(), is("timer, watch"));
+        assertThat(queued.get(), is(0));
+
+        promises.get(2).fail("Failed");
+        assertThat(second.failed(), is(true));
+        assertThat(third.failed(), is(true));
+
+        promises.get(1).complete();
+        assertThat(other.succeeded(), is(true));
+
+        // The resource is not running anymore, so the next reconciliation starts immediately
+        queue.submit(reconciliation("watch", "my-resource"), reconcile);
+        assertThat(executed.size(), is(4));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkerPoolsTest {
+    @Test
+    public void testDefaultPoolSizes() {
+        WorkerPools pools = WorkerPools.fromMap(emptyMap());
+
+        assertThat(pools.getKubernetesPoolSize(), is(WorkerPools.DEFAULT_KUBERNETES_POOL_SIZE));
+        assertThat(pools.getKafkaAdminPoolSize(), is(WorkerPools.DEFAULT_KAFKA_ADMIN_POOL_SIZE));
+        assertThat(pools.getZookeeperPoolSize(), is(WorkerPools.DEFAULT_ZOOKEEPER_POOL_SIZE));
+        assertThat(pools.getCryptoPoolSize(), is(WorkerPools.DEFAULT_CRYPTO_POOL_SIZE));
+    }
+
+    @Test
+    public void testConfiguredPoolSizes() {
+        Map<String, String> env = new HashMap<>(4);
+        env.put(WorkerPools.STRIMZI_KUBERNETES_WORKER_POOL_SIZE, "20");
+        env.put(WorkerPools.STRIMZI_KAFKA_ADMIN_WORKER_POOL_SIZE, "8");
+        env.put(WorkerPools.STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE, " 3 ");
+        env.put(WorkerPools.STRIMZI_CRYPTO_WORKER_POOL_SIZE, "1");
+
+        WorkerPools pools = WorkerPools.fromMap(env);
+
+        assertThat(pools.getKubernetesPoolSize(), is(20));
+        assertThat(pools.getKafkaAdminPoolSize(), is(8));
+        assertThat(pools.getZookeeperPoolSize(), is(3));
+        assertThat(pools.getCryptoPoolSize(), is(1));
+    }
+
+    @Test
+    public void testInvalidPoolSizes() {
+        assertThrows(InvalidConfigurationException.class,
+            () -> WorkerPools.fromMap(singletonMap(WorkerPools.STRIMZI_KUBERNETES_WORKER_POOL_SIZE, "0")));
+        assertThrows(InvalidConfigurationException.class,
+            () -> WorkerPools.fromMap(singletonMap(WorkerPools.STRIMZI_CRYPTO_WORKER_POOL_SIZE, "-1")));
+        assertThrows(InvalidConfigurationException.class,
+            () -> WorkerPools.fromMap(singletonMap(WorkerPools.STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE, "many")));
+    }
+}
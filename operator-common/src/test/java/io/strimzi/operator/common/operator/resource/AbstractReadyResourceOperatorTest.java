@@ -7,6 +7,8 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -16,9 +18,11 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -139,6 +143,49 @@ public abstract class AbstractReadyResourceOperatorTest<C extends KubernetesClie
             }));
     }
 
+    @Test
+    public void testWaitUntilReadyChecksTheResourceFromTheWatch(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE);
+
+        Watch mockWatch = mock(Watch.class);
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the timeout, so the resource is read only when the wait starts
+        op.readiness(NAMESPACE, RESOURCE_NAME, 60_000, 1_000)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TimeoutException.class));
+                // The not ready resources from the watch events are checked without reading them again
+                verify(mockResource, times(1)).get();
+                verify(mockResource, times(1)).isReady();
+                verify(mockWatch).close();
+                async.flag();
+            })));
+
+        vertx.setTimer(300, ignored -> {
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, resource);
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, resource);
+        });
+    }
+
     @Test
     public void testWaitUntilReadyUnsuccessful(VertxTestContext context) {
         T resource = resource();
@@ -7,6 +7,8 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
@@ -14,6 +16,8 @@ import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -22,7 +26,12 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
@@ -33,6 +42,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -425,4 +435,83 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
                     async.flag();
                 })));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testListPaged(VertxTestContext context) {
+        T resource = resource();
+
+        KubernetesResourceList<T> firstPage = mock(KubernetesResourceList.class);
+        when(firstPage.getItems()).thenReturn(List.of(resource, resource));
+        when(firstPage.getMetadata()).thenReturn(new ListMetaBuilder().withContinue("next-page").build());
+        KubernetesResourceList<T> secondPage = mock(KubernetesResourceList.class);
+        when(secondPage.getItems()).thenReturn(List.of(resource));
+        when(secondPage.getMetadata()).thenReturn(new ListMetaBuilder().build());
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.list(any(ListOptions.class))).thenAnswer(invocation -> {
+            ListOptions options = invocation.getArgument(0);
+            assertThat(options.getLimit(), is(2L));
+            return options.getContinue() == null ? firstPage : secondPage;
+        });
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        List<Integer> pageSizes = new ArrayList<>();
+        Checkpoint async = context.checkpoint();
+        op.listPagedAsync(NAMESPACE, (Labels) null, 2, page -> {
+            pageSizes.add(page.size());
+            return Future.succeededFuture();
+        }).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(pageSizes, is(List.of(2, 1)));
+            verify(mockNameable, times(2)).list(any(ListOptions.class));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWaitForChecksTheResourceFromTheWatch(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        Watch mockWatch = mock(Watch.class);
+        AtomicReference<Watcher> watcher = new AtomicReference<>();
+        when(mockResource.watch(any(Watcher.class))).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the timeout, so the resource can be deleted in time only through the watch
+        op.waitFor(NAMESPACE, RESOURCE_NAME, "deleted", 60_000, 5_000, (namespace, name) -> op.get(namespace, name) == null, Objects::isNull)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The resource is read only when the wait starts
+                verify(mockResource, times(1)).get();
+                verify(mockWatch).close();
+                async.flag();
+            })));
+
+        vertx.setTimer(500, ignored -> {
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, resource);
+            watcher.get().eventReceived(Watcher.Action.DELETED, resource);
+        });
+    }
 }
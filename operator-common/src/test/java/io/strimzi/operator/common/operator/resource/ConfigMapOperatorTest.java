@@ -7,12 +7,33 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -55,4 +76,74 @@ public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<Kubernet
                 .withData(singletonMap("FOO", "BAR2"))
                 .build();
     }
+
+    /**
+     * Mocks the client with an empty namespace, so that the synced cache does not hold the resource
+     */
+    @SuppressWarnings("unchecked")
+    private KubernetesClient mockClientWithEmptyNamespace(Resource<ConfigMap> mockResource) {
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.list()).thenReturn(new ConfigMapListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build());
+        when(mockNameable.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+        return mockClient;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testResourceMissingInSyncedCacheDoesNotExist(VertxTestContext context) {
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        AbstractResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClientWithEmptyNamespace(mockResource));
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(NAMESPACE, ResourceCacheTest.metricsProvider(new SimpleMeterRegistry()))
+            .compose(ignored -> {
+                assertThat(op.get(NAMESPACE, RESOURCE_NAME), is(nullValue()));
+                return op.getAsync(NAMESPACE, RESOURCE_NAME);
+            })
+            .compose(resource -> {
+                assertThat(resource, is(nullValue()));
+                return op.reconcile(NAMESPACE, RESOURCE_NAME, null);
+            })
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(result, instanceOf(ReconcileResult.Noop.class));
+                verify(mockResource, never()).get();
+                op.disableCaches();
+                async.flag();
+            })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testResourceMissingInCacheWhichAlreadyExistsIsPatched(VertxTestContext context) {
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.create(any(ConfigMap.class))).thenThrow(new KubernetesClientException("Already exists", HttpURLConnection.HTTP_CONFLICT, null));
+        when(mockResource.get()).thenReturn(resource());
+        when(mockResource.withPropagationPolicy(any())).thenReturn(mockResource);
+        when(mockResource.patch(any(ConfigMap.class))).thenReturn(new ConfigMapBuilder(modifiedResource())
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build());
+        AbstractResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClientWithEmptyNamespace(mockResource));
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(NAMESPACE, ResourceCacheTest.metricsProvider(new SimpleMeterRegistry()))
+            .compose(ignored -> op.reconcile(NAMESPACE, RESOURCE_NAME, modifiedResource()))
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(result, instanceOf(ReconcileResult.Patched.class));
+                verify(mockResource, times(1)).get();
+                verify(mockResource, times(1)).patch(any(ConfigMap.class));
+                // The patched resource is stored in the cache
+                assertThat(op.get(NAMESPACE, RESOURCE_NAME).getData().get("FOO"), is("BAR2"));
+                op.disableCaches();
+                async.flag();
+            })));
+    }
 }
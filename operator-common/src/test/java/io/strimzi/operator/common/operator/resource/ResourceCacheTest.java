@@ -0,0 +1,341 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "test";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion, Map<String, String> labels) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(labels)
+                .endMetadata()
+                .withData(Map.of("key", resourceVersion))
+                .build();
+    }
+
+    private static ConfigMap inNamespace(String namespace, ConfigMap configMap) {
+        return new ConfigMapBuilder(configMap)
+                .editMetadata()
+                    .withNamespace(namespace)
+                .endMetadata()
+                .build();
+    }
+
+    static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCacheIsSyncedAndUpdatedByWatchEvents(VertxTestContext context) {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm1", "1", Map.of("app", "a")), configMap("cm2", "2", Map.of("app", "b")))
+                .build();
+
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> source = mock(FilterWatchListDeletable.class);
+        when(source.list()).thenReturn(list);
+        when(source.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, () -> source, metricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(cache.isSynced(), is(true));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("1"));
+            assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of("app", "b"))).size(), is(1));
+            assertThat(cache.list(NAMESPACE, null).size(), is(2));
+
+            // Returned resources are copies
+            cache.get(NAMESPACE, "cm1").getData().put("key", "changed");
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("1"));
+
+            cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm1", "11", Map.of("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("11"));
+
+            cache.eventReceived(Watcher.Action.DELETED, configMap("cm2", "12", Map.of("app", "b")));
+            assertThat(cache.get(NAMESPACE, "cm2"), is(nullValue()));
+
+            cache.eventReceived(Watcher.Action.ADDED, configMap("cm3", "13", Map.of("app", "b")));
+            assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of("app", "b"))).size(), is(1));
+
+            assertThat(registry.get("strimzi.resource.cache.hits").counter().count() > 0, is(true));
+            // The get of the deleted resource is served from the synced cache as well
+            assertThat(registry.get("strimzi.resource.cache.misses").counter().count(), is(0.0));
+
+            cache.stop();
+            assertThat(cache.isSynced(), is(false));
+            async.flag();
+        })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCacheOfMultipleNamespacesIgnoresOtherNamespaces(VertxTestContext context) {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm1", "1", Map.of("app", "a")),
+                        inNamespace("other", configMap("cm2", "2", Map.of("app", "a"))),
+                        inNamespace("ignored", configMap("cm3", "3", Map.of("app", "a"))))
+                .build();
+
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> source = mock(FilterWatchListDeletable.class);
+        when(source.list()).thenReturn(list);
+        ArgumentCaptor<Watcher<ConfigMap>> watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+        when(source.watch(any(ListOptions.class), watcherCaptor.capture())).thenReturn(mock(Watch.class));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", Set.of(NAMESPACE, "other"), () -> source, metricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(cache.covers(NAMESPACE), is(true));
+            assertThat(cache.covers("other"), is(true));
+            assertThat(cache.covers("ignored"), is(false));
+            assertThat(cache.covers(AbstractWatchableResourceOperator.ANY_NAMESPACE), is(false));
+            assertThat(cache.list(AbstractWatchableResourceOperator.ANY_NAMESPACE, null).size(), is(2));
+
+            watcherCaptor.getValue().eventReceived(Watcher.Action.ADDED, inNamespace("ignored", configMap("cm4", "11", Map.of("app", "a"))));
+            watcherCaptor.getValue().eventReceived(Watcher.Action.ADDED, inNamespace("other", configMap("cm5", "12", Map.of("app", "a"))));
+            assertThat(cache.get("ignored", "cm4"), is(nullValue()));
+            assertThat(cache.get("other", "cm5").getData().get("key"), is("12"));
+
+            cache.stop();
+            async.flag();
+        })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCacheResyncsWhenWatchIsClosedWithError(VertxTestContext context) {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm1", "1", Map.of("app", "a")))
+                .build();
+
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> source = mock(FilterWatchListDeletable.class);
+        when(source.list()).thenReturn(list);
+        when(source.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, () -> source, metricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> {
+            cache.onClose(new WatcherException("Closed"));
+
+            vertx.setTimer(500, ignored -> context.verify(() -> {
+                assertThat(cache.isSynced(), is(true));
+                verify(source, times(2)).list();
+                cache.stop();
+                async.flag();
+            }));
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCacheKeepsNewestResourceVersion(VertxTestContext context) {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm1", "5", Map.of("app", "a")))
+                .build();
+
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> source = mock(FilterWatchListDeletable.class);
+        when(source.list()).thenReturn(list);
+        when(source.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, () -> source, metricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            // Write done by the operator with an older version than the one delivered by the watch is ignored
+            cache.written(configMap("cm1", "4", Map.of("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("5"));
+
+            // Newer write is stored
+            cache.written(configMap("cm1", "12", Map.of("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("12"));
+
+            // Watch event which is older than the write of the operator does not replace it
+            cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm1", "11", Map.of("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("12"));
+
+            cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm1", "13", Map.of("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("key"), is("13"));
+
+            cache.stop();
+            async.flag();
+        })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCacheResyncsWhenWatchIsClosedWithoutError(VertxTestContext context) {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm1", "1", Map.of("app", "a")))
+                .build();
+
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> source = mock(FilterWatchListDeletable.class);
+        when(source.list()).thenReturn(list);
+        when(source.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, () -> source, metricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> {
+            cache.onClose(null);
+
+            vertx.setTimer(500, ignored -> context.verify(() -> {
+                assertThat(cache.isSynced(), is(true));
+                verify(source, times(2)).list();
+
+                // Closing the watch when stopping the cache does not resync it
+                cache.stop();
+                cache.onClose(null);
+                assertThat(cache.isSynced(), is(false));
+                async.flag();
+            }));
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWatchOfSingleResource(VertxTestContext context) {
+        ConfigMapList list = new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion("10")
+                .endMetadata()
+                .withItems(configMap("cm1", "1", Map.of("app", "a")), configMap("cm2", "2", Map.of("app", "a")))
+                .build();
+
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> source = mock(FilterWatchListDeletable.class);
+        when(source.list()).thenReturn(list);
+        when(source.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, () -> source, metricsProvider(new SimpleMeterRegistry()));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            Watcher<ConfigMap> watcher = mock(Watcher.class);
+            Watch watch = cache.watch(NAMESPACE, "cm1", watcher);
+
+            // Changes of other resources are not passed to the watcher
+            cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm2", "11", Map.of("app", "a")));
+            verify(watcher, never()).eventReceived(any(), any());
+
+            ConfigMap modified = configMap("cm1", "12", Map.of("app", "a"));
+            cache.eventReceived(Watcher.Action.MODIFIED, modified);
+            verify(watcher).eventReceived(Watcher.Action.MODIFIED, modified);
+
+            // The writes and deletions of the operator are passed to the watcher as well
+            ConfigMap written = configMap("cm1", "13", Map.of("app", "a"));
+            cache.written(written);
+            verify(watcher).eventReceived(Watcher.Action.MODIFIED, written);
+
+            cache.deleted(NAMESPACE, "cm1");
+            verify(watcher).eventReceived(Watcher.Action.DELETED, null);
+
+            // Closed watch does not get any more changes
+            watch.close();
+            cache.eventReceived(Watcher.Action.ADDED, configMap("cm1", "14", Map.of("app", "a")));
+            verify(watcher, times(3)).eventReceived(any(), any());
+
+            // Watchers are closed with an error when the cache is stopped
+            Watcher<ConfigMap> otherWatcher = mock(Watcher.class);
+            cache.watch(NAMESPACE, "cm2", otherWatcher);
+            cache.stop();
+            verify(otherWatcher).onClose(any(WatcherException.class));
+            async.flag();
+        })));
+    }
+}
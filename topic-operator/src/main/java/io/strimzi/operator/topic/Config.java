@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import io.strimzi.operator.common.WorkerPools;
+
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -106,9 +108,13 @@ public class Config {
     public static final String TC_ZK_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String TC_ZK_CONNECTION_TIMEOUT_MS = "TC_ZK_CONNECTION_TIMEOUT_MS";
     public static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
+    public static final String TC_PERIODIC_MAX_IN_FLIGHT = "STRIMZI_FULL_RECONCILIATION_MAX_IN_FLIGHT";
+    public static final String TC_PERIODIC_SPREAD_MS = "STRIMZI_FULL_RECONCILIATION_SPREAD_MS";
+    public static final String TC_KUBERNETES_WRITE_MAX_IN_FLIGHT = "STRIMZI_KUBERNETES_WRITE_MAX_IN_FLIGHT";
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -125,6 +131,7 @@ public class Config {
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    public static final String TC_USE_CONFIG_CHANGE_NOTIFICATIONS = "STRIMZI_USE_CONFIG_CHANGE_NOTIFICATIONS";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -152,6 +159,26 @@ public class Config {
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "120000");
 
+    /** The maximum number of topics reconciled at the same time by the periodic reconciliation */
+    public static final Value<Integer> FULL_RECONCILIATION_MAX_IN_FLIGHT = new Value<>(TC_PERIODIC_MAX_IN_FLIGHT, POSITIVE_INTEGER, "100");
+
+    /**
+     * The time window over which the periodic reconciliation spreads the reconciliations of the individual topics
+     * (0 to not spread them). Defaults to half of {@link #FULL_RECONCILIATION_INTERVAL_MS}.
+     */
+    public static final Value<Long> FULL_RECONCILIATION_SPREAD_MS = new Value<>(TC_PERIODIC_SPREAD_MS, DURATION, false);
+
+    /** The maximum number of KafkaTopic writes (creations, updates and deletions) sent to Kubernetes at the same time */
+    public static final Value<Integer> KUBERNETES_WRITE_MAX_IN_FLIGHT = new Value<>(TC_KUBERNETES_WRITE_MAX_IN_FLIGHT, POSITIVE_INTEGER, "10");
+
+    /** The number of threads used for the Kubernetes API calls */
+    public static final Value<Integer> KUBERNETES_WORKER_POOL_SIZE = new Value<>(WorkerPools.STRIMZI_KUBERNETES_WORKER_POOL_SIZE, POSITIVE_INTEGER,
+            Integer.toString(WorkerPools.DEFAULT_KUBERNETES_POOL_SIZE));
+
+    /** The number of threads used for the ZooKeeper calls */
+    public static final Value<Integer> ZOOKEEPER_WORKER_POOL_SIZE = new Value<>(WorkerPools.STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE, POSITIVE_INTEGER,
+            Integer.toString(WorkerPools.DEFAULT_ZOOKEEPER_POOL_SIZE));
+
     /** The interbroker throttled rate to use when a topic change requires partition reassignment. */
     public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, Long.toString(Long.MAX_VALUE));
 
@@ -164,6 +191,9 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics described in a single Admin request during the periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "500");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -196,6 +226,9 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** Do we watch the Kafka config change notifications instead of watching the config of every topic */
+    public static final Value<Boolean> USE_CONFIG_CHANGE_NOTIFICATIONS = new Value<>(TC_USE_CONFIG_CHANGE_NOTIFICATIONS, BOOLEAN, "false");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -206,9 +239,15 @@ public class Config {
         addConfigValue(configValues, ZOOKEEPER_SESSION_TIMEOUT_MS);
         addConfigValue(configValues, ZOOKEEPER_CONNECTION_TIMEOUT_MS);
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
+        addConfigValue(configValues, FULL_RECONCILIATION_MAX_IN_FLIGHT);
+        addConfigValue(configValues, FULL_RECONCILIATION_SPREAD_MS);
+        addConfigValue(configValues, KUBERNETES_WRITE_MAX_IN_FLIGHT);
+        addConfigValue(configValues, KUBERNETES_WORKER_POOL_SIZE);
+        addConfigValue(configValues, ZOOKEEPER_WORKER_POOL_SIZE);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
@@ -222,6 +261,7 @@ public class Config {
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_CONFIG_CHANGE_NOTIFICATIONS);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
@@ -231,6 +271,7 @@ public class Config {
     }
 
     private final Map<String, Object> map;
+    private final WorkerPools workerPools;
 
     public Config(Map<String, String> map) {
         this.map = new HashMap<>(map.size());
@@ -247,6 +288,11 @@ public class Config {
         for (Value<?> value : x.values()) {
             this.map.put(value.key, get(map, value));
         }
+        // The default spread leaves the second half of the interval for the reconciliations to complete
+        if (this.map.get(FULL_RECONCILIATION_SPREAD_MS.key) == null) {
+            this.map.put(FULL_RECONCILIATION_SPREAD_MS.key, get(FULL_RECONCILIATION_INTERVAL_MS) / 2);
+        }
+        this.workerPools = WorkerPools.fromMap(map);
     }
 
     public static Collection<Value<?>> keys() {
@@ -272,6 +318,13 @@ public class Config {
         }
     }
 
+    /**
+     * @return  Sizes of the worker pools used for the blocking operations
+     */
+    public WorkerPools workerPools() {
+        return workerPools;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T get(Value<T> value, T defaultValue) {
         return (T) this.map.getOrDefault(value.key, defaultValue);
@@ -10,6 +10,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 
 import java.util.List;
+import java.util.function.Function;
 
 public interface K8s {
 
@@ -47,6 +48,14 @@ public interface K8s {
      */
     Future<List<KafkaTopic>> listResources();
 
+    /**
+     * Asynchronously list the resources page by page. The next page is listed only when the future returned by the
+     * {@code pageHandler} for the previous page completes.
+     * @param pageHandler The handler called with the topics from every page.
+     * @return A future which completes when all the pages have been handled.
+     */
+    Future<Void> listResources(Function<List<KafkaTopic>, Future<Void>> pageHandler);
+
     /**
      * Get the resource with the given name, invoking the given handler with the result.
      * If a resource with the given name does not exist, the handler will be called with
@@ -10,22 +10,35 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 public class K8sImpl implements K8s {
 
     private final static Logger LOGGER = LogManager.getLogger(K8sImpl.class);
 
+    static final String WRITE_POOL_NAME = "topic-operator-kubernetes-writes";
+
     private final Labels labels;
     private final String namespace;
 
@@ -34,48 +47,103 @@ public class K8sImpl implements K8s {
 
     private final Vertx vertx;
 
+    /**
+     * Pool used for the writes to Kubernetes. The writes are executed unordered, so writes of different topics are
+     * done in parallel (up to the pool size). The writes of a single topic are ordered by the topic lock held by the
+     * reconciliation which does them.
+     */
+    private final WorkerExecutor writePool;
+    private final MetricsProvider metrics;
+    private final AtomicInteger writesQueued;
+
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
+        this(vertx, client, labels, namespace, Integer.parseInt(Config.KUBERNETES_WRITE_MAX_IN_FLIGHT.defaultValue), null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                 Vertx instance
+     * @param client                Kubernetes client
+     * @param labels                Labels of the KafkaTopic resources
+     * @param namespace             Namespace of the KafkaTopic resources
+     * @param maxWritesInFlight     Maximum number of writes sent to Kubernetes at the same time
+     * @param metrics               Metrics provider or null if the metrics should not be collected
+     */
+    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace, int maxWritesInFlight, MetricsProvider metrics) {
         this.vertx = vertx;
         this.client = client;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, KafkaTopic.RESOURCE_KIND);
         this.labels = labels;
         this.namespace = namespace;
+        this.writePool = vertx.createSharedWorkerExecutor(WRITE_POOL_NAME, maxWritesInFlight);
+        this.metrics = metrics;
+
+        if (metrics != null) {
+            writesQueued = metrics.gauge(TopicOperator.METRICS_PREFIX + "k8s.writes.queued",
+                    "Number of writes waiting to be sent to Kubernetes",
+                    Tags.of(Tag.of("kind", "KafkaTopic")));
+        } else {
+            writesQueued = new AtomicInteger(0);
+        }
     }
 
-    @Override
-    public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+    /**
+     * Executes a write to Kubernetes in the write pool and records its duration
+     *
+     * @param operation     Name of the operation used in the metrics
+     * @param write         The blocking write
+     * @param <T>           Type of the result of the write
+     *
+     * @return  Future which completes with the result of the write
+     */
+    private <T> Future<T> write(String operation, Callable<T> write) {
+        Promise<T> handler = Promise.promise();
+        writesQueued.incrementAndGet();
+        writePool.<T>executeBlocking(future -> {
+            writesQueued.decrementAndGet();
+            long startNanos = System.nanoTime();
             try {
-                KafkaTopic kafkaTopic = operation().inNamespace(namespace).create(topicResource);
-                LOGGER.debug("KafkaTopic {} created with version {}->{}",
-                        kafkaTopic.getMetadata().getName(),
-                        topicResource.getMetadata() != null ? topicResource.getMetadata().getResourceVersion() : null,
-                        kafkaTopic.getMetadata().getResourceVersion());
-                future.complete(kafkaTopic);
+                future.complete(write.call());
             } catch (Exception e) {
                 future.fail(e);
+            } finally {
+                if (metrics != null) {
+                    writeTimer(operation).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                }
             }
-        }, handler);
+        }, false, handler);
         return handler.future();
     }
 
+    private Timer writeTimer(String operation) {
+        return metrics.timer(TopicOperator.METRICS_PREFIX + "k8s.writes.duration",
+                "The time the writes to Kubernetes take to complete",
+                Tags.of(Tag.of("kind", "KafkaTopic"), Tag.of("operation", operation)));
+    }
+
+    @Override
+    public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
+        return write("create", () -> {
+            KafkaTopic kafkaTopic = operation().inNamespace(namespace).create(topicResource);
+            LOGGER.debug("KafkaTopic {} created with version {}->{}",
+                    kafkaTopic.getMetadata().getName(),
+                    topicResource.getMetadata() != null ? topicResource.getMetadata().getResourceVersion() : null,
+                    kafkaTopic.getMetadata().getResourceVersion());
+            return kafkaTopic;
+        });
+    }
+
     @Override
     public Future<KafkaTopic> updateResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
-            try {
-                KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(topicResource);
-                LOGGER.debug("KafkaTopic {} updated with version {}->{}",
-                        kafkaTopic != null && kafkaTopic.getMetadata() != null ? kafkaTopic.getMetadata().getName() : null,
-                        topicResource.getMetadata() != null ? topicResource.getMetadata().getResourceVersion() : null,
-                        kafkaTopic != null && kafkaTopic.getMetadata() != null ? kafkaTopic.getMetadata().getResourceVersion() : null);
-                future.complete(kafkaTopic);
-            } catch (Exception e) {
-                future.fail(e);
-            }
-        }, handler);
-        return handler.future();
+        return write("update", () -> {
+            KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(topicResource);
+            LOGGER.debug("KafkaTopic {} updated with version {}->{}",
+                    kafkaTopic != null && kafkaTopic.getMetadata() != null ? kafkaTopic.getMetadata().getName() : null,
+                    topicResource.getMetadata() != null ? topicResource.getMetadata().getResourceVersion() : null,
+                    kafkaTopic != null && kafkaTopic.getMetadata() != null ? kafkaTopic.getMetadata().getResourceVersion() : null);
+            return kafkaTopic;
+        });
     }
 
     @Override
@@ -85,26 +153,22 @@ public class K8sImpl implements K8s {
 
     @Override
     public Future<Void> deleteResource(ResourceName resourceName) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
-            try {
-                // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
-                if (!Boolean.TRUE.equals(operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete())) {
-                    LOGGER.warn("KafkaTopic {} could not be deleted, since it doesn't seem to exist", resourceName.toString());
-                    future.complete();
-                } else {
-                    Util.waitFor(vertx, "sync resource deletion " + resourceName, "deleted", 1000, Long.MAX_VALUE, () -> {
-                        KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(resourceName.toString()).get();
-                        boolean notExists = kafkaTopic == null;
-                        LOGGER.debug("KafkaTopic {} deleted {}", resourceName.toString(), notExists);
-                        return notExists;
-                    }).onComplete(future);
-                }
-            } catch (Exception e) {
-                future.fail(e);
-            }
-        }, handler);
-        return handler.future();
+        // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
+        return write("delete", () -> operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete())
+                .compose(deleted -> {
+                    if (!Boolean.TRUE.equals(deleted)) {
+                        LOGGER.warn("KafkaTopic {} could not be deleted, since it doesn't seem to exist", resourceName.toString());
+                        return Future.succeededFuture();
+                    } else {
+                        // Waiting for the deletion does not occupy the write pool
+                        return Util.<KafkaTopic>waitFor(vertx, "sync resource deletion " + resourceName, "deleted", 1000, Long.MAX_VALUE, () -> {
+                            KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(resourceName.toString()).get();
+                            boolean notExists = kafkaTopic == null;
+                            LOGGER.debug("KafkaTopic {} deleted {}", resourceName.toString(), notExists);
+                            return notExists;
+                        }, Objects::isNull, watcher -> operation().inNamespace(namespace).withName(resourceName.toString()).watch(watcher));
+                    }
+                });
     }
 
     private MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation() {
@@ -116,6 +180,12 @@ public class K8sImpl implements K8s {
         return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
     }
 
+    @Override
+    public Future<Void> listResources(Function<List<KafkaTopic>, Future<Void>> pageHandler) {
+        return crdOperator.listPagedAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()),
+                AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE, pageHandler);
+    }
+
     @Override
     public Future<KafkaTopic> getFromName(ResourceName resourceName) {
         return crdOperator.getAsync(namespace, resourceName.toString());
@@ -126,20 +196,14 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<Void> createEvent(Event event) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return write("event", () -> {
             try {
-                try {
-                    LOGGER.debug("Creating event {}", event);
-                    client.v1().events().inNamespace(namespace).create(event);
-                } catch (KubernetesClientException e) {
-                    LOGGER.error("Error creating event {}", event, e);
-                }
-                future.complete();
-            } catch (Exception e) {
-                future.fail(e);
+                LOGGER.debug("Creating event {}", event);
+                client.v1().events().inNamespace(namespace).create(event);
+            } catch (KubernetesClientException e) {
+                LOGGER.error("Error creating event {}", event, e);
             }
-        }, handler);
-        return handler.future();
+            return null;
+        });
     }
 }
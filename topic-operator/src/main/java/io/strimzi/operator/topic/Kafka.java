@@ -6,6 +6,7 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -75,6 +76,18 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of many topics in Kafka using as few requests as possible,
+     * completing the returned Future with the metadata of the topics which could be described.
+     * Topics which are missing from the returned map (for example because they were deleted in the meantime
+     * or because describing them failed) should be fetched individually using {@link #topicMetadata(TopicName)}.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the map of the topic names to their metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicsMetadata(Set<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -4,10 +4,14 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -42,9 +46,16 @@ public class KafkaImpl implements Kafka {
 
     protected final Vertx vertx;
 
+    private final int metadataBatchSize;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, Integer.parseInt(io.strimzi.operator.topic.Config.TOPIC_METADATA_BATCH_SIZE.defaultValue));
+    }
+
+    public KafkaImpl(Admin adminClient, Vertx vertx, int metadataBatchSize) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.metadataBatchSize = metadataBatchSize;
     }
 
     /**
@@ -121,6 +132,56 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics.
+     * The topics are described in batches of at most {@code metadataBatchSize} topics, one batch after another,
+     * so that a single reconciliation of many topics does not flood the brokers with requests.
+     * Each batch uses a single {@code describeTopics} and a single {@code describeConfigs} request.
+     * Topics which cannot be described are left out of the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Set<TopicName> topicNames) {
+        List<TopicName> names = new ArrayList<>(topicNames);
+        Map<TopicName, TopicMetadata> result = new ConcurrentHashMap<>(names.size());
+        Future<Void> batches = Future.succeededFuture();
+
+        for (int i = 0; i < names.size(); i += metadataBatchSize) {
+            List<TopicName> batch = names.subList(i, Math.min(i + metadataBatchSize, names.size()));
+            batches = batches.compose(ignored -> topicsMetadataBatch(batch, result));
+        }
+
+        return batches.map(ignored -> result);
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    private Future<Void> topicsMetadataBatch(List<TopicName> batch, Map<TopicName, TopicMetadata> result) {
+        try {
+            LOGGER.debug("Getting metadata for batch of {} topics", batch.size());
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(
+                    batch.stream().map(TopicName::toString).collect(Collectors.toSet())).values();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(
+                    batch.stream().map(topicName -> new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString())).collect(Collectors.toSet())).values();
+
+            List<Future> futures = new ArrayList<>(batch.size());
+            for (TopicName topicName : batch) {
+                ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
+                futures.add(CompositeFuture.all(mapFuture(descriptions.get(topicName.toString())), mapFuture(configs.get(resource)))
+                        .<Void>map(compositeFuture -> {
+                            result.put(topicName, new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+                            return null;
+                        })
+                        .recover(error -> {
+                            LOGGER.debug("Failed to get metadata for topic {} in batch, it will be fetched individually", topicName, error);
+                            return Future.succeededFuture();
+                        }));
+            }
+
+            return CompositeFuture.join(futures).mapEmpty();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
@@ -0,0 +1,186 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the per-topic reconciliations of a full (periodic) reconciliation. Instead of starting the
+ * reconciliations of all topics at once, at most {@code maxInFlight} of them run at the same time and their starts
+ * can be spread over a time window. Event-driven reconciliations bypass this scheduler and take precedence: while
+ * they are in progress, fewer periodic reconciliations are started (but at least one is always allowed to run, so that
+ * the full reconciliation always makes progress).
+ */
+class PeriodicReconciliationScheduler {
+    private final static Logger LOGGER = LogManager.getLogger(PeriodicReconciliationScheduler.class);
+
+    private final Vertx vertx;
+    private final int maxInFlight;
+    private final IntSupplier eventsInFlight;
+
+    private final AtomicInteger queuedGauge;
+    private final AtomicInteger inFlightGauge;
+    private final AtomicInteger completedGauge;
+    private final AtomicInteger totalGauge;
+
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int running = 0;
+    private long startIntervalNanos = 0;
+    private long nextStartNanos = System.nanoTime();
+    private boolean timerSet = false;
+    private boolean scheduling = false;
+    private boolean rescheduleNeeded = false;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param maxInFlight       Maximal number of periodic reconciliations running at the same time
+     * @param eventsInFlight    Supplies the number of event-driven reconciliations currently in progress
+     * @param queuedGauge       Gauge with the number of queued periodic reconciliations
+     * @param inFlightGauge     Gauge with the number of running periodic reconciliations
+     * @param completedGauge    Gauge with the number of periodic reconciliations completed in the current run
+     * @param totalGauge        Gauge with the number of periodic reconciliations submitted in the current run
+     */
+    PeriodicReconciliationScheduler(Vertx vertx, int maxInFlight, IntSupplier eventsInFlight,
+                                    AtomicInteger queuedGauge, AtomicInteger inFlightGauge,
+                                    AtomicInteger completedGauge, AtomicInteger totalGauge) {
+        this.vertx = vertx;
+        this.maxInFlight = maxInFlight;
+        this.eventsInFlight = eventsInFlight;
+        this.queuedGauge = queuedGauge;
+        this.inFlightGauge = inFlightGauge;
+        this.completedGauge = completedGauge;
+        this.totalGauge = totalGauge;
+    }
+
+    /**
+     * Starts a new run of the full reconciliation. Resets the progress and sets the pacing so that the starts of the
+     * {@code expectedReconciliations} are spread evenly over {@code spreadMs}. When the reconciliations of the previous
+     * run are still queued or running, the progress is not reset and the new run is counted together with the
+     * previous one. The pacing is then set for the remaining reconciliations of both runs.
+     *
+     * @param expectedReconciliations   Expected number of reconciliations in this run
+     * @param spreadMs                  Time window over which the starts should be spread. 0 disables the pacing.
+     */
+    synchronized void startRun(int expectedReconciliations, long spreadMs) {
+        int remaining = queue.size() + expectedReconciliations;
+
+        if (running > 0 || !queue.isEmpty()) {
+            LOGGER.debug("Previous periodic reconciliation is still in progress with {} queued and {} running topics", queue.size(), running);
+        } else {
+            completedGauge.set(0);
+            totalGauge.set(0);
+            nextStartNanos = System.nanoTime();
+        }
+
+        if (spreadMs > 0 && remaining > 0) {
+            startIntervalNanos = TimeUnit.MILLISECONDS.toNanos(spreadMs) / remaining;
+        } else {
+            startIntervalNanos = 0;
+        }
+
+        LOGGER.debug("Starting periodic reconciliation of {} topics with at most {} in flight and {}ns between starts",
+                expectedReconciliations, maxInFlight, startIntervalNanos);
+    }
+
+    /**
+     * Submits a periodic reconciliation. It will be started once there is a free slot.
+     *
+     * @param reconciliation    The reconciliation
+     * @param <T>               Type of the reconciliation result
+     *
+     * @return  Future which completes with the result of the reconciliation
+     */
+    synchronized <T> Future<T> submit(Supplier<Future<T>> reconciliation) {
+        Promise<T> result = Promise.promise();
+
+        queue.add(() -> {
+            Future<T> future;
+            try {
+                future = reconciliation.get();
+            } catch (Throwable t) {
+                future = Future.failedFuture(t);
+            }
+
+            future.onComplete(res -> {
+                completed();
+                result.handle(res);
+            });
+        });
+        totalGauge.incrementAndGet();
+        queuedGauge.set(queue.size());
+
+        schedule();
+        return result.future();
+    }
+
+    private synchronized void completed() {
+        running--;
+        inFlightGauge.set(running);
+        completedGauge.incrementAndGet();
+        schedule();
+    }
+
+    private boolean hasFreeSlot() {
+        // At least one periodic reconciliation has to be allowed, otherwise a steady flow of events could starve it
+        return running == 0 || running + eventsInFlight.getAsInt() < maxInFlight;
+    }
+
+    /**
+     * Starts the queued reconciliations while there are free slots. Reconciliations which complete synchronously call
+     * this method again while it is running. In such case the outer call just loops once more.
+     */
+    private void schedule() {
+        if (scheduling) {
+            rescheduleNeeded = true;
+            return;
+        }
+
+        scheduling = true;
+
+        do {
+            rescheduleNeeded = false;
+
+            while (!queue.isEmpty() && hasFreeSlot()) {
+                long now = System.nanoTime();
+
+                if (startIntervalNanos > 0 && now - nextStartNanos < 0) {
+                    if (!timerSet) {
+                        timerSet = true;
+                        vertx.setTimer(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextStartNanos - now)), timerId -> paced());
+                    }
+
+                    break;
+                }
+
+                nextStartNanos = now + startIntervalNanos;
+                running++;
+                inFlightGauge.set(running);
+                Runnable next = queue.poll();
+                queuedGauge.set(queue.size());
+                next.run();
+            }
+        } while (rescheduleNeeded);
+
+        scheduling = false;
+    }
+
+    private synchronized void paced() {
+        timerSet = false;
+        schedule();
+    }
+}
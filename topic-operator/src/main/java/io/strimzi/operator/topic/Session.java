@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.Watch;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
@@ -163,13 +164,14 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(kafkaClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.TOPIC_METADATA_BATCH_SIZE));
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
-        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
+        MetricsProvider metricsProvider = new MicrometerMetricsProvider();
+        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace, config.get(Config.KUBERNETES_WRITE_MAX_IN_FLIGHT), metricsProvider);
         LOGGER.debug("Using k8s {}", k8s);
 
         String clientId = config.get(Config.CLIENT_ID);
@@ -217,10 +219,10 @@ public class Session extends AbstractVerticle {
 
                 LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, metricsProvider);
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator, config.get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS));
                 LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
                 this.topicWatcher = new ZkTopicWatcher(topicOperator);
                 LOGGER.debug("Using TopicWatcher {}", topicWatcher);
@@ -251,7 +253,11 @@ public class Session extends AbstractVerticle {
                             timerId = null;
                             boolean isInitialReconcile = oldTimerId == null;
                             topicOperator.getPeriodicReconciliationsCounter().increment();
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                            // The initial reconciliation is not spread, so that the operator catches up as soon as possible
+                            Future<?> reconciliation = isInitialReconcile
+                                    ? topicOperator.reconcileAllTopics("initial ", 0)
+                                    : topicOperator.reconcileAllTopics("periodic ");
+                            reconciliation.onComplete(result -> {
                                 if (isInitialReconcile) {
                                     initReconcilePromise.complete();
                                 }
@@ -4,17 +4,224 @@
  */
 package io.strimzi.operator.topic;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * ZooKeeper watcher for child znodes of {@code /configs/topics},
  * calling {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)}
  * for changed children.
+ *
+ * When using the config change notifications, the watcher doesn't set a data watch for every topic. Instead, it watches
+ * the sequential znodes which Kafka creates under {@code /config/changes} for every config change and notifies the
+ * operator only about the topics which changed.
  */
 class TopicConfigsWatcher extends ZkWatcher {
 
     private static final String CONFIGS_ZNODE = "/config/topics";
+    static final String CONFIG_CHANGES_ZNODE = "/config/changes";
+    private static final String CONFIG_CHANGE_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY_TYPE = "topics";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final boolean useChangeNotifications;
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The sequence number of the last processed config change notification.
+     * It is null until the existing notifications are read.
+     */
+    private Long lastChangeSequence;
+
+    /**
+     * The latest children of the config changes znode notified before the existing notifications were read.
+     * They are processed once the starting sequence number is known.
+     */
+    private List<String> pendingNotifications;
 
     TopicConfigsWatcher(TopicOperator topicOperator) {
+        this(topicOperator, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator    Operator instance to notify
+     * @param useChangeNotifications    Whether to use the config change notifications instead of a watch per topic
+     */
+    TopicConfigsWatcher(TopicOperator topicOperator, boolean useChangeNotifications) {
         super(topicOperator, CONFIGS_ZNODE);
+        this.useChangeNotifications = useChangeNotifications;
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        if (useChangeNotifications) {
+            synchronized (this) {
+                lastChangeSequence = null;
+                pendingNotifications = null;
+            }
+            zk.watchChildren(CONFIG_CHANGES_ZNODE, this::onChangeNotifications).<Void>compose(zk2 -> {
+                zk.children(CONFIG_CHANGES_ZNODE, childResult -> {
+                    if (childResult.failed()) {
+                        log.error("Error on znode {} children", CONFIG_CHANGES_ZNODE, childResult.cause());
+                        return;
+                    }
+                    // The existing notifications are covered by the initial reconciliation
+                    long sequence = maxSequence(childResult.result());
+                    log.debug("Starting with config change notification sequence {}", sequence);
+                    List<String> pending;
+                    synchronized (this) {
+                        lastChangeSequence = sequence;
+                        pending = pendingNotifications;
+                        pendingNotifications = null;
+                    }
+                    if (pending != null) {
+                        processNotifications(pending);
+                    }
+                });
+                return Future.succeededFuture();
+            });
+        }
+    }
+
+    @Override
+    protected void addChild(String child) {
+        if (useChangeNotifications) {
+            topics.add(child);
+        } else {
+            super.addChild(child);
+        }
+    }
+
+    @Override
+    protected void removeChild(String child) {
+        if (useChangeNotifications) {
+            topics.remove(child);
+        } else {
+            super.removeChild(child);
+        }
+    }
+
+    @Override
+    protected boolean watching(String child) {
+        if (useChangeNotifications) {
+            return topics.contains(child);
+        } else {
+            return super.watching(child);
+        }
+    }
+
+    /**
+     * Handles the change of the children of {@code /config/changes} by reading the new notifications.
+     * Runs on the ZkClient's event thread.
+     *
+     * @param childResult   The current children of the config changes znode
+     */
+    private void onChangeNotifications(AsyncResult<List<String>> childResult) {
+        if (!started()) {
+            zk.unwatchChildren(CONFIG_CHANGES_ZNODE);
+            return;
+        }
+        if (childResult.failed()) {
+            log.error("Error on znode {} children", CONFIG_CHANGES_ZNODE, childResult.cause());
+            return;
+        }
+        processNotifications(childResult.result());
+    }
+
+    /**
+     * Reads the notifications newer than the last processed one and notifies the operator about the changed topics.
+     * If the existing notifications were not read yet, the notifications are kept until they are.
+     *
+     * @param notifications The current children of the config changes znode
+     */
+    private void processNotifications(List<String> notifications) {
+        long previousSequence;
+        synchronized (this) {
+            if (lastChangeSequence == null) {
+                pendingNotifications = notifications;
+                return;
+            }
+            previousSequence = lastChangeSequence;
+            lastChangeSequence = Math.max(previousSequence, maxSequence(notifications));
+        }
+
+        for (String notification : notifications) {
+            if (sequence(notification) > previousSequence) {
+                String path = CONFIG_CHANGES_ZNODE + "/" + notification;
+                zk.getData(path, dataResult -> {
+                    if (dataResult.failed()) {
+                        // The notification might have been already purged by Kafka
+                        log.warn("Error reading config change notification {}", path, dataResult.cause());
+                        return;
+                    }
+                    String topicName = topicName(dataResult.result());
+                    if (topicName != null && topics.contains(topicName)) {
+                        notifyOperator(topicName);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * @param notification  The name of the config change notification znode
+     * @return  The sequence number of the notification or -1 if it is not a config change notification
+     */
+    /*test*/ static long sequence(String notification) {
+        if (notification.startsWith(CONFIG_CHANGE_PREFIX)) {
+            try {
+                return Long.parseLong(notification.substring(CONFIG_CHANGE_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static long maxSequence(List<String> notifications) {
+        long max = -1;
+        for (String notification : notifications) {
+            max = Math.max(max, sequence(notification));
+        }
+        return max;
+    }
+
+    /**
+     * Parses the config change notification. Kafka uses the {@code {"version":2,"entity_path":"topics/my-topic"}}
+     * format, the older brokers used the {@code {"version":1,"entity_type":"topics","entity_name":"my-topic"}} format.
+     *
+     * @param data  The data of the config change notification znode
+     * @return  The name of the changed topic or null if the notification is not about a topic
+     */
+    /*test*/ static String topicName(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            JsonNode json = MAPPER.readTree(data);
+            if (json.has("entity_path")) {
+                String entityPath = json.get("entity_path").asText();
+                return entityPath.startsWith(TOPICS_ENTITY_TYPE + "/") ? entityPath.substring(TOPICS_ENTITY_TYPE.length() + 1) : null;
+            } else if (json.has("entity_type") && json.has("entity_name")) {
+                return TOPICS_ENTITY_TYPE.equals(json.get("entity_type").asText()) ? json.get("entity_name").asText() : null;
+            } else {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
     }
 
     @Override
@@ -18,6 +18,7 @@ import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.KeyedLockManager;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
@@ -43,13 +44,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 class TopicOperator {
@@ -65,6 +68,12 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final AtomicLong topicActionSequence = new AtomicLong();
+    private final ConcurrentHashMap<TopicName, Long> lastTopicAction = new ConcurrentHashMap<>();
+    private final AtomicInteger periodicReconciliationsInProgress = new AtomicInteger();
+    private final AtomicInteger eventReconciliationsInFlight = new AtomicInteger();
+    private final PeriodicReconciliationScheduler periodicScheduler;
+    private final KeyedLockManager lockManager;
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -73,6 +82,11 @@ class TopicOperator {
     private Counter successfulReconciliationsCounter;
     private Counter lockedReconciliationsCounter;
     private AtomicInteger topicCounter;
+    private AtomicInteger periodicQueuedGauge = new AtomicInteger();
+    private AtomicInteger periodicInFlightGauge = new AtomicInteger();
+    private AtomicInteger periodicCompletedGauge = new AtomicInteger();
+    private AtomicInteger periodicTotalGauge = new AtomicInteger();
+    private KeyedLockManager.LockMetrics lockMetrics;
     protected Timer reconciliationsTimer;
 
     enum EventType {
@@ -387,8 +401,14 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.lockManager = KeyedLockManager.forVertx(vertx);
 
         initMetrics();
+
+        this.periodicScheduler = new PeriodicReconciliationScheduler(vertx,
+                config.get(Config.FULL_RECONCILIATION_MAX_IN_FLIGHT),
+                eventReconciliationsInFlight::get,
+                periodicQueuedGauge, periodicInFlightGauge, periodicCompletedGauge, periodicTotalGauge);
     }
 
     public void initMetrics() {
@@ -422,6 +442,30 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            periodicQueuedGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.queued",
+                    "Number of topics waiting to be reconciled by the current periodical reconciliation",
+                    metricTags);
+
+            periodicInFlightGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.inflight",
+                    "Number of topics currently being reconciled by the periodical reconciliation",
+                    metricTags);
+
+            periodicCompletedGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.completed",
+                    "Number of topics already reconciled by the current periodical reconciliation",
+                    metricTags);
+
+            periodicTotalGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.total",
+                    "Number of topics submitted for reconciliation by the current periodical reconciliation",
+                    metricTags);
+
+            lockMetrics = new KeyedLockManager.LockMetrics(
+                    metrics.timer(METRICS_PREFIX + "reconciliations.lock.wait",
+                            "The time the reconciliation waits for the lock of the topic",
+                            metricTags),
+                    metrics.gauge(METRICS_PREFIX + "reconciliations.lock.queued",
+                            "Number of reconciliations waiting for the lock of the topic",
+                            metricTags));
         }
     }
 
@@ -459,6 +503,11 @@ class TopicOperator {
             }
         };
         LOGGER.debug("{}: Queuing action {} on topic {}", logContext, action, lockName);
+        if (!logContext.isPeriodic()) {
+            // Event-driven reconciliations take precedence over the periodic ones
+            eventReconciliationsInFlight.incrementAndGet();
+            result.future().onComplete(ignored -> eventReconciliationsInFlight.decrementAndGet());
+        }
         inflight.compute(key, (topicName, waiters) -> {
             if (waiters == null) {
                 LOGGER.debug("{}: Adding first waiter {}", logContext, action);
@@ -468,67 +517,72 @@ class TopicOperator {
                 return waiters + 1;
             }
         });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
-            if (lockResult.succeeded()) {
-                LOGGER.debug("{}: Lock acquired", logContext);
-                LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
-                action.execute().onComplete(actionResult -> {
-                    LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
-                    action.result = actionResult;
-                    String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
-                    Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                            .stream()
-                            .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                                    meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
-                                    meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
-                                    meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
-                            ).findFirst();
-                    if (metric.isPresent()) {
-                        // remove metric so it can be re-added with new tags
-                        metrics.meterRegistry().remove(metric.get().getId());
-                        LOGGER.debug("Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
-                    }
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        lockManager.<Void>withLock(lockName, timeoutMs, lockMetrics, () -> {
+            acquired.set(true);
+            LOGGER.debug("{}: Lock acquired", logContext);
+            LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
+            Promise<Void> actionDone = Promise.promise();
+            action.execute().onComplete(actionResult -> {
+                LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
+                action.result = actionResult;
+                String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
+                Optional<Meter> metric = metrics.meterRegistry().getMeters()
+                        .stream()
+                        .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
+                                meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
+                                meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
+                                meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
+                        ).findFirst();
+                if (metric.isPresent()) {
+                    // remove metric so it can be re-added with new tags
+                    metrics.meterRegistry().remove(metric.get().getId());
+                    LOGGER.debug("Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
+                }
 
-                    if (action.topic != null) {
-                        boolean succeeded = actionResult.succeeded();
-                        Tags metricTags;
-                        metricTags = Tags.of(
-                                Tag.of("kind", action.topic.getKind()),
-                                Tag.of("name", action.topic.getMetadata().getName()),
-                                Tag.of("resource-namespace", namespace),
-                                Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
-
-                        metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
-                        LOGGER.debug("Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
+                if (action.topic != null) {
+                    boolean succeeded = actionResult.succeeded();
+                    Tags metricTags;
+                    metricTags = Tags.of(
+                            Tag.of("kind", action.topic.getKind()),
+                            Tag.of("name", action.topic.getMetadata().getName()),
+                            Tag.of("resource-namespace", namespace),
+                            Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
+
+                    metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
+                    LOGGER.debug("Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
+                }
+                // Update status with lock held so that event is ignored via statusUpdateGeneration
+                action.updateStatus(logContext).onComplete(statusResult -> {
+                    if (statusResult.failed()) {
+                        LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
+                                statusResult.cause());
                     }
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).onComplete(statusResult -> {
-                        if (statusResult.failed()) {
-                            LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
-                                    statusResult.cause());
+                    // Any metadata prefetched before this point might be stale for this topic
+                    lastTopicAction.put(key, topicActionSequence.incrementAndGet());
+                    try {
+                        if (actionResult.failed() && statusResult.failed()) {
+                            actionResult.cause().addSuppressed(statusResult.cause());
                         }
-                        try {
-                            if (actionResult.failed() && statusResult.failed()) {
-                                actionResult.cause().addSuppressed(statusResult.cause());
-                            }
-                            result.handle(actionResult.failed() ? actionResult : statusResult);
-                        } catch (Throwable t) {
-                            result.fail(t);
-                        } finally {
-                            lockResult.result().release();
-                            LOGGER.debug("{}: Lock released", logContext);
-                            inflight.compute(key, decrement);
-                        }
-                    });
+                        actionDone.handle(actionResult.failed() ? actionResult : statusResult);
+                    } catch (Throwable t) {
+                        actionDone.tryFail(t);
+                    }
                 });
-            } else {
-                lockedReconciliationsCounter.increment();
-                LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
-                try {
+            });
+            return actionDone.future();
+        }).onComplete(actionResult -> {
+            try {
+                if (!acquired.get() && actionResult.failed() && actionResult.cause() instanceof KeyedLockManager.LockTimeoutException) {
+                    lockedReconciliationsCounter.increment();
+                    LOGGER.warn("{}: Lock not acquired within {}ms: action {} will not be run", logContext, timeoutMs, action);
                     result.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
-                } finally {
-                    inflight.compute(key, decrement);
+                } else {
+                    LOGGER.debug("{}: Lock released", logContext);
+                    result.handle(actionResult);
                 }
+            } finally {
+                inflight.compute(key, decrement);
             }
         });
         return result.future();
@@ -1278,109 +1332,163 @@ class TopicOperator {
         private final Set<TopicName> succeeded;
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
-        private List<KafkaTopic> ktList;
+        private final PrefetchedMetadata prefetched;
 
-        public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
+        public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed, PrefetchedMetadata prefetched) {
             this.succeeded = succeeded;
             this.undetermined = undetermined;
             this.failed = failed;
-            this.ktList = emptyList();
+            this.prefetched = prefetched;
         }
+    }
 
-        public void setKafkaTopics(List<KafkaTopic> ktList) {
-            this.ktList = ktList;
+    /**
+     * The metadata of the topics fetched in bulk at the beginning of the periodic reconciliation
+     */
+    static class PrefetchedMetadata {
+        private final long sequence;
+        private final Map<TopicName, TopicMetadata> metadata;
+
+        /**
+         * @param sequence  The topic action sequence number at the time the metadata were requested
+         * @param metadata  The topic metadata
+         */
+        PrefetchedMetadata(long sequence, Map<TopicName, TopicMetadata> metadata) {
+            this.sequence = sequence;
+            this.metadata = metadata;
         }
     }
 
     Future<?> reconcileAllTopics(String reconciliationType) {
+        return reconcileAllTopics(reconciliationType, config.get(Config.FULL_RECONCILIATION_SPREAD_MS));
+    }
+
+    /**
+     * Reconciles all topics found in Kafka and in Kubernetes
+     *
+     * @param reconciliationType    Type of the reconciliation (used for logging)
+     * @param spreadMs              Time window over which the reconciliations of the individual topics are spread
+     *                              (0 to not spread them)
+     *
+     * @return  Future which completes when all topics are reconciled
+     */
+    Future<?> reconcileAllTopics(String reconciliationType, long spreadMs) {
         LOGGER.info("Starting {} reconciliation", reconciliationType);
+        periodicReconciliationsInProgress.incrementAndGet();
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicsFromKafka = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            long sequence = topicActionSequence.get();
+            periodicScheduler.startRun(topicsFromKafka.size(), spreadMs);
+
+            // Describe the topics found in Kafka in bulk instead of one by one
+            return kafka.topicsMetadata(new HashSet<>(topicsFromKafka)).recover(ex -> {
+                LOGGER.warn("Error getting metadata of existing topics during {} reconciliation, the topics will be described individually", reconciliationType, ex);
+                return Future.succeededFuture(emptyMap());
+            }).compose(metadata ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
-            Future<List<KafkaTopic>> ktFut = k8s.listResources();
-            return ktFut.recover(ex -> Future.failedFuture(
-                    new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
-            )).map(ktList -> {
-                reconcileState.setKafkaTopics(ktList);
-                return reconcileState;
-            });
+                reconcileFromKafka(reconciliationType, topicsFromKafka, new PrefetchedMetadata(sequence, metadata))
+            );
         }).compose(reconcileState -> {
             List<Future> futs = new ArrayList<>();
-            topicCounter.set(reconcileState.ktList.size());
-            for (KafkaTopic kt : reconcileState.ktList) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName()).withKubeTopic(kt);
-                Topic topic = TopicSerialization.fromTopicResource(kt);
-                TopicName topicName = topic.getTopicName();
-                if (reconcileState.failed.containsKey(topicName)) {
-                    // we already failed to reconcile this topic in reconcileFromKafka(), /
-                    // don't bother trying again
-                    LOGGER.trace("{}: Already failed to reconcile {}", logContext, topicName);
-                    reconciliationsCounter.increment();
-                    failedReconciliationsCounter.increment();
-                } else if (reconcileState.succeeded.contains(topicName)) {
-                    // we already succeeded in reconciling this topic in reconcileFromKafka()
-                    LOGGER.trace("{}: Already successfully reconciled {}", logContext, topicName);
-                    reconciliationsCounter.increment();
-                    successfulReconciliationsCounter.increment();
-                } else if (reconcileState.undetermined.contains(topicName)) {
-                    // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
-                        // if success then remove from undetermined add to success
-                        reconcileState.undetermined.remove(topicName);
-                        reconcileState.succeeded.add(topicName);
-                        return Future.succeededFuture(Boolean.TRUE);
-                    }));
-                } else {
-                    // Topic exists in kube, but not in Kafka
-                    LOGGER.debug("{}: Topic {} exists in Kubernetes, but not Kafka", logContext, topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
-                        // if success then add to success
-                        reconcileState.succeeded.add(topicName);
-                        return Future.succeededFuture(Boolean.TRUE);
-                    }));
-                }
-            }
-            return CompositeFuture.join(futs).compose(joined -> {
-                List<Future> futs2 = new ArrayList<>();
-                for (Throwable exception : reconcileState.failed.values()) {
-                    futs2.add(Future.failedFuture(exception));
-                }
-                // anything left in undetermined doesn't exist in topic store nor kube
-                for (TopicName tn : reconcileState.undetermined) {
-                    LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn);
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining", true) {
-                        @Override
-                        public Future<Void> execute() {
-                            observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
-                        }
-                    }));
+            AtomicInteger kubeTopics = new AtomicInteger(0);
+            // The KafkaTopics are listed page by page, so they do not need to be held in memory all at once
+            return k8s.listResources(page -> {
+                kubeTopics.addAndGet(page.size());
+                for (KafkaTopic kt : page) {
+                    LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName()).withKubeTopic(kt);
+                    // Only the names are captured by the scheduled reconciliations, the KafkaTopic is read again
+                    // when the reconciliation runs so that the page can be garbage collected
+                    ResourceName resourceName = new ResourceName(kt);
+                    TopicName topicName = TopicSerialization.fromTopicResource(kt).getTopicName();
+                    if (reconcileState.failed.containsKey(topicName)) {
+                        // we already failed to reconcile this topic in reconcileFromKafka(), /
+                        // don't bother trying again
+                        LOGGER.trace("{}: Already failed to reconcile {}", logContext, topicName);
+                        reconciliationsCounter.increment();
+                        failedReconciliationsCounter.increment();
+                    } else if (reconcileState.succeeded.contains(topicName)) {
+                        // we already succeeded in reconciling this topic in reconcileFromKafka()
+                        LOGGER.trace("{}: Already successfully reconciled {}", logContext, topicName);
+                        reconciliationsCounter.increment();
+                        successfulReconciliationsCounter.increment();
+                    } else if (reconcileState.undetermined.contains(topicName)) {
+                        // The topic didn't exist in topicStore, but now we know which KT it corresponds to
+                        futs.add(periodicScheduler.submit(() -> reconcileWithKubeTopic(logContext, reconciliationType, resourceName, topicName, reconcileState.prefetched)).compose(r -> {
+                            // if success then remove from undetermined add to success
+                            reconcileState.undetermined.remove(topicName);
+                            reconcileState.succeeded.add(topicName);
+                            return Future.succeededFuture(Boolean.TRUE);
+                        }));
+                    } else {
+                        // Topic exists in kube, but not in Kafka
+                        LOGGER.debug("{}: Topic {} exists in Kubernetes, but not Kafka", logContext, topicName);
+                        futs.add(periodicScheduler.submit(() -> reconcileWithKubeTopic(logContext, reconciliationType, resourceName, topicName, reconcileState.prefetched)).compose(r -> {
+                            // if success then add to success
+                            reconcileState.succeeded.add(topicName);
+                            return Future.succeededFuture(Boolean.TRUE);
+                        }));
+                    }
                 }
-                return CompositeFuture.join(futs2);
+                return Future.succeededFuture();
+            }).recover(ex -> Future.failedFuture(
+                    new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
+            )).compose(listed -> {
+                topicCounter.set(kubeTopics.get());
+                return CompositeFuture.join(futs).compose(joined -> {
+                    List<Future> futs2 = new ArrayList<>();
+                    for (Throwable exception : reconcileState.failed.values()) {
+                        futs2.add(Future.failedFuture(exception));
+                    }
+                    // anything left in undetermined doesn't exist in topic store nor kube
+                    for (TopicName tn : reconcileState.undetermined) {
+                        LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn);
+                        futs2.add(periodicScheduler.submit(() -> executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining", true) {
+                            @Override
+                            public Future<Void> execute() {
+                                observedTopicFuture(null);
+                                return getKafkaAndReconcile(this, logContext, tn, null, null, null);
+                            }
+                        })));
+                    }
+                    return CompositeFuture.join(futs2);
+                });
             });
-        });
+        }).onComplete(ignored -> pruneTopicActions());
+    }
+
+    /**
+     * Removes the recorded topic actions once no periodic reconciliation is in progress. The actions are needed only
+     * by the reconciliations which prefetched the metadata before them. The next reconciliation prefetches the
+     * metadata after all the removed actions, so it does not need them. This way the actions of deleted topics do
+     * not pile up.
+     */
+    private void pruneTopicActions() {
+        long sequence = topicActionSequence.get();
+
+        if (periodicReconciliationsInProgress.decrementAndGet() == 0) {
+            lastTopicAction.values().removeIf(lastAction -> lastAction <= sequence);
+        }
     }
 
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, PrefetchedMetadata prefetched) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
 
         LOGGER.debug("Reconciling kafka topics {}", topicsFromKafka);
 
-        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
+        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed, prefetched);
         if (topicsFromKafka.size() > 0) {
             List<Future<Void>> futures = new ArrayList<>();
             for (TopicName topicName : topicsFromKafka) {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
+                futures.add(periodicScheduler.submit(() -> executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
                     @Override
                     public Future<Void> execute() {
                         return getFromTopicStore(topicName).recover(error -> {
@@ -1395,7 +1503,7 @@ class TopicOperator {
                                 return Future.succeededFuture();
                             } else {
                                 LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
+                                return reconcileWithPrivateTopic(logContext, topicName, topic, this, prefetched)
                                         .<Void>map(ignored -> {
                                             LOGGER.debug("{} reconcile success -> succeeded", topicName);
                                             succeeded.add(topicName);
@@ -1409,7 +1517,7 @@ class TopicOperator {
                         });
 
                     }
-                }));
+                })));
             }
             return join(futures).map(state);
         } else {
@@ -1430,7 +1538,8 @@ class TopicOperator {
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
+                                                   Reconciliation reconciliation,
+                                                   PrefetchedMetadata prefetched) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
                 LOGGER.error("{}: Error getting KafkaTopic {} for topic {}",
@@ -1440,12 +1549,12 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, prefetched);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, PrefetchedMetadata prefetched) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1458,7 +1567,7 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(topicName))
+                .compose(i -> topicMetadata(topicName, prefetched))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1489,12 +1598,36 @@ class TopicOperator {
         return kafka.topicMetadata(topicName).map(TopicSerialization::fromTopicMetadata);
     }
 
+    private Future<Topic> getFromKafka(TopicName topicName, PrefetchedMetadata prefetched) {
+        return topicMetadata(topicName, prefetched).map(TopicSerialization::fromTopicMetadata);
+    }
+
+    /**
+     * Gets the topic metadata from the metadata prefetched by the periodic reconciliation. The prefetched metadata
+     * are used only when no other action was executed on the topic since they were fetched. Otherwise they might be
+     * stale and the metadata are fetched from Kafka again. This has to be called with the topic lock held.
+     */
+    private Future<TopicMetadata> topicMetadata(TopicName topicName, PrefetchedMetadata prefetched) {
+        if (prefetched != null && prefetched.metadata.containsKey(topicName)) {
+            Long lastAction = lastTopicAction.get(topicName);
+
+            if (lastAction == null || lastAction <= prefetched.sequence) {
+                return Future.succeededFuture(prefetched.metadata.get(topicName));
+            } else {
+                LOGGER.debug("Prefetched metadata for topic {} might be stale", topicName);
+            }
+        }
+
+        return kafka.topicMetadata(topicName);
+    }
+
     Future<Topic> getFromTopicStore(TopicName topicName) {
         return topicStore.read(topicName);
     }
 
-    private Future<Void> reconcileWithKubeTopic(LogContext logContext, HasMetadata involvedObject,
-                                                String reconciliationType, ResourceName kubeName, TopicName topicName) {
+    private Future<Void> reconcileWithKubeTopic(LogContext logContext, String reconciliationType,
+                                                ResourceName kubeName, TopicName topicName,
+                                                PrefetchedMetadata prefetched) {
         return executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-with-kube", true) {
             @Override
             public Future<Void> execute() {
@@ -1504,7 +1637,7 @@ class TopicOperator {
                             observedTopicFuture(kt);
                             return kt;
                         }),
-                        getFromKafka(topicName),
+                        getFromKafka(topicName, prefetched),
                         getFromTopicStore(topicName))
                     .compose(compositeResult -> {
                         KafkaTopic ktr = compositeResult.resultAt(0);
@@ -1512,7 +1645,7 @@ class TopicOperator {
                         Topic k8sTopic = TopicSerialization.fromTopicResource(ktr);
                         Topic kafkaTopic = compositeResult.resultAt(1);
                         Topic privateTopic = compositeResult.resultAt(2);
-                        return reconcile(self, logContext, involvedObject, k8sTopic, kafkaTopic, privateTopic);
+                        return reconcile(self, logContext, ktr, k8sTopic, kafkaTopic, privateTopic);
                     });
             }
         });
@@ -22,7 +22,7 @@ public abstract class ZkWatcher {
 
     protected final TopicOperator topicOperator;
     private volatile ZkWatcherState state = ZkWatcherState.NOT_STARTED;
-    private volatile Zk zk;
+    protected volatile Zk zk;
 
     private final ConcurrentHashMap<String, Boolean> children = new ConcurrentHashMap<>();
     private final String rootZNode;
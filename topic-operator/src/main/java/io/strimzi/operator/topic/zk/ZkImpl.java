@@ -4,12 +4,12 @@
  */
 package io.strimzi.operator.topic.zk;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.WorkerExecutor;
 import org.I0Itec.zkclient.IZkChildListener;
 import org.I0Itec.zkclient.IZkDataListener;
 import org.I0Itec.zkclient.ZkClient;
@@ -49,7 +49,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk create(String path, byte[] data, List<ACL> acls, CreateMode createMode, Handler<AsyncResult<Void>> handler) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     zookeeper.create(path, data == null ? new byte[0] : data, acls, createMode);
@@ -64,7 +64,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk setData(String path, byte[] data, int version, Handler<AsyncResult<Void>> handler) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     zookeeper.writeData(path, data, version);
@@ -80,7 +80,7 @@ public class ZkImpl implements Zk {
     @Override
     public Zk disconnect(Handler<AsyncResult<Void>> handler) {
 
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     zookeeper.close();
@@ -95,7 +95,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk getData(String path, Handler<AsyncResult<byte[]>> handler) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     future.complete(zookeeper.readData(path));
@@ -129,7 +129,7 @@ public class ZkImpl implements Zk {
     @Override
     public Future<Zk> watchData(String path, Handler<AsyncResult<byte[]>> watcher) {
         Promise<Zk> result = Promise.promise();
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     IZkDataListener listener = new DataWatchAdapter(watcher);
@@ -153,7 +153,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk unwatchData(String path) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     IZkDataListener listener = dataWatches.remove(path);
@@ -171,7 +171,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk delete(String path, int version, Handler<AsyncResult<Void>> handler) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     if (zookeeper.delete(path, version)) {
@@ -187,13 +187,9 @@ public class ZkImpl implements Zk {
         return this;
     }
 
-    private WorkerExecutor workerPool() {
-        return vertx.createSharedWorkerExecutor(getClass().getName(), 4);
-    }
-
     @Override
     public Zk children(String path, Handler<AsyncResult<List<String>>> handler) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     future.complete(zookeeper.getChildren(path));
@@ -208,7 +204,7 @@ public class ZkImpl implements Zk {
     @Override
     public Future<Zk> watchChildren(String path, Handler<AsyncResult<List<String>>> watcher) {
         Promise<Zk> result = Promise.promise();
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     IZkChildListener listener = (parentPath, currentChilds) -> watcher.handle(Future.succeededFuture(currentChilds));
@@ -232,7 +228,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk unwatchChildren(String path) {
-        workerPool().executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
                 try {
                     IZkChildListener listener = childWatches.remove(path);
@@ -251,7 +247,7 @@ public class ZkImpl implements Zk {
     @Override
     public Future<Boolean> pathExists(String path) {
         Promise<Boolean> promise = Promise.promise();
-        workerPool().<Boolean>executeBlocking(
+        WorkerPools.zookeeper(vertx).<Boolean>executeBlocking(
             p -> {
                 p.future().onComplete(promise);
                 try {
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic;
 
+import io.strimzi.operator.common.WorkerPools;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -76,4 +77,36 @@ public class ConfigTest {
         Config c = new Config(map);
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
+
+    @Test
+    public void testWorkerPoolSizes() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        Config c = new Config(map);
+        assertThat(c.workerPools().getKubernetesPoolSize(), is(WorkerPools.DEFAULT_KUBERNETES_POOL_SIZE));
+        assertThat(c.workerPools().getZookeeperPoolSize(), is(WorkerPools.DEFAULT_ZOOKEEPER_POOL_SIZE));
+
+        map.put(WorkerPools.STRIMZI_KUBERNETES_WORKER_POOL_SIZE, "20");
+        map.put(WorkerPools.STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE, "2");
+        c = new Config(map);
+        assertThat(c.workerPools().getKubernetesPoolSize(), is(20));
+        assertThat(c.workerPools().getZookeeperPoolSize(), is(2));
+
+        map.put(WorkerPools.STRIMZI_ZOOKEEPER_WORKER_POOL_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testFullReconciliationSpread() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        Config c = new Config(map);
+        assertThat(c.get(Config.FULL_RECONCILIATION_SPREAD_MS), is(60_000L));
+
+        map.put(Config.TC_PERIODIC_INTERVAL_MS, "300000");
+        c = new Config(map);
+        assertThat(c.get(Config.FULL_RECONCILIATION_SPREAD_MS), is(150_000L));
+
+        map.put(Config.TC_PERIODIC_SPREAD_MS, "0");
+        c = new Config(map);
+        assertThat(c.get(Config.FULL_RECONCILIATION_SPREAD_MS), is(0L));
+    }
 }
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -11,6 +13,8 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -20,13 +24,18 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -73,4 +82,73 @@ public class K8sImplTest {
             async.flag();
         })));
     }
+
+    @Test
+    public void testListPaged(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        KafkaTopicList firstPage = new KafkaTopicList();
+        firstPage.setItems(List.of(topic("topic-1"), topic("topic-2")));
+        firstPage.setMetadata(new ListMetaBuilder().withContinue("next-page").build());
+        KafkaTopicList secondPage = new KafkaTopicList();
+        secondPage.setItems(List.of(topic("topic-3")));
+        secondPage.setMetadata(new ListMetaBuilder().build());
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        when(mockClient.customResources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        when(mockResources.list(any(ListOptions.class))).thenAnswer(invocation -> {
+            ListOptions options = invocation.getArgument(0);
+            return options.getContinue() == null ? firstPage : secondPage;
+        });
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+
+        List<String> listed = new ArrayList<>();
+        k8s.listResources(page -> {
+            page.forEach(kt -> listed.add(kt.getMetadata().getName()));
+            return Future.succeededFuture();
+        }).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(listed, is(List.of("topic-1", "topic-2", "topic-3")));
+            verify(mockResources, times(2)).list(any(ListOptions.class));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWritesOfDifferentTopicsInParallel(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        CountDownLatch bothInFlight = new CountDownLatch(2);
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        when(mockClient.customResources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        when(mockResources.create(any(KafkaTopic.class))).thenAnswer(invocation -> {
+            // Each creation completes only once the other one is in flight as well
+            bothInFlight.countDown();
+            if (!bothInFlight.await(10, TimeUnit.SECONDS)) {
+                throw new RuntimeException("The writes were not executed in parallel");
+            }
+            return invocation.getArgument(0);
+        });
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+
+        CompositeFuture.join(k8s.createResource(topic("topic-1")), k8s.createResource(topic("topic-2")))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    verify(mockResources, times(2)).create(any(KafkaTopic.class));
+                    async.flag();
+                })));
+    }
+
+    private static KafkaTopic topic(String name) {
+        return new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(name)
+                        .withLabels(Collections.singletonMap("foo", "bar")).build())
+                .build();
+    }
 }
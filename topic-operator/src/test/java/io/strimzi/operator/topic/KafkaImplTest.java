@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
@@ -32,12 +34,17 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -245,6 +252,49 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicsMetadataInBatches(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockDescribeTopics(admin, singletonMap("test1", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "test1"),
+                Either.ofLeft(mock(Config.class))));
+        mockDescribeTopics(admin, singletonMap("test2", Either.ofRight(new UnknownTopicOrPartitionException())));
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "test2"),
+                Either.ofRight(new UnknownTopicOrPartitionException())));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 1);
+        impl.topicsMetadata(Set.of(new TopicName("test1"), new TopicName("test2"))).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            // The topic which could not be described is left out
+            assertThat(metadata.size(), is(1));
+            assertNotNull(metadata.get(new TopicName("test1")).getDescription());
+            assertNotNull(metadata.get(new TopicName("test1")).getConfig());
+            verify(admin, times(2)).describeTopics(anyCollection());
+            verify(admin, times(2)).describeConfigs(anyCollection());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    public void testTopicsMetadataSingleBatch(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Either<TopicDescription, Exception>> descriptions = new HashMap<>();
+        descriptions.put("test1", Either.ofLeft(mock(TopicDescription.class)));
+        descriptions.put("test2", Either.ofLeft(mock(TopicDescription.class)));
+        mockDescribeTopics(admin, descriptions);
+        Map<ConfigResource, Either<Config, Exception>> configs = new HashMap<>();
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "test1"), Either.ofLeft(mock(Config.class)));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "test2"), Either.ofLeft(mock(Config.class)));
+        mockDescribeConfigs(admin, configs);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicsMetadata(Set.of(new TopicName("test1"), new TopicName("test2"))).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            assertThat(metadata.size(), is(2));
+            verify(admin, times(1)).describeTopics(anyCollection());
+            verify(admin, times(1)).describeConfigs(anyCollection());
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
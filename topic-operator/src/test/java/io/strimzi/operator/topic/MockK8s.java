@@ -162,6 +162,11 @@ public class MockK8s implements K8s {
         return handler.future();
     }
 
+    @Override
+    public Future<Void> listResources(Function<List<KafkaTopic>, Future<Void>> pageHandler) {
+        return listResources().compose(pageHandler);
+    }
+
     public void setListMapsResult(Supplier<AsyncResult<List<KafkaTopic>>> response) {
         this.listResponse = response;
     }
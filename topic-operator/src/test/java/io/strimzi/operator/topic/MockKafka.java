@@ -32,6 +32,9 @@ public class MockKafka implements Kafka {
     private Map<TopicName, Topic> topics = new HashMap<>();
 
     private Future<Set<String>> topicsListResponse = Future.succeededFuture(Collections.emptySet());
+    // By default nothing is prefetched, so that the topics are described individually using topicMetadataRespose
+    private Function<Set<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse =
+        t -> succeededFuture(Collections.emptyMap());
     private int topicMetadataResposeCall = 0;
     private List<Function<TopicName, Future<TopicMetadata>>> topicMetadataRespose = singletonList(
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicMetadataResponse."));
@@ -54,6 +57,11 @@ public class MockKafka implements Kafka {
         return this;
     }
 
+    public MockKafka setTopicsMetadataResponse(Function<Set<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse) {
+        this.topicsMetadataResponse = topicsMetadataResponse;
+        return this;
+    }
+
     public MockKafka setTopicMetadataResponse(Function<TopicName, Future<TopicMetadata>> topicMetadataRespose) {
         this.topicMetadataRespose = singletonList(topicMetadataRespose);
         return this;
@@ -212,6 +220,11 @@ public class MockKafka implements Kafka {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
 
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Set<TopicName> topicNames) {
+        return topicsMetadataResponse.apply(topicNames);
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         return topicsListResponse;
@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testMaxInFlightIsRespected() {
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger total = new AtomicInteger();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 2, () -> 0, queued, inFlight, completed, total);
+        scheduler.startRun(4, 0);
+
+        List<Promise<Void>> promises = new ArrayList<>();
+        List<Future<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Promise<Void> promise = Promise.promise();
+            promises.add(promise);
+            results.add(scheduler.submit(promise::future));
+        }
+
+        assertThat(inFlight.get(), is(2));
+        assertThat(queued.get(), is(2));
+        assertThat(total.get(), is(4));
+
+        promises.get(0).complete();
+        assertThat(results.get(0).succeeded(), is(true));
+        assertThat(inFlight.get(), is(2));
+        assertThat(queued.get(), is(1));
+        assertThat(completed.get(), is(1));
+
+        promises.get(1).fail("Failed");
+        promises.get(2).complete();
+        promises.get(3).complete();
+        assertThat(results.get(1).failed(), is(true));
+        assertThat(inFlight.get(), is(0));
+        assertThat(queued.get(), is(0));
+        assertThat(completed.get(), is(4));
+    }
+
+    @Test
+    public void testOverlappingRunKeepsProgress() {
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger total = new AtomicInteger();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 1, () -> 0,
+                new AtomicInteger(), new AtomicInteger(), completed, total);
+        scheduler.startRun(2, 0);
+
+        Promise<Void> first = Promise.promise();
+        scheduler.submit(first::future);
+        scheduler.submit(() -> Future.succeededFuture());
+
+        // The next run starts while the reconciliations of the previous one are in progress
+        scheduler.startRun(1, 0);
+        scheduler.submit(() -> Future.succeededFuture());
+        assertThat(total.get(), is(3));
+
+        first.complete();
+        assertThat(completed.get(), is(3));
+        assertThat(total.get(), is(3));
+
+        // Once nothing is in progress, the next run resets the progress
+        scheduler.startRun(1, 0);
+        assertThat(completed.get(), is(0));
+        assertThat(total.get(), is(0));
+    }
+
+    @Test
+    public void testEventsTakePrecedence() {
+        AtomicInteger events = new AtomicInteger(5);
+        AtomicInteger inFlight = new AtomicInteger();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 2, events::get,
+                new AtomicInteger(), inFlight, new AtomicInteger(), new AtomicInteger());
+        scheduler.startRun(3, 0);
+
+        Promise<Void> first = Promise.promise();
+        scheduler.submit(first::future);
+        scheduler.submit(Promise.<Void>promise()::future);
+        scheduler.submit(Promise.<Void>promise()::future);
+
+        // Only one periodic reconciliation runs while the events are in progress
+        assertThat(inFlight.get(), is(1));
+
+        events.set(0);
+        first.complete();
+        assertThat(inFlight.get(), is(2));
+    }
+
+    @Test
+    public void testStartsAreSpread(VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 10, () -> 0,
+                new AtomicInteger(), new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+        scheduler.startRun(3, 300);
+
+        long start = System.nanoTime();
+        Checkpoint async = context.checkpoint();
+
+        scheduler.submit(() -> Future.succeededFuture())
+                .compose(i -> scheduler.submit(() -> Future.succeededFuture()))
+                .compose(i -> scheduler.submit(() -> Future.succeededFuture()))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    // Three starts spread over 300ms should be at least 200ms apart from the first to the last
+                    assertThat((System.nanoTime() - start) / 1_000_000, greaterThanOrEqualTo(200L));
+                    async.flag();
+                })));
+    }
+}
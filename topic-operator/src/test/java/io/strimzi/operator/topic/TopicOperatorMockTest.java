@@ -111,6 +111,7 @@ public class TopicOperatorMockTest {
         m.put(io.strimzi.operator.topic.Config.NAMESPACE.key, "myproject");
         m.put(io.strimzi.operator.topic.Config.CLIENT_ID.key, "myproject-client-id");
         m.put(io.strimzi.operator.topic.Config.FULL_RECONCILIATION_INTERVAL_MS.key, "10000");
+        m.put(io.strimzi.operator.topic.Config.FULL_RECONCILIATION_SPREAD_MS.key, "0");
         session = new Session(kubeClient, new io.strimzi.operator.topic.Config(m));
 
         Checkpoint async = context.checkpoint();
@@ -82,6 +82,7 @@ public class TopicOperatorTest {
         MANDATORY_CONFIG.put(Config.CLIENT_ID.key, "default-client-id");
         // Not mandatory, but makes the time test quicker
         MANDATORY_CONFIG.put(Config.TOPIC_METADATA_MAX_ATTEMPTS.key, "3");
+        MANDATORY_CONFIG.put(Config.FULL_RECONCILIATION_SPREAD_MS.key, "0");
     }
 
     @BeforeAll
@@ -6,12 +6,17 @@ package io.strimzi.operator.topic;
 
 import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,4 +86,75 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testTopicConfigChangeNotifications() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.childrenResults.put(TopicConfigsWatcher.CONFIG_CHANGES_ZNODE, Future.succeededFuture(asList("config_change_0000000007")));
+        mockZk.dataResults.put("/config/changes/config_change_0000000008",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/bar\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000009",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"brokers/0\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000010",
+                Future.succeededFuture("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"foo\"}".getBytes(StandardCharsets.UTF_8)));
+
+        TopicConfigsWatcher topicConfigsWatcher = new TopicConfigsWatcher(operator, true);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+
+        // No data watches for the topic configs
+        assertThat(topicConfigsWatcher.watching("foo"), is(true));
+        mockZk.triggerData("/config/topics/foo", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        // Only the notifications newer than the existing ones are processed
+        mockZk.triggerChildren(TopicConfigsWatcher.CONFIG_CHANGES_ZNODE,
+                Future.succeededFuture(asList("config_change_0000000007", "config_change_0000000008", "config_change_0000000009")));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+
+        operator.clearEvents();
+        mockZk.triggerChildren(TopicConfigsWatcher.CONFIG_CHANGES_ZNODE,
+                Future.succeededFuture(asList("config_change_0000000009", "config_change_0000000010")));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")))));
+
+        // Deleted topics are not notified
+        operator.clearEvents();
+        operator.topicDeletedResult = Future.succeededFuture();
+        mockZk.triggerChildren(Future.succeededFuture(asList("bar")));
+        operator.clearEvents();
+        mockZk.dataResults.put("/config/changes/config_change_0000000011",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.triggerChildren(TopicConfigsWatcher.CONFIG_CHANGES_ZNODE,
+                Future.succeededFuture(asList("config_change_0000000011")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+        assertThat(topicConfigsWatcher.watching("foo"), is(false));
+    }
+
+    @Test
+    public void testTopicConfigChangeNotificationsBeforeStartingSequenceIsKnown() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        Promise<List<String>> existingNotifications = Promise.promise();
+        mockZk.childrenResults.put(TopicConfigsWatcher.CONFIG_CHANGES_ZNODE, existingNotifications.future());
+        mockZk.dataResults.put("/config/changes/config_change_0000000008",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/bar\"}".getBytes(StandardCharsets.UTF_8)));
+
+        TopicConfigsWatcher topicConfigsWatcher = new TopicConfigsWatcher(operator, true);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+
+        // The notification arrives before the existing notifications were read
+        mockZk.triggerChildren(TopicConfigsWatcher.CONFIG_CHANGES_ZNODE,
+                Future.succeededFuture(asList("config_change_0000000007", "config_change_0000000008")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        existingNotifications.complete(singletonList("config_change_0000000007"));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+    }
 }
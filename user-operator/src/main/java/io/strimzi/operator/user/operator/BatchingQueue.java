@@ -0,0 +1,135 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Queue which collects requests (for example changes of different users) and passes them in batches to a blocking
+ * sender, which handles the whole batch at once. When no batch is being sent, a new request is sent right away.
+ * Requests submitted while a batch is being sent are collected and sent together as the next batch once the current
+ * batch is done. The sender runs on the worker pool passed to the constructor and has to complete or fail each
+ * request of the batch.
+ *
+ * @param <T>   Type of the requests
+ */
+class BatchingQueue<T> {
+    private static final Logger log = LogManager.getLogger(BatchingQueue.class.getName());
+
+    private final WorkerExecutor workerPool;
+    private final Consumer<List<Request<T>>> sender;
+
+    private final List<Request<T>> pending = new ArrayList<>();
+    private boolean sending = false;
+
+    /**
+     * Constructor
+     *
+     * @param workerPool  Worker pool on which the sender runs
+     * @param sender      Blocking sender which handles one batch of requests
+     */
+    BatchingQueue(WorkerExecutor workerPool, Consumer<List<Request<T>>> sender) {
+        this.workerPool = workerPool;
+        this.sender = sender;
+    }
+
+    /**
+     * Submits a request to be sent with the next batch
+     *
+     * @param request   The request
+     *
+     * @return  Future which completes once the request is handled by the sender
+     */
+    Future<Void> submit(T request) {
+        Request<T> queued = new Request<>(request);
+        boolean startSending;
+
+        synchronized (pending) {
+            pending.add(queued);
+            startSending = !sending;
+            sending = true;
+        }
+
+        if (startSending) {
+            workerPool.executeBlocking(
+                future -> {
+                    sendPending();
+                    future.complete();
+                },
+                false,
+                ignored -> { });
+        }
+
+        return queued.result.future();
+    }
+
+    private void sendPending() {
+        while (true) {
+            List<Request<T>> batch;
+
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    sending = false;
+                    return;
+                }
+
+                batch = new ArrayList<>(pending);
+                pending.clear();
+            }
+
+            try {
+                sender.accept(batch);
+            } catch (Throwable t) {
+                log.error("Sending batch of {} requests failed", batch.size(), t);
+                batch.forEach(request -> request.fail(t));
+            }
+        }
+    }
+
+    /**
+     * Request waiting in the queue
+     *
+     * @param <T>   Type of the request
+     */
+    static class Request<T> {
+        private final T request;
+        private final Promise<Void> result = Promise.promise();
+
+        private Request(T request) {
+            this.request = request;
+        }
+
+        /**
+         * @return  The queued request
+         */
+        T request() {
+            return request;
+        }
+
+        /**
+         * Marks the request as successfully completed
+         */
+        void complete() {
+            result.tryComplete();
+        }
+
+        /**
+         * Marks the request as failed
+         *
+         * @param cause     The cause of the failure
+         */
+        void fail(Throwable cause) {
+            result.tryFail(cause);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -29,6 +30,7 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -92,11 +94,24 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.secretPrefix = secretPrefix;
     }
 
+    /**
+     * Lists the KafkaUser resources and the users with ACLs or SCRAM-SHA credentials. Users without a KafkaUser
+     * resource are deleted by the periodic reconciliation.
+     *
+     * The users with quotas are listed only to reload the quota cache. Quotas can be set for principals which are not
+     * managed by the operator (for example by the Kafka administrators for the users of other authentication
+     * mechanisms), so users with only quotas are not candidates for deletion.
+     *
+     * @param namespace The namespace
+     *
+     * @return The names of the users
+     */
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
         return CompositeFuture.join(super.allResourceNames(namespace),
-                invokeAsync(aclOperations::getUsersWithAcls),
-                invokeAsync(scramShaCredentialOperator::list)).map(compositeFuture -> {
+                invokeAsync(WorkerPools.kafkaAdmin(vertx), aclOperations::getUsersWithAcls),
+                invokeAsync(WorkerPools.zookeeper(vertx), scramShaCredentialOperator::list),
+                invokeAsync(WorkerPools.kafkaAdmin(vertx), kafkaUserQuotasOperator::getUsersWithQuotas)).map(compositeFuture -> {
                     Set<NamespaceAndName> names = compositeFuture.resultAt(0);
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(1)));
                     names.addAll(toResourceRef(namespace, compositeFuture.resultAt(2)));
@@ -110,9 +125,9 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                 .collect(Collectors.toList());
     }
 
-    private <T> Future<T> invokeAsync(Supplier<T> getter) {
+    private <T> Future<T> invokeAsync(WorkerExecutor workerPool, Supplier<T> getter) {
         Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("zookeeper-ops-pool").executeBlocking(future -> {
+        workerPool.executeBlocking(future -> {
             try {
                 future.complete(getter.get());
             } catch (Throwable t) {
@@ -134,21 +149,38 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
      */
     @Override
     protected Future<KafkaUserStatus> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
-        Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
-
         KafkaUserStatus userStatus = new KafkaUserStatus();
-        String namespace = reconciliation.namespace();
-        String userName = reconciliation.name();
-        KafkaUserModel user;
 
-        try {
-            user = KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix);
-        } catch (Exception e) {
+        // The Secrets are read in the Kubernetes worker pool. Creating the user model might generate the user
+        // certificate, so it runs in the crypto worker pool.
+        return CompositeFuture.join(
+                invokeAsync(WorkerPools.kubernetes(vertx), () -> secretOperations.get(caNamespace, caCertName)),
+                invokeAsync(WorkerPools.kubernetes(vertx), () -> secretOperations.get(caNamespace, caKeyName)),
+                invokeAsync(WorkerPools.kubernetes(vertx), () -> secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())))
+        ).compose(secrets -> invokeAsync(WorkerPools.crypto(vertx), () -> {
+            Secret clientsCaCert = secrets.resultAt(0);
+            Secret clientsCaKey = secrets.resultAt(1);
+            Secret userSecret = secrets.resultAt(2);
+
+            return KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix);
+        })).recover(e -> {
             StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
             return Future.failedFuture(new ReconciliationException(userStatus, e));
-        }
+        }).compose(user -> updateUser(reconciliation, resource, user, userStatus));
+    }
+
+    /**
+     * Updates the secret, credentials, quotas and ACLs of the user to match the user model
+     *
+     * @param reconciliation Unique identification for the reconciliation
+     * @param resource KafkaUser resources with the desired user configuration.
+     * @param user The user model created from the KafkaUser resource
+     * @param userStatus The status of the KafkaUser resource
+     * @return a Future
+     */
+    private Future<KafkaUserStatus> updateUser(Reconciliation reconciliation, KafkaUser resource, KafkaUserModel user, KafkaUserStatus userStatus) {
+        String namespace = reconciliation.namespace();
+        String userName = reconciliation.name();
 
         log.debug("{}: Updating User {} in namespace {}", reconciliation, userName, namespace);
         Secret desired = user.generateSecret();
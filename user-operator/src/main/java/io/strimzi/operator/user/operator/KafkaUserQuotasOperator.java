@@ -5,11 +5,14 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.KafkaUserModel;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
@@ -17,37 +20,67 @@ import org.apache.kafka.common.quota.ClientQuotaEntity;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * KafkaUserQuotasOperator is responsible for managing the quotas of the users in Apache Kafka.
+ *
+ * The reconciliations read the current quotas from an in-memory cache of the quotas of all users. The cache is loaded
+ * with a single describe request for all user quotas when it is used for the first time and it is reloaded whenever
+ * the operator lists the users with quotas (i.e. once per periodic reconciliation). Between these reloads, it is
+ * updated with the changes made by this operator. The quota changes of the individual users are sent to Kafka in
+ * batches, so that the changes of many users reconciled at the same time are done in a single alterClientQuotas
+ * request.
+ */
 public class KafkaUserQuotasOperator {
     private static final Logger log = LogManager.getLogger(KafkaUserQuotasOperator.class.getName());
 
     private final Vertx vertx;
     private final Admin adminClient;
 
+    private final ConcurrentHashMap<String, UserQuotas> cache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheVersion = new AtomicLong();
+    private volatile boolean cacheLoaded = false;
+    private final BatchingQueue<QuotasUpdate> updates;
+
     public KafkaUserQuotasOperator(Vertx vertx, Admin adminClient) {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.updates = new BatchingQueue<>(WorkerPools.kafkaAdmin(vertx), this::sendBatch);
     }
 
     Future<ReconcileResult<KafkaUserQuotas>> reconcile(String username, KafkaUserQuotas quotas) {
         Promise<ReconcileResult<KafkaUserQuotas>> prom = Promise.promise();
         
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.kafkaAdmin(vertx).executeBlocking(
             future -> {
                 try {
-                    boolean exists = exists(username);
+                    KafkaUserQuotas current = getCachedUserQuotas(username);
                     if (quotas != null) {
-                        createOrUpdate(username, quotas);
-                        future.complete(exists ? ReconcileResult.created(quotas) : ReconcileResult.patched(quotas));
+                        if (current != null && quotasEquals(current, quotas)) {
+                            log.debug("Nothing to update in quotas for user {}", username);
+                            future.complete(ReconcileResult.noop(quotas));
+                        } else {
+                            log.debug("{} quotas for user {}", current != null ? "Updating" : "Creating", username);
+                            update(username, quotas)
+                                    .map(current != null ? ReconcileResult.patched(quotas) : ReconcileResult.created(quotas))
+                                    .onComplete(future);
+                        }
                     } else {
-                        if (exists) {
-                            delete(username);
-                            future.complete(ReconcileResult.deleted());
+                        if (current != null) {
+                            log.debug("Deleting quotas for user {}", username);
+                            update(username, null)
+                                    .map(ReconcileResult.<KafkaUserQuotas>deleted())
+                                    .onComplete(future);
                         } else {
                             future.complete(ReconcileResult.noop(null));
                         }
@@ -63,85 +96,130 @@ public class KafkaUserQuotasOperator {
     }
 
     /**
-     * Create or update the quotas for the given user.
+     * Returns set with all usernames which have some quotas. The quota cache is reloaded from the Kafka cluster.
      *
-     * @param username The name of the user which should be created or updated
-     * @param quotas The desired user quotas
-     * @throws Exception when altering quotas fails
+     * @return The set with all usernames which have some quotas.
      */
-    public void createOrUpdate(String username, KafkaUserQuotas quotas) throws Exception {
-        KafkaUserQuotas current = describeUserQuotas(username);
-        if (current != null) {
-            log.debug("Checking quota updates for user {}", username);
-            if (!quotasEquals(current, quotas)) {
-                log.debug("Updating quotas for user {}", username);
-                alterUserQuotas(username, toClientQuotaAlterationOps(quotas));
-            } else {
-                log.debug("Nothing to update in quotas for user {}", username);
+    public Set<String> getUsersWithQuotas() {
+        Set<String> result = new HashSet<>();
+
+        log.debug("Searching for Users with any quotas");
+
+        try {
+            loadCache();
+        } catch (Exception e) {
+            log.debug("Failed to load the user quotas", e);
+            return result;
+        }
+
+        for (Map.Entry<String, UserQuotas> entry : cache.entrySet()) {
+            if (entry.getValue().quotas != null) {
+                // Username in quotas might keep different format (for example based on user's subject) and need to be decoded
+                result.add(KafkaUserModel.decodeUsername(entry.getKey()));
             }
-        } else {
-            log.debug("Creating quotas for user {}", username);
-            alterUserQuotas(username, toClientQuotaAlterationOps(quotas));
         }
+
+        return result;
     }
 
-    /**
-     * Determine whether the given user has quotas.
-     *
-     * @param username Name of the user
-     *
-     * @return True if the user exists
-     */
-    boolean exists(String username) throws Exception {
-        return describeUserQuotas(username) != null;
+    private KafkaUserQuotas getCachedUserQuotas(String username) throws Exception {
+        if (!cacheLoaded) {
+            synchronized (this) {
+                if (!cacheLoaded) {
+                    loadCache();
+                }
+            }
+        }
+
+        UserQuotas userQuotas = cache.get(username);
+        return userQuotas != null ? userQuotas.quotas : null;
     }
 
     /**
-     * Delete the quotas for the given user.
-     * It is not an error if the user doesn't exist, or doesn't currently have any quotas.
-     *
-     * @param username Name of the user
-     * @throws Exception when altering quotas fails
+     * Loads the quotas of all users into the cache. Users whose quotas were changed by this operator while the quotas
+     * were being loaded keep their current cache entry, because the loaded quotas might not include these changes yet.
      */
-    public void delete(String username) throws Exception {
-        KafkaUserQuotas current = describeUserQuotas(username);
-        if (current != null) {
-            log.debug("Deleting quotas for user {}", username);
-            current.setProducerByteRate(null);
-            current.setConsumerByteRate(null);
-            current.setRequestPercentage(null);
-            alterUserQuotas(username, toClientQuotaAlterationOps(current));
-        } else {
-            log.warn("Quotas for user {} already don't exist", username);
-        }
-    }
+    private synchronized void loadCache() throws Exception {
+        long version = cacheVersion.get();
+        ClientQuotaFilter filter = ClientQuotaFilter.containsOnly(Collections.singletonList(ClientQuotaFilterComponent.ofEntityType(ClientQuotaEntity.USER)));
+        Map<String, KafkaUserQuotas> loaded = new HashMap<>();
 
-    protected void alterUserQuotas(String username, Set<ClientQuotaAlteration.Op> ops) throws Exception {
-        ClientQuotaEntity cqe = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
-        ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, ops);
         try {
-            adminClient.alterClientQuotas(Collections.singleton(cqa)).all().get();
+            for (Map.Entry<ClientQuotaEntity, Map<String, Double>> entity : adminClient.describeClientQuotas(filter).entities().get().entrySet()) {
+                String username = entity.getKey().entries().get(ClientQuotaEntity.USER);
+
+                // The default user quotas have no user name and are not managed by the operator
+                if (username != null) {
+                    loaded.put(username, fromClientQuota(entity.getValue()));
+                }
+            }
         } catch (Exception e) {
-            log.error("Creating/Altering quotas for user {} failed", username, e);
+            log.error("Getting quotas of all users failed", e);
             throw e;
         }
+
+        Set<String> usernames = new HashSet<>(cache.keySet());
+        usernames.addAll(loaded.keySet());
+
+        for (String username : usernames) {
+            cache.compute(username, (name, current) -> {
+                if (current != null && current.version > version) {
+                    return current;
+                } else if (loaded.containsKey(name)) {
+                    return new UserQuotas(loaded.get(name), version);
+                } else {
+                    return null;
+                }
+            });
+        }
+
+        cacheLoaded = true;
+        log.debug("Loaded quotas of {} users", loaded.size());
     }
 
-    protected KafkaUserQuotas describeUserQuotas(String username) throws Exception {
-        ClientQuotaFilterComponent c = ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, username);
-        ClientQuotaFilter f =  ClientQuotaFilter.contains(Collections.singleton(c));
-        KafkaUserQuotas current = null;
-        try {
-            ClientQuotaEntity cqe = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
-            Map<ClientQuotaEntity, Map<String, Double>> map = adminClient.describeClientQuotas(f).entities().get();
-            if (map.containsKey(cqe)) {
-                current = fromClientQuota(map.get(cqe));
+    private void updateCache(String username, KafkaUserQuotas quotas) {
+        long version = cacheVersion.incrementAndGet();
+        cache.put(username, new UserQuotas(quotas != null ? copy(quotas) : null, version));
+    }
+
+    /**
+     * Queues the quota changes of given user to be sent to Kafka together with the changes of other users
+     *
+     * @param username  Name of the user
+     * @param quotas    The desired quotas or null if the quotas should be deleted
+     *
+     * @return  Future which completes when the quotas of this user are changed
+     */
+    private Future<Void> update(String username, KafkaUserQuotas quotas) {
+        return updates.submit(new QuotasUpdate(username, quotas));
+    }
+
+    private void sendBatch(List<BatchingQueue.Request<QuotasUpdate>> batch) {
+        List<ClientQuotaAlteration> alterations = new ArrayList<>(batch.size());
+
+        for (BatchingQueue.Request<QuotasUpdate> request : batch) {
+            QuotasUpdate update = request.request();
+            alterations.add(new ClientQuotaAlteration(update.entity,
+                    toClientQuotaAlterationOps(update.quotas != null ? update.quotas : new KafkaUserQuotas())));
+        }
+
+        log.debug("Altering quotas of {} users", alterations.size());
+        Map<ClientQuotaEntity, KafkaFuture<Void>> results = adminClient.alterClientQuotas(alterations).values();
+
+        for (BatchingQueue.Request<QuotasUpdate> request : batch) {
+            QuotasUpdate update = request.request();
+
+            try {
+                results.get(update.entity).get();
+                updateCache(update.username, update.quotas);
+                request.complete();
+            } catch (Exception e) {
+                log.error("Creating/Altering quotas for user {} failed", update.username, e);
+                // The result of the change is not known => the cache will be reloaded before it is used again
+                cacheLoaded = false;
+                request.fail(e.getCause() != null ? e.getCause() : e);
             }
-        } catch (Exception e) {
-            log.error("Getting quotas for user {} failed", username, e);
-            throw e;
         }
-        return current;
     }
 
     /**
@@ -193,4 +271,41 @@ public class KafkaUserQuotasOperator {
                 Objects.equals(kuq1.getConsumerByteRate(), kuq2.getConsumerByteRate()) &&
                 Objects.equals(kuq1.getRequestPercentage(), kuq2.getRequestPercentage());
     }
+
+    private static KafkaUserQuotas copy(KafkaUserQuotas quotas) {
+        KafkaUserQuotas copy = new KafkaUserQuotas();
+        copy.setProducerByteRate(quotas.getProducerByteRate());
+        copy.setConsumerByteRate(quotas.getConsumerByteRate());
+        copy.setRequestPercentage(quotas.getRequestPercentage());
+        return copy;
+    }
+
+    /**
+     * Quotas of a single user (null if the user has no quotas) together with the version of the cache in which they
+     * were last updated
+     */
+    private static class UserQuotas {
+        private final KafkaUserQuotas quotas;
+        private final long version;
+
+        UserQuotas(KafkaUserQuotas quotas, long version) {
+            this.quotas = quotas;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Quota change of a single user waiting to be sent to Kafka
+     */
+    private static class QuotasUpdate {
+        private final String username;
+        private final ClientQuotaEntity entity;
+        private final KafkaUserQuotas quotas;
+
+        QuotasUpdate(String username, KafkaUserQuotas quotas) {
+            this.username = username;
+            this.entity = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+            this.quotas = quotas;
+        }
+    }
 }
@@ -6,6 +6,7 @@ package io.strimzi.operator.user.operator;
 
 import io.vertx.core.json.JsonObject;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.exception.ZkNoNodeException;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.kafka.common.security.scram.ScramCredential;
 import org.apache.kafka.common.security.scram.internals.ScramCredentialUtils;
@@ -13,11 +14,20 @@ import org.apache.kafka.common.security.scram.internals.ScramFormatter;
 import org.apache.kafka.common.security.scram.internals.ScramMechanism;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.Charset;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class for managing Scram credentials
@@ -95,6 +105,62 @@ public class ScramShaCredentials {
     public boolean exists(String username) {
         byte[] data = zkClient.readData("/config/users/" + username, true);
 
+        return hasCredentials(username, data);
+    }
+
+    /**
+     * Determine whether the given user configuration contains valid SCRAM-SHA credentials.
+     *
+     * @param username Name of the user
+     * @param data The user configuration from ZooKeeper or null if the user configuration does not exist
+     *
+     * @return True if the configuration exists and contains valid credentials for given mechanism
+     */
+    boolean hasCredentials(String username, byte[] data) {
+        String scramCredentials = scramCredentials(data);
+
+        if (scramCredentials != null) {
+            try {
+                ScramCredentialUtils.credentialFromString(scramCredentials);
+                return true;
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid {} credentials for user {}", mechanism.mechanismName(), username);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determine whether the SCRAM-SHA credentials in the given user configuration were generated from given password.
+     * This allows to skip updating the credentials when the password did not change.
+     *
+     * @param data The user configuration from ZooKeeper or null if the user configuration does not exist
+     * @param password The desired user password
+     *
+     * @return True if the configuration contains credentials matching the password
+     */
+    boolean credentialsMatch(byte[] data, String password) {
+        String scramCredentials = scramCredentials(data);
+
+        if (scramCredentials == null) {
+            return false;
+        }
+
+        try {
+            ScramCredential current = ScramCredentialUtils.credentialFromString(scramCredentials);
+            ScramFormatter formatter = new ScramFormatter(mechanism);
+            byte[] saltedPassword = formatter.saltedPassword(password, current.salt(), current.iterations());
+            ScramCredential desired = formatter.generateCredential(current.salt(), saltedPassword, current.iterations());
+
+            return MessageDigest.isEqual(current.storedKey(), desired.storedKey())
+                    && MessageDigest.isEqual(current.serverKey(), desired.serverKey());
+        } catch (IllegalArgumentException | NoSuchAlgorithmException | InvalidKeyException e) {
+            return false;
+        }
+    }
+
+    private String scramCredentials(byte[] data) {
         if (data != null)   {
             String jsonString = new String(data, Charset.defaultCharset());
             JsonObject json = new JsonObject(jsonString);
@@ -102,20 +168,126 @@ public class ScramShaCredentials {
             JsonObject config = json.getJsonObject("config");
 
             if (config != null) {
-                String scramCredentials = config.getString(mechanism.mechanismName());
-
-                if (scramCredentials != null) {
-                    try {
-                        ScramCredentialUtils.credentialFromString(scramCredentials);
-                        return true;
-                    } catch (IllegalArgumentException e) {
-                        log.warn("Invalid {} credentials for user {}", mechanism.mechanismName(), username);
-                    }
+                return config.getString(mechanism.mechanismName());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Read the configuration of the given user.
+     *
+     * @param username Name of the user
+     *
+     * @return The user configuration node or null if it does not exist
+     */
+    UserNode read(String username) {
+        try {
+            Stat stat = new Stat();
+            byte[] data = zkClient.readData("/config/users/" + username, stat);
+            return new UserNode(data, stat.getVersion());
+        } catch (ZkNoNodeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read the configuration of all users.
+     *
+     * @return Map with the configuration nodes of all users
+     */
+    Map<String, UserNode> readAll() {
+        Map<String, UserNode> result = new HashMap<>();
+
+        if (zkClient.exists("/config/users"))   {
+            for (String username : zkClient.getChildren("/config/users"))   {
+                UserNode node = read(username);
+
+                if (node != null) {
+                    result.put(username, node);
                 }
             }
         }
 
-        return false;
+        return result;
+    }
+
+    /**
+     * Create, update or delete the SCRAM-SHA credentials of multiple users using a single ZooKeeper multi-operation.
+     * The existing configuration nodes are updated only when they still have the same version as the given current
+     * nodes. Otherwise the whole multi-operation fails and none of the changes is applied.
+     *
+     * @param current The current configuration nodes of the users (the node is null for users without configuration)
+     * @param passwords The desired passwords of the users (null for users whose credentials should be deleted)
+     *
+     * @return The configuration nodes of the users after the changes (null for users without configuration)
+     */
+    Map<String, UserNode> multiUpdate(Map<String, UserNode> current, Map<String, String> passwords) {
+        List<Op> ops = new ArrayList<>(2 * passwords.size());
+        List<String> changedUsers = new ArrayList<>(passwords.size());
+        Map<String, byte[]> updated = new HashMap<>(passwords.size());
+
+        ensurePath("/config/users");
+        ensurePath("/config/changes");
+
+        for (Map.Entry<String, String> entry : passwords.entrySet()) {
+            String username = entry.getKey();
+            String path = "/config/users/" + username;
+            UserNode node = current.get(username);
+
+            if (entry.getValue() != null) {
+                if (node != null) {
+                    log.debug("Updating {} credentials for user {}", mechanism.mechanismName(), username);
+                    updated.put(username, updateUserJson(node.data, entry.getValue()));
+                    ops.add(Op.setData(path, updated.get(username), node.version));
+                } else {
+                    log.debug("Creating {} credentials for user {}", mechanism.mechanismName(), username);
+                    updated.put(username, createUserJson(entry.getValue()));
+                    ops.add(Op.create(path, updated.get(username), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT));
+                }
+            } else if (node != null) {
+                log.debug("Deleting {} credentials for user {}", mechanism.mechanismName(), username);
+                JsonObject deletedJson = removeScramCredentialsFromUserJson(node.data);
+
+                if (configJsonIsEmpty(deletedJson)) {
+                    updated.put(username, null);
+                    ops.add(Op.delete(path, node.version));
+                } else {
+                    updated.put(username, deletedJson.toBuffer().getBytes());
+                    ops.add(Op.setData(path, updated.get(username), node.version));
+                }
+            } else {
+                continue;
+            }
+
+            // Each changed user has two operations: the change of the user configuration and the change notification
+            changedUsers.add(username);
+            ops.add(Op.create("/config/changes/config_change_", changeNotification(username), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT_SEQUENTIAL));
+        }
+
+        Map<String, UserNode> result = new HashMap<>(updated.size());
+
+        if (ops.isEmpty()) {
+            return result;
+        }
+
+        List<OpResult> opResults = zkClient.multi(ops);
+
+        for (int i = 0; i < changedUsers.size(); i++) {
+            String username = changedUsers.get(i);
+            OpResult opResult = opResults.get(2 * i);
+
+            if (opResult instanceof OpResult.SetDataResult) {
+                result.put(username, new UserNode(updated.get(username), ((OpResult.SetDataResult) opResult).getStat().getVersion()));
+            } else if (opResult instanceof OpResult.CreateResult) {
+                result.put(username, new UserNode(updated.get(username), 0));
+            } else {
+                result.put(username, null);
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -126,13 +298,9 @@ public class ScramShaCredentials {
     public List<String> list() {
         List<String> result = new ArrayList<>();
 
-        if (zkClient.exists("/config/users"))   {
-            List<String> nodes = zkClient.getChildren("/config/users");
-
-            for (String node : nodes)   {
-                if (exists(node))   {
-                    result.add(node);
-                }
+        for (Map.Entry<String, UserNode> node : readAll().entrySet())   {
+            if (hasCredentials(node.getKey(), node.getValue().data))   {
+                result.add(node.getKey());
             }
         }
 
@@ -149,8 +317,12 @@ public class ScramShaCredentials {
 
         ensurePath("/config/changes");
 
+        zkClient.createPersistentSequential("/config/changes/config_change_", changeNotification(username));
+    }
+
+    private byte[] changeNotification(String username) {
         JsonObject json = new JsonObject().put("version", 2).put("entity_path", "users/" + username);
-        zkClient.createPersistentSequential("/config/changes/config_change_", json.encode().getBytes(Charset.defaultCharset()));
+        return json.encode().getBytes(Charset.defaultCharset());
     }
 
     /**
@@ -248,5 +420,24 @@ public class ScramShaCredentials {
             throw new RuntimeException("Failed to validate the user JSON. The version is missing or has an invalid value.");
         }
     }
-}
 
+    /**
+     * Configuration node of a single user in ZooKeeper
+     */
+    static class UserNode {
+        private final byte[] data;
+        private final int version;
+
+        UserNode(byte[] data, int version) {
+            this.data = data;
+            this.version = version;
+        }
+
+        /**
+         * @return The user configuration
+         */
+        byte[] data() {
+            return data;
+        }
+    }
+}
@@ -4,35 +4,70 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.WorkerPools;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Operator for the SCRAM-SHA credentials of the users.
+ *
+ * The configuration nodes of all users are cached in memory. The cache is loaded when it is used for the first time
+ * and it is reloaded whenever the operator lists the users with credentials (i.e. once per periodic reconciliation).
+ * Between these reloads, it is updated with the changes made by this operator. The reconciliations use the cache to
+ * find out whether the credentials need to be changed, so users with unchanged passwords do not cause any writes to
+ * ZooKeeper. The changes of multiple users are written in batches using ZooKeeper multi-operations.
+ */
 public class ScramShaCredentialsOperator {
+    private static final Logger log = LogManager.getLogger(ScramShaCredentialsOperator.class.getName());
+
+    /**
+     * Maximum number of users changed in a single ZooKeeper multi-operation. It keeps the size of the multi request
+     * well below the default ZooKeeper request size limit.
+     */
+    private static final int MAX_USERS_PER_MULTI = 100;
 
     private ScramShaCredentials credsManager;
 
     private Vertx vertx;
 
+    private final ConcurrentHashMap<String, CachedNode> cache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheVersion = new AtomicLong();
+    private volatile boolean cacheLoaded = false;
+    private final BatchingQueue<CredentialsUpdate> updates;
+
     public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
         this.credsManager = credsManager;
         this.vertx = vertx;
+        this.updates = new BatchingQueue<>(WorkerPools.zookeeper(vertx), this::sendBatch);
     }
 
     Future<Void> reconcile(String username, String password) {
         Promise<Void> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.zookeeper(vertx).executeBlocking(
             future -> {
-                boolean exists = credsManager.exists(username);
+                byte[] current = getCachedData(username);
                 if (password != null) {
-                    credsManager.createOrUpdate(username, password);
-                    future.complete(null);
-                } else  {
-                    if (exists) {
-                        credsManager.delete(username);
+                    if (credsManager.credentialsMatch(current, password)) {
+                        log.debug("Credentials for user {} are up to date", username);
                         future.complete(null);
+                    } else {
+                        updates.submit(new CredentialsUpdate(username, password)).onComplete(future);
+                    }
+                } else  {
+                    if (credsManager.hasCredentials(username, current)) {
+                        updates.submit(new CredentialsUpdate(username, null)).onComplete(future);
                     } else {
                         future.complete(null);
                     }
@@ -43,7 +78,141 @@ public class ScramShaCredentialsOperator {
         return promise.future();
     }
 
+    /**
+     * List users with SCRAM-SHA credentials. The cache is reloaded from ZooKeeper.
+     *
+     * @return List of usernames with SCRAM-SHA credentials
+     */
     public List<String> list() {
-        return credsManager.list();
+        loadCache();
+
+        List<String> result = new ArrayList<>();
+
+        for (Map.Entry<String, CachedNode> entry : cache.entrySet()) {
+            if (entry.getValue().node != null && credsManager.hasCredentials(entry.getKey(), entry.getValue().node.data())) {
+                result.add(entry.getKey());
+            }
+        }
+
+        return result;
+    }
+
+    private byte[] getCachedData(String username) {
+        if (!cacheLoaded) {
+            synchronized (this) {
+                if (!cacheLoaded) {
+                    loadCache();
+                }
+            }
+        }
+
+        CachedNode cached = cache.get(username);
+        return cached != null && cached.node != null ? cached.node.data() : null;
+    }
+
+    /**
+     * Loads the configuration of all users into the cache. Users changed by this operator while the configuration was
+     * being loaded keep their current cache entry, because the loaded configuration might not include the change yet.
+     */
+    private synchronized void loadCache() {
+        long version = cacheVersion.get();
+        Map<String, ScramShaCredentials.UserNode> loaded = credsManager.readAll();
+
+        Set<String> usernames = ConcurrentHashMap.newKeySet();
+        usernames.addAll(cache.keySet());
+        usernames.addAll(loaded.keySet());
+
+        for (String username : usernames) {
+            cache.compute(username, (name, current) -> {
+                if (current != null && current.version > version) {
+                    return current;
+                } else if (loaded.containsKey(name)) {
+                    return new CachedNode(loaded.get(name), version);
+                } else {
+                    return null;
+                }
+            });
+        }
+
+        cacheLoaded = true;
+        log.debug("Loaded configuration of {} users", loaded.size());
+    }
+
+    private void updateCache(String username, ScramShaCredentials.UserNode node) {
+        cache.put(username, new CachedNode(node, cacheVersion.incrementAndGet()));
+    }
+
+    private void sendBatch(List<BatchingQueue.Request<CredentialsUpdate>> batch) {
+        for (int i = 0; i < batch.size(); i += MAX_USERS_PER_MULTI) {
+            List<BatchingQueue.Request<CredentialsUpdate>> chunk = batch.subList(i, Math.min(i + MAX_USERS_PER_MULTI, batch.size()));
+            Map<String, ScramShaCredentials.UserNode> current = new HashMap<>(chunk.size());
+            Map<String, String> passwords = new LinkedHashMap<>(chunk.size());
+
+            for (BatchingQueue.Request<CredentialsUpdate> request : chunk) {
+                String username = request.request().username;
+                CachedNode cached = cache.get(username);
+                current.put(username, cached != null ? cached.node : null);
+                passwords.put(username, request.request().password);
+            }
+
+            try {
+                log.debug("Updating credentials of {} users", passwords.size());
+                Map<String, ScramShaCredentials.UserNode> updated = credsManager.multiUpdate(current, passwords);
+                updated.forEach(this::updateCache);
+                chunk.forEach(BatchingQueue.Request::complete);
+            } catch (RuntimeException e) {
+                // Some of the nodes were changed by someone else (e.g. by changing the user quotas) => the whole
+                // multi-operation was rejected and the users are updated one by one using their latest configuration
+                log.debug("Updating credentials of {} users in a single operation failed, updating them one by one", passwords.size(), e);
+                chunk.forEach(this::sendOne);
+            }
+        }
+    }
+
+    private void sendOne(BatchingQueue.Request<CredentialsUpdate> request) {
+        CredentialsUpdate update = request.request();
+
+        try {
+            if (update.password != null) {
+                credsManager.createOrUpdate(update.username, update.password);
+            } else {
+                credsManager.delete(update.username);
+            }
+
+            updateCache(update.username, credsManager.read(update.username));
+            request.complete();
+        } catch (RuntimeException e) {
+            log.error("Updating credentials for user {} failed", update.username, e);
+            // The result of the change is not known => the cache will be reloaded before it is used again
+            cacheLoaded = false;
+            request.fail(e);
+        }
+    }
+
+    /**
+     * Configuration node of a single user (null if the user has no configuration) together with the version of the
+     * cache in which it was last updated
+     */
+    private static class CachedNode {
+        private final ScramShaCredentials.UserNode node;
+        private final long version;
+
+        CachedNode(ScramShaCredentials.UserNode node, long version) {
+            this.node = node;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Credentials change of a single user waiting to be written to ZooKeeper
+     */
+    private static class CredentialsUpdate {
+        private final String username;
+        private final String password;
+
+        CredentialsUpdate(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
     }
 }
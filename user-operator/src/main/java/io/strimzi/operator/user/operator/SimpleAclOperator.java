@@ -5,22 +5,20 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.WorkerPools;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.common.acl.AccessControlEntryFilter;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
-import org.apache.kafka.common.acl.AclOperation;
-import org.apache.kafka.common.acl.AclPermissionType;
 import org.apache.kafka.common.errors.SecurityDisabledException;
 import org.apache.kafka.common.errors.UnknownServerException;
-import org.apache.kafka.common.resource.ResourcePatternFilter;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
@@ -29,13 +27,27 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SimlpeAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
+ *
+ * The ACLs of all users are kept in an in-memory index keyed by the user name. The index is loaded with a single
+ * describe request for all ACLs in the cluster when it is used for the first time and it is reloaded whenever the
+ * operator lists the users with ACLs (i.e. once per periodic reconciliation). Between these reloads, it is updated
+ * with the changes made by this operator. The reconciliations read the current ACLs from the index instead of
+ * describing the ACLs of each user separately.
+ *
+ * The ACL changes of the individual users are queued and sent to Kafka in batches, so that changes of many users
+ * reconciled at the same time are done using a single createAcls and a single deleteAcls request.
  */
 public class SimpleAclOperator {
     private static final Logger log = LogManager.getLogger(SimpleAclOperator.class.getName());
@@ -45,6 +57,12 @@ public class SimpleAclOperator {
     private final Vertx vertx;
     private final Admin adminClient;
 
+    private final ConcurrentHashMap<String, UserAcls> index = new ConcurrentHashMap<>();
+    private final AtomicLong indexVersion = new AtomicLong();
+    private volatile boolean indexLoaded = false;
+
+    private final BatchingQueue<AclUpdate> updates;
+
     /**
      * Constructor
      *
@@ -54,6 +72,7 @@ public class SimpleAclOperator {
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
         this.vertx = vertx;
         this.adminClient = adminClient;
+        this.updates = new BatchingQueue<>(WorkerPools.kafkaAdmin(vertx), this::sendBatch);
     }
 
     /**
@@ -65,7 +84,7 @@ public class SimpleAclOperator {
      */
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
         Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        WorkerPools.kafkaAdmin(vertx).executeBlocking(
             future -> {
                 Set<SimpleAclRule> current;
 
@@ -96,6 +115,9 @@ public class SimpleAclOperator {
                     if (current.isEmpty())  {
                         log.debug("User {}: {} expected Acl rules, but no existing Acl rules -> Adding rules", username, desired.size());
                         internalCreate(username, desired).onComplete(future);
+                    } else if (current.equals(desired)) {
+                        log.debug("User {}: {} expected Acl rules are equal to the existing Acl rules -> NoOp", username, desired.size());
+                        future.complete(ReconcileResult.noop(desired));
                     } else  {
                         log.debug("User {}: {} expected Acl rules and {} existing Acl rules -> Reconciling rules", username, desired.size(), current.size());
                         internalUpdate(username, desired, current).onComplete(future);
@@ -112,21 +134,14 @@ public class SimpleAclOperator {
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
-        try {
-            Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-            adminClient.createAcls(aclBindings).all().get();
-        } catch (Exception e) {
-            log.error("Adding Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
-        }
-
-        return Future.succeededFuture(ReconcileResult.created(desired));
+        return update(username, desired, Collections.emptySet())
+                .map(ignored -> ReconcileResult.created(desired));
     }
 
     /**
      * Update all ACLs for given user.
      * This method is using Sets to decide which rules need to be added and which need to be deleted.
-     * It delagates to {@link #internalCreate internalCreate} and {@link #internalDelete internalDelete} methods for the actual addition or deletion.
+     * The additions and deletions are sent to Kafka in the same batch.
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalUpdate(String username, Set<SimpleAclRule> desired, Set<SimpleAclRule> current) {
         Set<SimpleAclRule> toBeDeleted = new HashSet<>(current);
@@ -135,31 +150,16 @@ public class SimpleAclOperator {
         Set<SimpleAclRule> toBeAdded = new HashSet<>(desired);
         toBeAdded.removeAll(current);
 
-        List<Future> updates = new ArrayList<>(2);
-        updates.add(internalDelete(username, toBeDeleted));
-        updates.add(internalCreate(username, toBeAdded));
-
-        Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-
-        CompositeFuture.all(updates).onComplete(res -> {
-            if (res.succeeded())    {
-                promise.complete(ReconcileResult.patched(desired));
-            } else  {
-                log.error("Updating Acl rules for user {} failed", username, res.cause());
-                promise.fail(res.cause());
-            }
-        });
-
-        return promise.future();
+        return update(username, toBeAdded, toBeDeleted)
+                .map(ignored -> ReconcileResult.patched(desired));
     }
 
-    private Collection<AclBindingFilter> getAclBindingFilters(String username, Set<SimpleAclRule> aclRules) {
-        KafkaPrincipal principal = new KafkaPrincipal("User", username);
-        Collection<AclBindingFilter> aclBindingFilters = new ArrayList<>();
-        for (SimpleAclRule rule: aclRules) {
-            aclBindingFilters.add(rule.toKafkaAclBinding(principal).toFilter());
-        }
-        return aclBindingFilters;
+    /**
+     * Deletes all ACLs for given user
+     */
+    protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        return update(username, Collections.emptySet(), current)
+                .map(ignored -> ReconcileResult.deleted());
     }
 
     private Collection<AclBinding> getAclBindings(String username, Set<SimpleAclRule> aclRules) {
@@ -172,49 +172,139 @@ public class SimpleAclOperator {
     }
 
     /**
-     * Deletes all ACLs for given user
+     * Queues the ACL changes of given user to be sent to Kafka together with the changes of other users
+     *
+     * @param username      Name of the user
+     * @param toBeAdded     ACL rules which should be created
+     * @param toBeDeleted   ACL rules which should be deleted
+     *
+     * @return  Future which completes when the changes of this user are done
      */
-    protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+    private Future<Void> update(String username, Set<SimpleAclRule> toBeAdded, Set<SimpleAclRule> toBeDeleted) {
+        return updates.submit(new AclUpdate(username, getAclBindings(username, toBeAdded), getAclBindings(username, toBeDeleted)));
+    }
 
-        try {
-            Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-            adminClient.deleteAcls(aclBindingFilters).all().get();
-        } catch (Exception e) {
-            log.error("Deleting Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+    private void sendBatch(List<BatchingQueue.Request<AclUpdate>> batch) {
+        List<AclBinding> toBeAdded = new ArrayList<>();
+        List<AclBindingFilter> toBeDeleted = new ArrayList<>();
+
+        for (BatchingQueue.Request<AclUpdate> request : batch) {
+            toBeAdded.addAll(request.request().toBeAdded);
+            request.request().toBeDeleted.forEach(binding -> toBeDeleted.add(binding.toFilter()));
+        }
+
+        log.debug("Updating Acl rules of {} users: adding {} and deleting {} rules", batch.size(), toBeAdded.size(), toBeDeleted.size());
+
+        Map<AclBinding, KafkaFuture<Void>> created = toBeAdded.isEmpty() ? Collections.emptyMap() : adminClient.createAcls(toBeAdded).values();
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> deleted = toBeDeleted.isEmpty() ? Collections.emptyMap() : adminClient.deleteAcls(toBeDeleted).values();
+
+        for (BatchingQueue.Request<AclUpdate> request : batch) {
+            AclUpdate update = request.request();
+
+            try {
+                for (AclBinding binding : update.toBeAdded) {
+                    created.get(binding).get();
+                }
+
+                for (AclBinding binding : update.toBeDeleted) {
+                    deleted.get(binding.toFilter()).get();
+                }
+
+                updateIndex(update);
+                request.complete();
+            } catch (Exception e) {
+                log.error("Updating Acl rules for user {} failed", update.username, e);
+                // The result of the changes is not known => the index will be reloaded before it is used again
+                indexLoaded = false;
+                request.fail(e.getCause() != null ? e.getCause() : e);
+            }
         }
-        return Future.succeededFuture(ReconcileResult.deleted());
+    }
+
+    private void updateIndex(AclUpdate update) {
+        long version = indexVersion.incrementAndGet();
+
+        index.compute(update.username, (username, current) -> {
+            Set<AclBinding> bindings = current != null ? new HashSet<>(current.bindings) : new HashSet<>();
+            bindings.removeAll(update.toBeDeleted);
+            bindings.addAll(update.toBeAdded);
+            return new UserAcls(bindings, version);
+        });
     }
 
     /**
-     * Returns Set of ACLs applying to single user.
-     *
-     * @param username  Name of the user.
-     * @return The Set of ACLs applying to single user.
+     * Loads the ACLs of all users into the index. Users whose ACLs were changed by this operator while the ACLs were
+     * being loaded keep their current index entry, because the loaded ACLs might not include these changes yet.
      */
-    public Set<SimpleAclRule> getAcls(String username)   {
-        log.debug("Searching for ACL rules of user {}", username);
-        Set<SimpleAclRule> result = new HashSet<>();
-        KafkaPrincipal principal = new KafkaPrincipal("User", username);
+    private synchronized void loadIndex() {
+        long version = indexVersion.get();
+        Map<String, Set<AclBinding>> loaded = new HashMap<>();
+
+        for (AclBinding aclBinding : describeAcls(AclBindingFilter.ANY)) {
+            KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+
+            if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                loaded.computeIfAbsent(principal.getName(), name -> new HashSet<>()).add(aclBinding);
+            }
+        }
 
-        AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY,
-            new AccessControlEntryFilter(principal.toString(), null, AclOperation.ANY, AclPermissionType.ANY));
+        Set<String> usernames = new HashSet<>(index.keySet());
+        usernames.addAll(loaded.keySet());
+
+        for (String username : usernames) {
+            index.compute(username, (name, current) -> {
+                if (current != null && current.version > version) {
+                    return current;
+                } else if (loaded.containsKey(name)) {
+                    return new UserAcls(loaded.get(name), version);
+                } else {
+                    return null;
+                }
+            });
+        }
+
+        indexLoaded = true;
+        log.debug("Loaded Acl rules of {} users", loaded.size());
+    }
 
-        Collection<AclBinding> aclBindings = null;
+    private Collection<AclBinding> describeAcls(AclBindingFilter aclBindingFilter) {
         try {
-            aclBindings = adminClient.describeAcls(aclBindingFilter).values().get();
+            return adminClient.describeAcls(aclBindingFilter).values().get();
         } catch (InterruptedException | ExecutionException e) {
             // Admin Client API needs authorizer enabled on the Kafka brokers
             if (e.getCause() instanceof SecurityDisabledException) {
                 throw new InvalidResourceException("Authorization needs to be enabled in the Kafka custom resource", e.getCause());
             } else if (e.getCause() instanceof UnknownServerException && e.getMessage().contains("Simple ACL delegation not enabled")) {
                 throw new InvalidResourceException("Simple ACL delegation needs to be enabled in the Kafka custom resource", e.getCause());
+            } else {
+                throw new RuntimeException("Failed to describe the Acl rules", e.getCause() != null ? e.getCause() : e);
+            }
+        }
+    }
+
+    /**
+     * Returns Set of ACLs applying to single user.
+     *
+     * @param username  Name of the user.
+     * @return The Set of ACLs applying to single user.
+     */
+    public Set<SimpleAclRule> getAcls(String username)   {
+        log.debug("Searching for ACL rules of user {}", username);
+
+        if (!indexLoaded) {
+            synchronized (this) {
+                if (!indexLoaded) {
+                    loadIndex();
+                }
             }
         }
 
-        if (aclBindings != null) {
+        Set<SimpleAclRule> result = new HashSet<>();
+        UserAcls userAcls = index.get(username);
+
+        if (userAcls != null) {
             log.debug("ACL rules for user {}", username);
-            for (AclBinding aclBinding : aclBindings) {
+            for (AclBinding aclBinding : userAcls.bindings) {
                 log.debug("{}", aclBinding);
                 result.add(SimpleAclRule.fromAclBinding(aclBinding));
             }
@@ -224,7 +314,7 @@ public class SimpleAclOperator {
     }
 
     /**
-     * Returns set with all usernames which have some ACLs.
+     * Returns set with all usernames which have some ACLs. The ACL index is reloaded from the Kafka cluster.
      *
      * @return The set with all usernames which have some ACLs.
      */
@@ -234,36 +324,64 @@ public class SimpleAclOperator {
 
         log.debug("Searching for Users with any ACL rules");
 
-        Collection<AclBinding> aclBindings;
         try {
-            aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
-        } catch (InterruptedException | ExecutionException e) {
+            loadIndex();
+        } catch (RuntimeException e) {
+            log.debug("Failed to load the Acl rules", e);
             return result;
         }
 
-        for (AclBinding aclBinding : aclBindings) {
-            KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
-
-            if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType()))  {
-                // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
-                String username = KafkaUserModel.decodeUsername(principal.getName());
+        for (Map.Entry<String, UserAcls> entry : index.entrySet()) {
+            if (entry.getValue().bindings.isEmpty()) {
+                continue;
+            }
 
-                if (IGNORED_USERS.contains(username))   {
-                    if (!ignored.contains(username)) {
-                        // This info message is loged only once per reocnciliation even if there are multiple rules
-                        log.info("Existing ACLs for user '{}' will be ignored.", username);
-                        ignored.add(username);
-                    }
-                } else {
-                    if (log.isTraceEnabled()) {
-                        log.trace("Adding user {} to Set of users with ACLs", username);
-                    }
+            // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
+            String username = KafkaUserModel.decodeUsername(entry.getKey());
 
-                    result.add(username);
+            if (IGNORED_USERS.contains(username))   {
+                if (!ignored.contains(username)) {
+                    // This info message is loged only once per reocnciliation even if there are multiple rules
+                    log.info("Existing ACLs for user '{}' will be ignored.", username);
+                    ignored.add(username);
+                }
+            } else {
+                if (log.isTraceEnabled()) {
+                    log.trace("Adding user {} to Set of users with ACLs", username);
                 }
+
+                result.add(username);
             }
         }
 
         return result;
     }
+
+    /**
+     * ACL bindings of a single user together with the version of the index in which they were last updated
+     */
+    private static class UserAcls {
+        private final Set<AclBinding> bindings;
+        private final long version;
+
+        UserAcls(Set<AclBinding> bindings, long version) {
+            this.bindings = bindings;
+            this.version = version;
+        }
+    }
+
+    /**
+     * ACL changes of a single user waiting to be sent to Kafka
+     */
+    private static class AclUpdate {
+        private final String username;
+        private final Collection<AclBinding> toBeAdded;
+        private final Collection<AclBinding> toBeDeleted;
+
+        AclUpdate(String username, Collection<AclBinding> toBeAdded, Collection<AclBinding> toBeDeleted) {
+            this.username = username;
+            this.toBeAdded = toBeAdded;
+            this.toBeDeleted = toBeDeleted;
+        }
+    }
 }
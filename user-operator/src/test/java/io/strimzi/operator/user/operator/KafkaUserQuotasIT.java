@@ -8,13 +8,18 @@ import io.debezium.kafka.KafkaCluster;
 import io.debezium.util.Testing;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.I0Itec.zkclient.ZkClient;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
+import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,14 +29,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 
 @ExtendWith(VertxExtension.class)
@@ -39,6 +47,8 @@ public class KafkaUserQuotasIT {
 
     private static ZkClient zkClient;
 
+    private static Admin adminClient;
+
     private static KafkaUserQuotasOperator kuq;
 
     private KafkaUserQuotas defaultQuotas;
@@ -65,12 +75,15 @@ public class KafkaUserQuotasIT {
 
         zkClient = new ZkClient("localhost:" + kafkaCluster.zkPort(), 6000_0, 30_000, new BytesPushThroughSerializer());
 
-        kuq = new KafkaUserQuotasOperator(vertx,
-                new DefaultAdminClientProvider().createAdminClient(kafkaCluster.brokerList(), null, null, null));
+        adminClient = new DefaultAdminClientProvider().createAdminClient(kafkaCluster.brokerList(), null, null, null);
+        kuq = new KafkaUserQuotasOperator(vertx, adminClient);
     }
 
     @AfterAll
     public static void afterAll() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
         if (kafkaCluster != null) {
             kafkaCluster.shutdown();
         }
@@ -97,9 +110,9 @@ public class KafkaUserQuotasIT {
     }
 
     public void testUserExistsAfterCreate(String username) throws Exception {
-        assertThat(kuq.exists(username), is(false));
-        kuq.createOrUpdate(username, defaultQuotas);
-        assertThat(kuq.exists(username), is(true));
+        assertThat(exists(username), is(false));
+        reconcile(username, defaultQuotas);
+        assertThat(exists(username), is(true));
     }
 
     @Test
@@ -113,7 +126,7 @@ public class KafkaUserQuotasIT {
     }
 
     public void testUserDoesNotExistPriorToCreate(String username) throws Exception {
-        assertThat(kuq.exists(username), is(false));
+        assertThat(exists(username), is(false));
     }
 
     @Test
@@ -138,7 +151,7 @@ public class KafkaUserQuotasIT {
         KafkaUserQuotas newQuotas = new KafkaUserQuotas();
         newQuotas.setConsumerByteRate(1000);
         newQuotas.setProducerByteRate(2000);
-        kuq.createOrUpdate(username, newQuotas);
+        reconcile(username, newQuotas);
         assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
         testDescribeUserQuotas(username, newQuotas);
     }
@@ -155,10 +168,10 @@ public class KafkaUserQuotasIT {
 
     public void testCreateOrUpdateTwice(String username) throws Exception {
         assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(false));
-        assertThat(kuq.describeUserQuotas(username), is(nullValue()));
+        assertThat(describeUserQuotas(username), is(nullValue()));
 
-        kuq.createOrUpdate(username, defaultQuotas);
-        kuq.createOrUpdate(username, defaultQuotas);
+        reconcile(username, defaultQuotas);
+        reconcile(username, defaultQuotas);
         assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
         testDescribeUserQuotas(username, defaultQuotas);
     }
@@ -174,12 +187,12 @@ public class KafkaUserQuotasIT {
     }
 
     public void testDelete(String username) throws Exception {
-        kuq.createOrUpdate(username, defaultQuotas);
+        reconcile(username, defaultQuotas);
         assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
-        assertThat(kuq.exists(username), is(true));
+        assertThat(exists(username), is(true));
 
-        kuq.delete(username);
-        assertThat(kuq.exists(username), is(false));
+        reconcile(username, null);
+        assertThat(exists(username), is(false));
     }
 
     @Test
@@ -193,29 +206,29 @@ public class KafkaUserQuotasIT {
     }
 
     public void testDeleteTwice(String username) throws Exception {
-        kuq.createOrUpdate(username, defaultQuotas);
+        reconcile(username, defaultQuotas);
         assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
-        assertThat(kuq.exists(username), is(true));
+        assertThat(exists(username), is(true));
 
-        kuq.delete(username);
-        kuq.delete(username);
-        assertThat(kuq.exists(username), is(false));
+        reconcile(username, null);
+        reconcile(username, null);
+        assertThat(exists(username), is(false));
     }
 
     @Test
     public void testUpdateConsumerByteRate() throws Exception {
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
+        reconcile("changeProducerByteRate", defaultQuotas);
         defaultQuotas.setConsumerByteRate(4000);
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
-        assertThat(kuq.describeUserQuotas("changeProducerByteRate").getConsumerByteRate(), is(4000));
+        reconcile("changeProducerByteRate", defaultQuotas);
+        assertThat(describeUserQuotas("changeProducerByteRate").getConsumerByteRate(), is(4000));
     }
 
     @Test
     public void testUpdateProducerByteRate() throws Exception {
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
+        reconcile("changeProducerByteRate", defaultQuotas);
         defaultQuotas.setProducerByteRate(8000);
-        kuq.createOrUpdate("changeProducerByteRate", defaultQuotas);
-        assertThat(kuq.describeUserQuotas("changeProducerByteRate").getProducerByteRate(), is(8000));
+        reconcile("changeProducerByteRate", defaultQuotas);
+        assertThat(describeUserQuotas("changeProducerByteRate").getProducerByteRate(), is(8000));
     }
 
     @Test
@@ -276,12 +289,12 @@ public class KafkaUserQuotasIT {
         quotas.setProducerByteRate(1_000_000);
         quotas.setRequestPercentage(50);
 
-        assertThat(kuq.exists(username), is(false));
+        assertThat(exists(username), is(false));
 
         Checkpoint async = testContext.checkpoint();
         kuq.reconcile(username, quotas)
             .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(true));
+                assertThat(exists(username), is(true));
                 assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
                 testDescribeUserQuotas(username, quotas);
                 async.flag();
@@ -304,8 +317,8 @@ public class KafkaUserQuotasIT {
         initialQuotas.setProducerByteRate(1_000_000);
         initialQuotas.setRequestPercentage(50);
 
-        kuq.createOrUpdate(username, initialQuotas);
-        assertThat(kuq.exists(username), is(true));
+        reconcile(username, initialQuotas);
+        assertThat(exists(username), is(true));
         testDescribeUserQuotas(username, initialQuotas);
 
         KafkaUserQuotas updatedQuotas = new KafkaUserQuotas();
@@ -316,7 +329,7 @@ public class KafkaUserQuotasIT {
         Checkpoint async = testContext.checkpoint();
         kuq.reconcile(username, updatedQuotas)
             .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(true));
+                assertThat(exists(username), is(true));
                 assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
                 testDescribeUserQuotas(username, updatedQuotas);
                 async.flag();
@@ -339,8 +352,8 @@ public class KafkaUserQuotasIT {
         initialQuotas.setProducerByteRate(1_000_000);
         initialQuotas.setRequestPercentage(50);
 
-        kuq.createOrUpdate(username, initialQuotas);
-        assertThat(kuq.exists(username), is(true));
+        reconcile(username, initialQuotas);
+        assertThat(exists(username), is(true));
         testDescribeUserQuotas(username, initialQuotas);
 
         KafkaUserQuotas updatedQuotas = new KafkaUserQuotas();
@@ -350,7 +363,7 @@ public class KafkaUserQuotasIT {
         Checkpoint async = testContext.checkpoint();
         kuq.reconcile(username, updatedQuotas)
             .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(true));
+                assertThat(exists(username), is(true));
                 assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(true));
                 testDescribeUserQuotas(username, updatedQuotas);
                 async.flag();
@@ -374,18 +387,58 @@ public class KafkaUserQuotasIT {
         initialQuotas.setProducerByteRate(1_000_000);
         initialQuotas.setRequestPercentage(50);
 
-        kuq.createOrUpdate(username, initialQuotas);
-        assertThat(kuq.exists(username), is(true));
+        reconcile(username, initialQuotas);
+        assertThat(exists(username), is(true));
         testDescribeUserQuotas(username, initialQuotas);
 
         Checkpoint async = testContext.checkpoint();
         kuq.reconcile(username, null)
             .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
-                assertThat(kuq.exists(username), is(false));
+                assertThat(exists(username), is(false));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testReconcileBatchOfUsers(VertxTestContext testContext) {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(1_000_000);
+
+        Checkpoint async = testContext.checkpoint();
+        CompositeFuture.join(
+                kuq.reconcile("CN=batchTestUser1", quotas),
+                kuq.reconcile("batchTestUser2", quotas),
+                kuq.reconcile("batchTestUser3", quotas))
+            .onComplete(testContext.succeeding(rr -> testContext.verify(() -> {
+                testDescribeUserQuotas("CN=batchTestUser1", quotas);
+                testDescribeUserQuotas("batchTestUser2", quotas);
+                testDescribeUserQuotas("batchTestUser3", quotas);
+                assertThat(kuq.getUsersWithQuotas(), hasItems("batchTestUser1", "batchTestUser2", "batchTestUser3"));
                 async.flag();
             })));
     }
 
+    /**
+     * Reconciles the quotas of the user through the operator and waits for the result
+     */
+    private void reconcile(String username, KafkaUserQuotas quotas) throws Exception {
+        kuq.reconcile(username, quotas).toCompletionStage().toCompletableFuture().get(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Describes the quotas of the user directly in Kafka, bypassing the cache of the operator
+     */
+    private KafkaUserQuotas describeUserQuotas(String username) throws Exception {
+        ClientQuotaEntity entity = new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, username));
+        ClientQuotaFilter filter = ClientQuotaFilter.contains(Collections.singleton(ClientQuotaFilterComponent.ofEntity(ClientQuotaEntity.USER, username)));
+        Map<String, Double> quotas = adminClient.describeClientQuotas(filter).entities().get().get(entity);
+        return quotas != null ? kuq.fromClientQuota(quotas) : null;
+    }
+
+    private boolean exists(String username) throws Exception {
+        return describeUserQuotas(username) != null;
+    }
+
     private boolean isPathExist(String path) {
         return zkClient.exists(path);
     }
@@ -407,14 +460,14 @@ public class KafkaUserQuotasIT {
     }
 
     private void testUserQuotasNotExist(String username) throws Exception {
-        assertThat(kuq.describeUserQuotas(username), is(nullValue()));
+        assertThat(describeUserQuotas(username), is(nullValue()));
         assertThat(isPathExist("/config/users/" + encodeUsername(username)), is(false));
     }
 
     private void testDescribeUserQuotas(String username, KafkaUserQuotas quotas) throws Exception {
-        assertThat(kuq.describeUserQuotas(username), is(notNullValue()));
-        assertThat(kuq.describeUserQuotas(username).getConsumerByteRate(), is(quotas.getConsumerByteRate()));
-        assertThat(kuq.describeUserQuotas(username).getProducerByteRate(), is(quotas.getProducerByteRate()));
-        assertThat(kuq.describeUserQuotas(username).getRequestPercentage(), is(quotas.getRequestPercentage()));
+        assertThat(describeUserQuotas(username), is(notNullValue()));
+        assertThat(describeUserQuotas(username).getConsumerByteRate(), is(quotas.getConsumerByteRate()));
+        assertThat(describeUserQuotas(username).getProducerByteRate(), is(quotas.getProducerByteRate()));
+        assertThat(describeUserQuotas(username).getRequestPercentage(), is(quotas.getRequestPercentage()));
     }
 }
@@ -13,7 +13,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -101,6 +104,41 @@ public class ScramShaCredentialsIT {
         assertThat(scramShaCred.isPathExist("/config/users/changePassword"), is(true));
     }
 
+    @Test
+    public void testCredentialsMatch() {
+        scramShaCred.createOrUpdate("matchPassword", "foo-password");
+        byte[] data = scramShaCred.read("matchPassword").data();
+
+        assertThat(scramShaCred.credentialsMatch(data, "foo-password"), is(true));
+        assertThat(scramShaCred.credentialsMatch(data, "bar-password"), is(false));
+        assertThat(scramShaCred.credentialsMatch(null, "foo-password"), is(false));
+    }
+
+    @Test
+    public void testMultiUpdate() {
+        scramShaCred.createOrUpdate("multiUpdate", "foo-password");
+        scramShaCred.createOrUpdate("multiDelete", "foo-password");
+
+        Map<String, ScramShaCredentials.UserNode> current = scramShaCred.readAll();
+        Map<String, String> passwords = new HashMap<>();
+        passwords.put("multiCreate", "foo-password");
+        passwords.put("multiUpdate", "bar-password");
+        passwords.put("multiDelete", null);
+
+        Map<String, ScramShaCredentials.UserNode> updated = scramShaCred.multiUpdate(current, passwords);
+
+        assertThat(scramShaCred.credentialsMatch(updated.get("multiCreate").data(), "foo-password"), is(true));
+        assertThat(scramShaCred.credentialsMatch(updated.get("multiUpdate").data(), "bar-password"), is(true));
+        assertThat(updated.get("multiDelete"), is(nullValue()));
+        assertThat(scramShaCred.exists("multiCreate"), is(true));
+        assertThat(scramShaCred.credentialsMatch(scramShaCred.read("multiUpdate").data(), "bar-password"), is(true));
+        assertThat(scramShaCred.exists("multiDelete"), is(false));
+
+        // The nodes changed since they were read => the whole multi-operation fails
+        assertThrows(RuntimeException.class, () -> scramShaCred.multiUpdate(current, singletonMap("multiUpdate", "baz-password")));
+        assertThat(scramShaCred.credentialsMatch(scramShaCred.read("multiUpdate").data(), "bar-password"), is(true));
+    }
+
     @Test
     public void testListListsCreatedUsers() {
         scramShaCred.createOrUpdate("listSome", "foo-password");
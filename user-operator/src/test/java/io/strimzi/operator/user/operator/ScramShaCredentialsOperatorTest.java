@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramShaCredentialsOperatorTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    /**
+     * Creates a mock of the credentials manager. The configuration of the user is just the password, so that the
+     * credentials match when the configuration equals the password.
+     */
+    private static ScramShaCredentials mockCredentials(Map<String, ScramShaCredentials.UserNode> users) {
+        ScramShaCredentials credentials = mock(ScramShaCredentials.class);
+        when(credentials.readAll()).thenReturn(users);
+        when(credentials.hasCredentials(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1) != null);
+        when(credentials.credentialsMatch(any(), anyString())).thenAnswer(invocation -> {
+            byte[] data = invocation.getArgument(0);
+            return data != null && Arrays.equals(data, password(invocation.getArgument(1)));
+        });
+        when(credentials.multiUpdate(anyMap(), anyMap())).thenAnswer(invocation -> updated(invocation.getArgument(1)));
+        return credentials;
+    }
+
+    private static byte[] password(String password) {
+        return password.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, ScramShaCredentials.UserNode> updated(Map<String, String> passwords) {
+        Map<String, ScramShaCredentials.UserNode> nodes = new HashMap<>();
+        passwords.forEach((username, password) -> nodes.put(username, password != null ? new ScramShaCredentials.UserNode(password(password), 1) : null));
+        return nodes;
+    }
+
+    @Test
+    public void testUnchangedCredentialsAreNotWritten(VertxTestContext context) {
+        ScramShaCredentials credentials = mockCredentials(Map.of("my-user", new ScramShaCredentials.UserNode(password("my-password"), 0)));
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, credentials);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("my-user", "my-password")
+            .compose(ignored -> operator.reconcile("my-user", "my-password"))
+            .compose(ignored -> operator.reconcile("other-user", null))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                // The cache is loaded only once
+                verify(credentials, times(1)).readAll();
+                verify(credentials, never()).multiUpdate(anyMap(), anyMap());
+                verify(credentials, never()).createOrUpdate(anyString(), anyString());
+                verify(credentials, never()).delete(anyString());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testChangesUpdateTheCache(VertxTestContext context) {
+        ScramShaCredentials credentials = mockCredentials(Map.of("my-user", new ScramShaCredentials.UserNode(password("my-password"), 0)));
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, credentials);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("my-user", "new-password")
+            .compose(ignored -> operator.reconcile("my-user", "new-password"))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                // The second reconciliation uses the changed credentials from the cache
+                verify(credentials, times(1)).multiUpdate(anyMap(), anyMap());
+                verify(credentials, times(1)).readAll();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testChangesAreBatched(VertxTestContext context) throws InterruptedException {
+        ScramShaCredentials credentials = mockCredentials(Map.of());
+        List<Map<String, String>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        when(credentials.multiUpdate(anyMap(), anyMap())).thenAnswer(invocation -> {
+            Map<String, String> passwords = invocation.getArgument(1);
+            batches.add(new HashMap<>(passwords));
+
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(10, TimeUnit.SECONDS);
+            }
+
+            return updated(passwords);
+        });
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, credentials);
+
+        Future<Void> first = operator.reconcile("user-1", "password-1");
+        assertThat(firstBatchStarted.await(10, TimeUnit.SECONDS), is(true));
+
+        // The changes submitted while the first batch is being sent are sent together in the next batch
+        Future<Void> second = operator.reconcile("user-2", "password-2");
+        Future<Void> third = operator.reconcile("user-3", "password-3");
+        vertx.setTimer(200, ignored -> releaseFirstBatch.countDown());
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(first, second, third)
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                assertThat(batches.size(), is(2));
+                assertThat(batches.get(0), is(Map.of("user-1", "password-1")));
+                assertThat(batches.get(1), is(Map.of("user-2", "password-2", "user-3", "password-3")));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testUsersAreUpdatedOneByOneWhenMultiUpdateFails(VertxTestContext context) {
+        ScramShaCredentials credentials = mockCredentials(Map.of("my-user", new ScramShaCredentials.UserNode(password("my-password"), 0)));
+        when(credentials.multiUpdate(anyMap(), anyMap())).thenThrow(new RuntimeException("Node version changed"));
+        when(credentials.read("my-user")).thenReturn(new ScramShaCredentials.UserNode(password("new-password"), 1));
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, credentials);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("my-user", "new-password")
+            .compose(ignored -> operator.reconcile("my-user", "new-password"))
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                verify(credentials, times(1)).createOrUpdate("my-user", "new-password");
+                // The cache was updated with the configuration read after the change
+                verify(credentials, times(1)).read("my-user");
+                verify(credentials, times(1)).readAll();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCacheIsReloadedWhenUpdateFails(VertxTestContext context) {
+        ScramShaCredentials credentials = mockCredentials(Map.of("my-user", new ScramShaCredentials.UserNode(password("my-password"), 0)));
+        when(credentials.multiUpdate(anyMap(), anyMap())).thenThrow(new RuntimeException("Node version changed"));
+        doThrow(new RuntimeException("ZooKeeper failure")).when(credentials).delete("my-user");
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, credentials);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("my-user", null)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e.getMessage(), is("ZooKeeper failure"));
+
+                // The result of the failed change is not known, so the cache is loaded again
+                operator.reconcile("my-user", "my-password")
+                    .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                        verify(credentials, times(2)).readAll();
+                        assertThat(operator.list(), is(singletonList("my-user")));
+                        async.flag();
+                    })));
+            })));
+    }
+}
@@ -10,6 +10,7 @@ import io.strimzi.api.kafka.model.AclRuleType;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -37,8 +38,11 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -53,6 +57,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -228,6 +235,47 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileReadsAclsFromIndexAndBatchesChanges(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.WRITE);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, Collections.singleton(fooReadAclBinding));
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+        });
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(
+                aclOp.reconcile("CN=foo", Collections.singleton(readRule)),
+                aclOp.reconcile("CN=bar", Collections.singleton(writeRule)),
+                aclOp.reconcile("CN=baz", Collections.singleton(writeRule)))
+                .compose(ignored -> aclOp.reconcile("CN=bar", Collections.singleton(writeRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // All ACLs were loaded in a single request
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    // Only the new ACLs were created and the unchanged ACLs were not touched
+                    List<AclBinding> created = aclBindingsCaptor.getAllValues().stream().flatMap(Collection::stream).collect(Collectors.toList());
+                    assertThat(created, hasSize(2));
+                    assertThat(aclOp.getAcls("CN=foo"), is(Collections.singleton(readRule)));
+                    assertThat(aclOp.getAcls("CN=bar"), is(Collections.singleton(writeRule)));
+                    verify(mockAdminClient, never()).deleteAcls(any());
+
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
@@ -239,19 +287,27 @@ public class SimpleAclOperatorTest {
 
     private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor)
             throws InterruptedException, ExecutionException {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(null);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+            aclBindings.forEach(aclBinding -> values.put(aclBinding, KafkaFuture.completedFuture(null)));
+
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 
     private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor)
             throws InterruptedException, ExecutionException {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(aclBindings);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> aclBindingFilters = invocation.getArgument(0);
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = new HashMap<>();
+            aclBindingFilters.forEach(aclBindingFilter -> values.put(aclBindingFilter, KafkaFuture.completedFuture(null)));
+
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 }